@@ -0,0 +1,63 @@
+package edu.neu.curriculumRecommendation.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Prerequisite Constraint Migration
+ * Adds the unique (course_id, prerequisite_course_id) constraint to a prerequisites table created before it
+ * existed. ddl-auto update cannot add it while duplicate edges are stored, so the duplicates are removed first,
+ * keeping the oldest row of each edge, in the same transaction as the constraint. Runs once the schema is updated
+ * and does nothing when the constraint is already there.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class PrerequisiteConstraintMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(PrerequisiteConstraintMigration.class);
+
+    static final String CONSTRAINT_NAME = "uk_prerequisites_course_prerequisite";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public PrerequisiteConstraintMigration(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        if (hasConstraint()) {
+            return;
+        }
+        try {
+            Integer removed = transactionTemplate.execute(status -> {
+                int deleted = jdbcTemplate.update("DELETE FROM prerequisites WHERE id NOT IN ("
+                        + "SELECT MIN(id) FROM prerequisites GROUP BY course_id, prerequisite_course_id)");
+                jdbcTemplate.execute("ALTER TABLE prerequisites ADD CONSTRAINT " + CONSTRAINT_NAME
+                        + " UNIQUE (course_id, prerequisite_course_id)");
+                return deleted;
+            });
+            log.info("Added {} after removing {} duplicate prerequisite rows", CONSTRAINT_NAME, removed);
+        } catch (DataAccessException ex) {
+            // Added by another instance starting at the same time, or a duplicate was inserted meanwhile
+            if (!hasConstraint()) {
+                log.warn("Could not add {}; retried on next start", CONSTRAINT_NAME, ex);
+            }
+        }
+    }
+
+    private boolean hasConstraint() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.table_constraints"
+                        + " WHERE LOWER(table_name) = 'prerequisites' AND LOWER(constraint_name) = ?",
+                Integer.class, CONSTRAINT_NAME);
+        return count != null && count > 0;
+    }
+}
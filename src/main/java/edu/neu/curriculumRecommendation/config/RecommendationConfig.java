@@ -0,0 +1,59 @@
+package edu.neu.curriculumRecommendation.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Clock;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Recommendation Configuration
+ * Infrastructure beans used by the recommendation engine
+ */
+@Configuration
+@EnableScheduling
+public class RecommendationConfig {
+
+    /**
+     * Current date for term planning; tests substitute a fixed clock
+     */
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+
+    /**
+     * Dedicated pool for parallel candidate scoring, kept apart from the common pool and Tomcat threads
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool recommendationScoringPool(
+            @Value("${recommendation.scoring.parallelism:0}") int parallelism) {
+        int size = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(size, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("recommendation-scoring-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Background executor for cohort batch jobs; scoring itself still runs on the scoring pool
+     */
+    @Bean
+    public ThreadPoolTaskExecutor recommendationBatchExecutor(
+            @Value("${recommendation.batch.concurrent-jobs:2}") int concurrentJobs,
+            @Value("${recommendation.batch.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, concurrentJobs));
+        executor.setMaxPoolSize(Math.max(1, concurrentJobs));
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("recommendation-batch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+}
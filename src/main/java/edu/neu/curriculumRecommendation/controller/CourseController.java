@@ -1,16 +1,23 @@
 package edu.neu.curriculumRecommendation.controller;
 
+import edu.neu.curriculumRecommendation.exception.ResourceNotFoundException;
 import edu.neu.curriculumRecommendation.mapper.converter.CourseVOConverter;
 import edu.neu.curriculumRecommendation.service.CourseService;
+import edu.neu.curriculumRecommendation.service.PrerequisiteService;
 import edu.neu.curriculumRecommendation.vo.request.CourseCreateRequestVO;
 import edu.neu.curriculumRecommendation.vo.request.CourseUpdateRequestVO;
+import edu.neu.curriculumRecommendation.vo.request.PrerequisiteRequestVO;
 import edu.neu.curriculumRecommendation.vo.response.CourseResponseVO;
+import edu.neu.curriculumRecommendation.vo.response.PrerequisiteCourseVO;
+import edu.neu.curriculumRecommendation.vo.response.UnlocksResponseVO;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Course Controller
@@ -23,10 +30,13 @@ public class CourseController {
 
     private final CourseService courseService;
     private final CourseVOConverter voConverter;
+    private final PrerequisiteService prerequisiteService;
 
-    public CourseController(CourseService courseService, CourseVOConverter voConverter) {
+    public CourseController(CourseService courseService, CourseVOConverter voConverter,
+                            PrerequisiteService prerequisiteService) {
         this.courseService = courseService;
         this.voConverter = voConverter;
+        this.prerequisiteService = prerequisiteService;
     }
 
     /**
@@ -90,6 +100,88 @@ public class CourseController {
         }
     }
 
+    /**
+     * Get the full prerequisite chains of many courses
+     */
+    @GetMapping("/prerequisites")
+    public ResponseEntity<Map<Long, List<PrerequisiteCourseVO>>> getPrerequisiteChains(
+            @RequestParam List<Long> courseIds,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = catalogETag();
+        if (eTag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(prerequisiteService.getPrerequisites(courseIds));
+    }
+
+    /**
+     * Get the full prerequisite chain of a course
+     */
+    @GetMapping("/{id}/prerequisites")
+    public ResponseEntity<List<PrerequisiteCourseVO>> getPrerequisites(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = catalogETag();
+        if (eTag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        try {
+            return ResponseEntity.ok().eTag(eTag).body(prerequisiteService.getPrerequisites(id));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Courses that completing this course opens up; with a student, completed courses are taken into account
+     */
+    @GetMapping("/{id}/unlocks")
+    public ResponseEntity<UnlocksResponseVO> getUnlocks(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long studentId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        try {
+            if (studentId != null) {
+                return ResponseEntity.ok(prerequisiteService.getUnlocks(id, studentId));
+            }
+            // Without a student the answer depends on the catalog only
+            String eTag = catalogETag();
+            if (eTag.equals(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+            return ResponseEntity.ok().eTag(eTag).body(prerequisiteService.getUnlocks(id, null));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Add a direct prerequisite; rejected with 400 when it would create a cycle
+     */
+    @PostMapping("/{id}/prerequisites")
+    public ResponseEntity<PrerequisiteCourseVO> addPrerequisite(@PathVariable Long id,
+                                                                @Valid @RequestBody PrerequisiteRequestVO requestVO) {
+        try {
+            PrerequisiteCourseVO added = prerequisiteService.addPrerequisite(id, requestVO.getPrerequisiteCourseId());
+            return ResponseEntity.status(HttpStatus.CREATED).body(added);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Remove a direct prerequisite
+     */
+    @DeleteMapping("/{id}/prerequisites/{prerequisiteCourseId}")
+    public ResponseEntity<Void> removePrerequisite(@PathVariable Long id, @PathVariable Long prerequisiteCourseId) {
+        try {
+            prerequisiteService.removePrerequisite(id, prerequisiteCourseId);
+            return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     /**
      * Get course by course code
      */
@@ -151,4 +243,11 @@ public class CourseController {
             return ResponseEntity.badRequest().build();
         }
     }
+
+    /**
+     * ETag of responses that depend on the catalog only; read before the data so it is never newer than the body
+     */
+    private String catalogETag() {
+        return "\"catalog-" + prerequisiteService.getCatalogVersion() + "\"";
+    }
 }
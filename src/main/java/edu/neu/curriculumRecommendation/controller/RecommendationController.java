@@ -3,7 +3,18 @@ package edu.neu.curriculumRecommendation.controller;
 import edu.neu.curriculumRecommendation.dto.RecommendationDTO;
 import edu.neu.curriculumRecommendation.exception.ResourceNotFoundException;
 import edu.neu.curriculumRecommendation.exception.ValidationException;
+import edu.neu.curriculumRecommendation.service.GraduationPlanService;
+import edu.neu.curriculumRecommendation.service.RecommendationBatchService;
+import edu.neu.curriculumRecommendation.service.RecommendationPrecomputeService;
 import edu.neu.curriculumRecommendation.service.RecommendationService;
+import edu.neu.curriculumRecommendation.vo.request.BatchRecommendationRequestVO;
+import edu.neu.curriculumRecommendation.vo.response.BatchJobResponseVO;
+import edu.neu.curriculumRecommendation.vo.response.CacheStatsVO;
+import edu.neu.curriculumRecommendation.vo.response.CriticalPathResponseVO;
+import edu.neu.curriculumRecommendation.vo.response.DegreeAuditResponseVO;
+import edu.neu.curriculumRecommendation.vo.response.GraduationPlanResponseVO;
+import edu.neu.curriculumRecommendation.vo.response.PipelineStageStatsVO;
+import edu.neu.curriculumRecommendation.vo.response.PrecomputeStatusVO;
 import edu.neu.curriculumRecommendation.vo.response.RecommendationResponseVO;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -22,9 +33,18 @@ import java.util.stream.Collectors;
 public class RecommendationController {
 
     private final RecommendationService recommendationService;
+    private final RecommendationBatchService recommendationBatchService;
+    private final RecommendationPrecomputeService recommendationPrecomputeService;
+    private final GraduationPlanService graduationPlanService;
 
-    public RecommendationController(RecommendationService recommendationService) {
+    public RecommendationController(RecommendationService recommendationService,
+                                    RecommendationBatchService recommendationBatchService,
+                                    RecommendationPrecomputeService recommendationPrecomputeService,
+                                    GraduationPlanService graduationPlanService) {
         this.recommendationService = recommendationService;
+        this.recommendationBatchService = recommendationBatchService;
+        this.recommendationPrecomputeService = recommendationPrecomputeService;
+        this.graduationPlanService = graduationPlanService;
     }
 
     /**
@@ -32,9 +52,10 @@ public class RecommendationController {
      */
     @GetMapping("/{studentId}")
     public ResponseEntity<List<RecommendationResponseVO>> getRecommendations(@PathVariable Long studentId,
-                                                                             @RequestParam(defaultValue = "10") Integer limit) {
+                                                                             @RequestParam(defaultValue = "10") Integer limit,
+                                                                             @RequestParam(defaultValue = "true") boolean explain) {
         try {
-            List<RecommendationDTO> dtos = recommendationService.generateRecommendations(studentId, limit);
+            List<RecommendationDTO> dtos = recommendationService.generateRecommendations(studentId, limit, explain);
             List<RecommendationResponseVO> responses = dtos.stream()
                     .map(this::toResponse)
                     .collect(Collectors.toList());
@@ -51,8 +72,7 @@ public class RecommendationController {
     public ResponseEntity<List<RecommendationResponseVO>> generateAndSaveRecommendations(@PathVariable Long studentId) {
         try {
             List<RecommendationDTO> generated = recommendationService.generateRecommendations(studentId);
-            List<RecommendationResponseVO> saved = generated.stream()
-                    .map(recommendationService::saveRecommendation)
+            List<RecommendationResponseVO> saved = recommendationService.saveRecommendations(generated).stream()
                     .map(this::toResponse)
                     .collect(Collectors.toList());
             return ResponseEntity.status(HttpStatus.CREATED).body(saved);
@@ -66,10 +86,11 @@ public class RecommendationController {
      */
     @GetMapping("/{studentId}/degree-requirements")
     public ResponseEntity<List<RecommendationResponseVO>> getRecommendationsByDegreeRequirements(@PathVariable Long studentId,
-                                                                                                 @RequestParam(defaultValue = "10") Integer limit) {
+                                                                                                 @RequestParam(defaultValue = "10") Integer limit,
+                                                                                                 @RequestParam(defaultValue = "true") boolean explain) {
         try {
             List<RecommendationResponseVO> recommendations =
-                    recommendationService.generateByDegreeRequirements(studentId, limit);
+                    recommendationService.generateByDegreeRequirements(studentId, limit, explain);
             return ResponseEntity.ok(recommendations);
         } catch (ResourceNotFoundException | ValidationException e) {
             return ResponseEntity.notFound().build();
@@ -81,10 +102,99 @@ public class RecommendationController {
      */
     @GetMapping("/{studentId}/popular")
     public ResponseEntity<List<RecommendationResponseVO>> getRecommendationsByPopular(@PathVariable Long studentId,
-                                                                                      @RequestParam(defaultValue = "10") Integer limit) {
+                                                                                      @RequestParam(defaultValue = "10") Integer limit,
+                                                                                      @RequestParam(defaultValue = "true") boolean explain) {
         try {
             List<RecommendationResponseVO> recommendations =
-                    recommendationService.generateByPopular(studentId, limit);
+                    recommendationService.generateByPopular(studentId, limit, explain);
+            return ResponseEntity.ok(recommendations);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Personalized, degree requirement and popularity scores blended into one ranked list
+     */
+    @GetMapping("/{studentId}/blended")
+    public ResponseEntity<List<RecommendationResponseVO>> getBlendedRecommendations(@PathVariable Long studentId,
+                                                                                    @RequestParam(defaultValue = "10") Integer limit,
+                                                                                    @RequestParam(defaultValue = "true") boolean explain) {
+        try {
+            List<RecommendationResponseVO> recommendations =
+                    recommendationService.generateBlended(studentId, limit, explain);
+            return ResponseEntity.ok(recommendations);
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Degree audit: remaining credits per requirement type and the ranked next requirement courses
+     */
+    @GetMapping("/{studentId}/degree-audit")
+    public ResponseEntity<DegreeAuditResponseVO> getDegreeAudit(@PathVariable Long studentId,
+                                                                @RequestParam(defaultValue = "10") Integer limit,
+                                                                @RequestParam(defaultValue = "true") boolean explain) {
+        try {
+            return ResponseEntity.ok(recommendationService.getDegreeAudit(studentId, limit, explain));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Preview a graduation plan: remaining requirements laid out over future terms
+     */
+    @GetMapping("/{studentId}/graduation-plan")
+    public ResponseEntity<GraduationPlanResponseVO> getGraduationPlan(@PathVariable Long studentId,
+                                                                      @RequestParam(required = false) Integer maxCreditsPerTerm,
+                                                                      @RequestParam(defaultValue = "false") boolean includeSummer) {
+        try {
+            return ResponseEntity.ok(graduationPlanService.generatePlan(studentId, maxCreditsPerTerm, includeSummer));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Generate a graduation plan and save it as the student's PLANNED enrollments
+     */
+    @PostMapping("/{studentId}/graduation-plan")
+    public ResponseEntity<GraduationPlanResponseVO> saveGraduationPlan(@PathVariable Long studentId,
+                                                                       @RequestParam(required = false) Integer maxCreditsPerTerm,
+                                                                       @RequestParam(defaultValue = "false") boolean includeSummer) {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(graduationPlanService.savePlan(studentId, maxCreditsPerTerm, includeSummer));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Get the critical path of the student's program and the fewest terms needed to graduate
+     */
+    @GetMapping("/{studentId}/critical-path")
+    public ResponseEntity<CriticalPathResponseVO> getCriticalPath(@PathVariable Long studentId,
+                                                                  @RequestParam(required = false) Integer maxCreditsPerTerm) {
+        try {
+            return ResponseEntity.ok(graduationPlanService.getCriticalPath(studentId, maxCreditsPerTerm));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Courses often completed by students who completed the same courses
+     */
+    @GetMapping("/{studentId}/also-took")
+    public ResponseEntity<List<RecommendationResponseVO>> getAlsoTookRecommendations(@PathVariable Long studentId,
+                                                                                     @RequestParam(defaultValue = "10") Integer limit,
+                                                                                     @RequestParam(defaultValue = "true") boolean explain) {
+        try {
+            List<RecommendationResponseVO> recommendations =
+                    recommendationService.generateByCoEnrollment(studentId, limit, explain);
             return ResponseEntity.ok(recommendations);
         } catch (ResourceNotFoundException e) {
             return ResponseEntity.notFound().build();
@@ -96,9 +206,10 @@ public class RecommendationController {
      */
     @GetMapping("/next-semester")
     public ResponseEntity<List<RecommendationResponseVO>> getNextSemesterRecommendations(@RequestParam Long studentId,
-                                                                                         @RequestParam(defaultValue = "10") Integer limit) {
+                                                                                         @RequestParam(defaultValue = "10") Integer limit,
+                                                                                         @RequestParam(defaultValue = "true") boolean explain) {
         try {
-            List<RecommendationResponseVO> responses = recommendationService.generateRecommendations(studentId, limit)
+            List<RecommendationResponseVO> responses = recommendationService.generateRecommendations(studentId, limit, explain)
                     .stream()
                     .map(this::toResponse)
                     .collect(Collectors.toList());
@@ -113,10 +224,11 @@ public class RecommendationController {
      */
     @GetMapping("/requirements")
     public ResponseEntity<List<RecommendationResponseVO>> getDegreeRequirementsWithQuery(@RequestParam Long studentId,
-                                                                                          @RequestParam(defaultValue = "10") Integer limit) {
+                                                                                          @RequestParam(defaultValue = "10") Integer limit,
+                                                                                          @RequestParam(defaultValue = "true") boolean explain) {
         try {
             List<RecommendationResponseVO> recommendations =
-                    recommendationService.generateByDegreeRequirements(studentId, limit);
+                    recommendationService.generateByDegreeRequirements(studentId, limit, explain);
             return ResponseEntity.ok(recommendations);
         } catch (ResourceNotFoundException | ValidationException e) {
             return ResponseEntity.notFound().build();
@@ -128,10 +240,11 @@ public class RecommendationController {
      */
     @GetMapping("/popular")
     public ResponseEntity<List<RecommendationResponseVO>> getPopularWithQuery(@RequestParam Long studentId,
-                                                                              @RequestParam(defaultValue = "10") Integer limit) {
+                                                                              @RequestParam(defaultValue = "10") Integer limit,
+                                                                              @RequestParam(defaultValue = "true") boolean explain) {
         try {
             List<RecommendationResponseVO> recommendations =
-                    recommendationService.generateByPopular(studentId, limit);
+                    recommendationService.generateByPopular(studentId, limit, explain);
             return ResponseEntity.ok(recommendations);
         } catch (ResourceNotFoundException e) {
             return ResponseEntity.notFound().build();
@@ -153,6 +266,54 @@ public class RecommendationController {
         }
     }
 
+    /**
+     * Recommendation result cache statistics
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsVO> getCacheStats() {
+        return ResponseEntity.ok(recommendationService.getCacheStats());
+    }
+
+    /**
+     * Cumulative per-stage timings of the recommendation pipeline
+     */
+    @GetMapping("/pipeline/stats")
+    public ResponseEntity<List<PipelineStageStatsVO>> getPipelineStats() {
+        return ResponseEntity.ok(recommendationService.getPipelineStats());
+    }
+
+    /**
+     * Start a cohort batch job (by major or student ids); returns immediately with the job id
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchJobResponseVO> startBatch(@RequestBody BatchRecommendationRequestVO request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(recommendationBatchService.submit(request));
+    }
+
+    /**
+     * Batch job progress and throughput
+     */
+    @GetMapping("/batch/{jobId}")
+    public ResponseEntity<BatchJobResponseVO> getBatchJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(recommendationBatchService.getJob(jobId));
+    }
+
+    /**
+     * Start a precompute run for all active students unless one is running
+     */
+    @PostMapping("/precompute")
+    public ResponseEntity<PrecomputeStatusVO> startPrecompute() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(recommendationPrecomputeService.trigger());
+    }
+
+    /**
+     * Precompute progress, throughput and lag of the precomputed rows
+     */
+    @GetMapping("/precompute/status")
+    public ResponseEntity<PrecomputeStatusVO> getPrecomputeStatus() {
+        return ResponseEntity.ok(recommendationPrecomputeService.getStatus());
+    }
+
     /**
      * Update recommendation status
      */
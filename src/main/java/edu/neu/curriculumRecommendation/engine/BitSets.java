@@ -0,0 +1,83 @@
+package edu.neu.curriculumRecommendation.engine;
+
+/**
+ * Bitset helpers over raw long[] words indexed by dense course index
+ */
+public final class BitSets {
+
+    private BitSets() {
+    }
+
+    /**
+     * Allocate a bitset able to hold the given number of bits
+     */
+    public static long[] create(int size) {
+        return new long[(size + 63) >>> 6];
+    }
+
+    public static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    public static void clear(long[] bits, int index) {
+        bits[index >>> 6] &= ~(1L << index);
+    }
+
+    public static boolean get(long[] bits, int index) {
+        int word = index >>> 6;
+        return index >= 0 && word < bits.length && (bits[word] & (1L << index)) != 0;
+    }
+
+    /**
+     * Whether every bit of required is also set in available (required AND NOT available == 0)
+     */
+    public static boolean containsAll(long[] required, long[] available) {
+        for (int i = 0; i < required.length; i++) {
+            long have = i < available.length ? available[i] : 0L;
+            if ((required[i] & ~have) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Clear in bits every bit set in mask (bits AND NOT mask)
+     */
+    public static void andNot(long[] bits, long[] mask) {
+        for (int i = 0; i < Math.min(bits.length, mask.length); i++) {
+            bits[i] &= ~mask[i];
+        }
+    }
+
+    public static int cardinality(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Index of the first set bit at or after from, or -1 when there is none
+     */
+    public static int nextSetBit(long[] bits, int from) {
+        if (from < 0) {
+            from = 0;
+        }
+        int word = from >>> 6;
+        if (word >= bits.length) {
+            return -1;
+        }
+        long current = bits[word] & (-1L << from);
+        while (true) {
+            if (current != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(current);
+            }
+            if (++word == bits.length) {
+                return -1;
+            }
+            current = bits[word];
+        }
+    }
+}
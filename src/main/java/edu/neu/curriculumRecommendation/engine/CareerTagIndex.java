@@ -0,0 +1,255 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.event.CatalogChangedEvent;
+import edu.neu.curriculumRecommendation.mapper.repository.CourseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Career Tag Index
+ * Catalog-level inverted index from normalized career tag / description keywords to course posting lists.
+ * Courses are indexed by their career tags, or by their description when no tags are set, using the
+ * same tokenizer as student interests so matching never scans text at request time.
+ */
+@Component
+public class CareerTagIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(CareerTagIndex.class);
+
+    // Longest keyword phrase (in words) that can match inside a tag or description
+    private static final int MAX_PHRASE_WORDS = 3;
+
+    private final CourseRepository courseRepository;
+
+    private volatile Snapshot snapshot;
+
+    // Bumped on invalidation so an index built concurrently is not published
+    private final AtomicLong generation = new AtomicLong();
+
+    public CareerTagIndex(CourseRepository courseRepository) {
+        this.courseRepository = courseRepository;
+    }
+
+    /**
+     * Get the current index, building it if needed
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    long buildGeneration = generation.get();
+                    current = build();
+                    if (generation.get() == buildGeneration) {
+                        snapshot = current;
+                    }
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Drop the built index so the next read rebuilds it
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.getScope() == CatalogChangedEvent.Scope.COURSES) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Split comma separated keywords into normalized phrases ("Machine  Learning" -> "machine learning")
+     */
+    public static List<String> normalizeKeywords(String text) {
+        List<String> keywords = new ArrayList<>();
+        if (text == null) {
+            return keywords;
+        }
+        for (String part : text.split(",")) {
+            String phrase = String.join(" ", words(part));
+            if (!phrase.isEmpty()) {
+                keywords.add(phrase);
+            }
+        }
+        return keywords;
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^a-z0-9+#]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Every contiguous phrase of up to MAX_PHRASE_WORDS words, plus each full comma separated part
+     */
+    private static Set<String> indexTerms(String text, boolean splitOnCommas) {
+        Set<String> terms = new LinkedHashSet<>();
+        String[] parts = splitOnCommas ? text.split(",") : new String[]{text};
+        for (String part : parts) {
+            List<String> words = words(part);
+            if (words.isEmpty()) {
+                continue;
+            }
+            if (splitOnCommas) {
+                terms.add(String.join(" ", words));
+            }
+            for (int i = 0; i < words.size(); i++) {
+                StringBuilder phrase = new StringBuilder();
+                for (int j = i; j < Math.min(words.size(), i + MAX_PHRASE_WORDS); j++) {
+                    if (j > i) {
+                        phrase.append(' ');
+                    }
+                    phrase.append(words.get(j));
+                    terms.add(phrase.toString());
+                }
+            }
+        }
+        return terms;
+    }
+
+    private Snapshot build() {
+        long start = System.nanoTime();
+        List<Object[]> rows = courseRepository.findCareerTagSources();
+
+        long[] ids = new long[rows.size()];
+        int n = 0;
+        for (Object[] row : rows) {
+            if (row[0] != null) {
+                ids[n++] = (Long) row[0];
+            }
+        }
+        ids = Arrays.copyOf(ids, n);
+        Arrays.sort(ids);
+
+        Map<String, Integer> termIds = new HashMap<>();
+        List<int[]> postings = new ArrayList<>();
+        List<Integer> postingSizes = new ArrayList<>();
+        for (Object[] row : rows) {
+            if (row[0] == null) {
+                continue;
+            }
+            int courseIndex = Arrays.binarySearch(ids, (Long) row[0]);
+            String tags = (String) row[1];
+            String description = (String) row[2];
+            Set<String> terms;
+            if (tags != null && !tags.isEmpty()) {
+                terms = indexTerms(tags, true);
+            } else if (description != null) {
+                terms = indexTerms(description, false);
+            } else {
+                continue;
+            }
+            for (String term : terms) {
+                Integer termId = termIds.get(term);
+                if (termId == null) {
+                    termId = termIds.size();
+                    termIds.put(term, termId);
+                    postings.add(new int[4]);
+                    postingSizes.add(0);
+                }
+                int[] list = postings.get(termId);
+                int size = postingSizes.get(termId);
+                if (size == list.length) {
+                    list = Arrays.copyOf(list, size * 2);
+                    postings.set(termId, list);
+                }
+                list[size] = courseIndex;
+                postingSizes.set(termId, size + 1);
+            }
+        }
+
+        int[][] compact = new int[postings.size()][];
+        for (int t = 0; t < compact.length; t++) {
+            compact[t] = Arrays.copyOf(postings.get(t), postingSizes.get(t));
+        }
+
+        log.debug("Built career tag index: {} courses, {} terms in {} ms",
+                n, compact.length, (System.nanoTime() - start) / 1_000_000);
+        return new Snapshot(ids, termIds, compact);
+    }
+
+    /**
+     * Immutable index state, swapped as a whole on rebuild
+     */
+    public static final class Snapshot {
+
+        private final long[] ids;
+        private final Map<String, Integer> termIds;
+        private final int[][] postings;
+
+        private Snapshot(long[] ids, Map<String, Integer> termIds, int[][] postings) {
+            this.ids = ids;
+            this.termIds = termIds;
+            this.postings = postings;
+        }
+
+        /**
+         * Dense index of a course in this snapshot, or -1 when the course is unknown
+         */
+        public int indexOf(Long courseId) {
+            if (courseId == null) {
+                return -1;
+            }
+            int index = Arrays.binarySearch(ids, courseId);
+            return index < 0 ? -1 : index;
+        }
+
+        public long courseIdAt(int index) {
+            return ids[index];
+        }
+
+        /**
+         * Resolve comma separated interests to term ids; keywords no course mentions are dropped
+         */
+        public int[] tokenize(String interests) {
+            List<String> keywords = normalizeKeywords(interests);
+            int[] tokens = new int[keywords.size()];
+            int count = 0;
+            for (String keyword : new LinkedHashSet<>(keywords)) {
+                Integer termId = termIds.get(keyword);
+                if (termId != null) {
+                    tokens[count++] = termId;
+                }
+            }
+            return Arrays.copyOf(tokens, count);
+        }
+
+        /**
+         * Number of matching interest keywords per course, indexed by indexOf(courseId)
+         */
+        public int[] countMatches(int[] tokens) {
+            int[] counts = new int[ids.length];
+            for (int token : tokens) {
+                for (int courseIndex : postings[token]) {
+                    counts[courseIndex]++;
+                }
+            }
+            return counts;
+        }
+    }
+}
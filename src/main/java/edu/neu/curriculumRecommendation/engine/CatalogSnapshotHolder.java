@@ -0,0 +1,235 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.event.CatalogChangedEvent;
+import edu.neu.curriculumRecommendation.mapper.repository.ProgramRequirementRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Catalog Snapshot Holder
+ * Publishes one immutable, versioned view of the catalog: courses, the prerequisite graph (direct
+ * adjacency and transitive closure) and the compiled program of every major. The recommendation pipeline
+ * and the prerequisite and planning services read courses, graph and program from one current() snapshot,
+ * so a request never mixes a new graph with an old catalog or program; readers take it from a volatile
+ * reference without locking. Catalog writes schedule a rebuild on a background thread, debounced so a
+ * burst of writes costs one rebuild. A build of a new version reloads courses, graph and programs itself
+ * instead of relying on their change listeners having run first, so a snapshot never holds data older
+ * than its version.
+ * current() may trail the latest write by the debounce delay; latest() is for background jobs that must
+ * match version(), which is always current.
+ */
+@Component
+public class CatalogSnapshotHolder {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshotHolder.class);
+
+    private final CourseCatalog courseCatalog;
+    private final PrerequisiteGraph prerequisiteGraph;
+    private final DegreeAuditEngine degreeAuditEngine;
+    private final ProgramRequirementRepository programRequirementRepository;
+    private final CatalogVersion catalogVersion;
+    private final long rebuildDelayMs;
+
+    private final ScheduledExecutorService rebuildExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-snapshot-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Snapshot snapshot;
+
+    // Serializes builds; version the components were last reloaded for, guarded by buildLock
+    private final Object buildLock = new Object();
+    private long builtVersion = Long.MIN_VALUE;
+
+    // Pending debounced rebuild, guarded by this
+    private ScheduledFuture<?> pendingRebuild;
+
+    public CatalogSnapshotHolder(CourseCatalog courseCatalog,
+                                 PrerequisiteGraph prerequisiteGraph,
+                                 DegreeAuditEngine degreeAuditEngine,
+                                 ProgramRequirementRepository programRequirementRepository,
+                                 CatalogVersion catalogVersion,
+                                 @Value("${recommendation.catalog.rebuild-delay-ms:200}") long rebuildDelayMs) {
+        this.courseCatalog = courseCatalog;
+        this.prerequisiteGraph = prerequisiteGraph;
+        this.degreeAuditEngine = degreeAuditEngine;
+        this.programRequirementRepository = programRequirementRepository;
+        this.catalogVersion = catalogVersion;
+        this.rebuildDelayMs = Math.max(0, rebuildDelayMs);
+    }
+
+    /**
+     * Get the published snapshot, building it on first use only
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = build();
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Get a snapshot of the latest catalog version, building it now when the published one is behind
+     */
+    public Snapshot latest() {
+        Snapshot current = current();
+        if (current.version == catalogVersion.current()) {
+            return current;
+        }
+        Snapshot built = build();
+        publish(built);
+        return built;
+    }
+
+    /**
+     * Whether a snapshot is published; before that a single lookup is cheaper in the database
+     */
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    /**
+     * Latest catalog version, bumped on every committed catalog write; use it for cache keys and ETags
+     */
+    public long version() {
+        return catalogVersion.current();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduleRebuild(0);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        scheduleRebuild(rebuildDelayMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private synchronized void scheduleRebuild(long delayMs) {
+        if (pendingRebuild != null) {
+            // Not yet started: push it back. Already running: let it finish; this one publishes the newer version
+            pendingRebuild.cancel(false);
+        }
+        pendingRebuild = rebuildExecutor.schedule(this::rebuild, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void rebuild() {
+        try {
+            long start = System.nanoTime();
+            Snapshot built = build();
+            publish(built);
+            log.debug("Rebuilt catalog snapshot version {}: {} courses, {} programs in {} ms", built.version,
+                    built.courses.size(), built.programs.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            // Readers keep the previous snapshot; the next catalog write schedules another attempt
+            log.warn("Catalog snapshot rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private synchronized void publish(Snapshot built) {
+        Snapshot current = snapshot;
+        if (current == null || built.version >= current.version) {
+            snapshot = built;
+        }
+    }
+
+    private Snapshot build() {
+        synchronized (buildLock) {
+            // Read the version first, then drop whatever the components cached before it: the listeners that
+            // invalidate them may not have run yet, and the snapshot must never be labelled newer than its contents
+            long version = catalogVersion.current();
+            if (version != builtVersion) {
+                courseCatalog.invalidate();
+                prerequisiteGraph.invalidate();
+                degreeAuditEngine.invalidate();
+                builtVersion = version;
+            }
+            CourseCatalogSnapshot courses = courseCatalog.snapshot();
+            PrerequisiteGraph.Snapshot graph = prerequisiteGraph.snapshot();
+            Map<String, DegreeAuditEngine.Program> programs = new HashMap<>();
+            for (String major : programRequirementRepository.findDistinctMajors()) {
+                DegreeAuditEngine.Program program = degreeAuditEngine.program(major);
+                if (program.getMajor() != null) {
+                    programs.put(program.getMajor(), program);
+                }
+            }
+            return new Snapshot(version, courses, graph, Collections.unmodifiableMap(programs));
+        }
+    }
+
+    /**
+     * Immutable catalog view of one version
+     */
+    public static final class Snapshot {
+
+        private final long version;
+        private final CourseCatalogSnapshot courses;
+        private final PrerequisiteGraph.Snapshot graph;
+        private final Map<String, DegreeAuditEngine.Program> programs;
+
+        Snapshot(long version, CourseCatalogSnapshot courses, PrerequisiteGraph.Snapshot graph,
+                         Map<String, DegreeAuditEngine.Program> programs) {
+            this.version = version;
+            this.courses = courses;
+            this.graph = graph;
+            this.programs = programs;
+        }
+
+        /**
+         * Catalog version the snapshot was built from
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        public CourseCatalogSnapshot getCourses() {
+            return courses;
+        }
+
+        /**
+         * Prerequisite adjacency and transitive closure
+         */
+        public PrerequisiteGraph.Snapshot getGraph() {
+            return graph;
+        }
+
+        /**
+         * Compiled program of a major; a major without requirements has an empty program
+         */
+        public DegreeAuditEngine.Program program(String major) {
+            DegreeAuditEngine.Program program = major != null ? programs.get(major.trim()) : null;
+            return program != null ? program : DegreeAuditEngine.Program.EMPTY;
+        }
+
+        public Map<String, DegreeAuditEngine.Program> getPrograms() {
+            return programs;
+        }
+    }
+}
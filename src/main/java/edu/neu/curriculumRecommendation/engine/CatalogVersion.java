@@ -0,0 +1,89 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.entity.CatalogRevision;
+import edu.neu.curriculumRecommendation.event.CatalogChangedEvent;
+import edu.neu.curriculumRecommendation.mapper.repository.CatalogRevisionRepository;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Catalog Version
+ * Monotonic version of the course, prerequisite and program requirement data, stored in the catalog_revision
+ * row and incremented in the same transaction as every catalog write, so it survives restarts and all
+ * instances agree on it. The version is read once and then refreshed after each committed catalog write;
+ * the refresh runs before every other catalog change listener.
+ */
+@Component
+public class CatalogVersion {
+
+    private static final Long ROW_ID = 1L;
+    private static final long UNLOADED = -1L;
+
+    private final CatalogRevisionRepository catalogRevisionRepository;
+
+    private final AtomicLong version = new AtomicLong(UNLOADED);
+
+    public CatalogVersion(CatalogRevisionRepository catalogRevisionRepository) {
+        this.catalogRevisionRepository = catalogRevisionRepository;
+    }
+
+    public long current() {
+        long current = version.get();
+        return current != UNLOADED ? current : refresh();
+    }
+
+    /**
+     * Re-read the stored version; the local one never moves backwards
+     */
+    public long refresh() {
+        return version.accumulateAndGet(load(), Math::max);
+    }
+
+    /**
+     * Hold the catalog revision row lock until the caller's transaction ends. Every catalog write increments
+     * the row before it commits, so a writer holding the lock sees all edges committed by any instance, and
+     * writers that validate against committed data run one after another.
+     */
+    public void lockForWrite() {
+        if (catalogRevisionRepository.lockById(ROW_ID).isEmpty()) {
+            load();
+            catalogRevisionRepository.lockById(ROW_ID);
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onCatalogChanging(CatalogChangedEvent event) {
+        if (catalogRevisionRepository.increment(ROW_ID) == 0) {
+            load();
+            catalogRevisionRepository.increment(ROW_ID);
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        refresh();
+    }
+
+    private long load() {
+        Optional<CatalogRevision> revision = catalogRevisionRepository.findById(ROW_ID);
+        if (revision.isEmpty()) {
+            try {
+                revision = Optional.of(catalogRevisionRepository.saveAndFlush(new CatalogRevision(ROW_ID, 1L)));
+            } catch (DataIntegrityViolationException ex) {
+                // Created by another instance meanwhile
+                revision = catalogRevisionRepository.findById(ROW_ID);
+            }
+        }
+        return revision.map(CatalogRevision::getVersion)
+                .orElseThrow(() -> new IllegalStateException("Catalog revision row is missing"));
+    }
+}
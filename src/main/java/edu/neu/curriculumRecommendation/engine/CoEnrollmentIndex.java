@@ -0,0 +1,634 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.event.CatalogChangedEvent;
+import edu.neu.curriculumRecommendation.event.EnrollmentChangedEvent;
+import edu.neu.curriculumRecommendation.mapper.repository.CourseRepository;
+import edu.neu.curriculumRecommendation.mapper.repository.EnrollmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Co-Enrollment Index
+ * Sparse course x course matrix counting the students who completed both courses, plus the number of
+ * students who completed each course. Rows are primitive int -> int hash maps over a dense course index;
+ * a row reaching twice max-neighbors entries is trimmed back to its max-neighbors strongest, so memory is
+ * bounded by courses x max-neighbors whatever the enrollment history. As in Space-Saving, a pair entering
+ * a trimmed row starts from the largest count the row dropped, so a frequent pair cannot be starved out by
+ * newer ones; such counts over-estimate by at most that floor.
+ * Enrollment changes are queued and applied in batches on a background thread after update-delay-ms,
+ * with one completed-courses query per batch, and the immutable compressed read snapshot is rebuilt there;
+ * counts are fully reconciled on a fixed schedule. Only the first read loads on the caller's thread.
+ */
+@Component
+public class CoEnrollmentIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(CoEnrollmentIndex.class);
+
+    private static final int STUDENTS_PER_QUERY = 500;
+
+    private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final int maxNeighbors;
+    private final long updateDelayMs;
+
+    private final ScheduledExecutorService updateExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "co-enrollment-update");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Mutable counts, guarded by this
+    private Counts counts;
+
+    // Immutable read view, republished after every applied batch
+    private volatile Snapshot snapshot;
+
+    // Net completion change per student and course since the last batch, and its scheduled apply; guarded by pending
+    private final Map<Long, Map<Long, Integer>> pending = new HashMap<>();
+    private ScheduledFuture<?> pendingUpdate;
+
+    public CoEnrollmentIndex(CourseRepository courseRepository,
+                             EnrollmentRepository enrollmentRepository,
+                             @Value("${recommendation.co-enrollment.max-neighbors:200}") int maxNeighbors,
+                             @Value("${recommendation.co-enrollment.update-delay-ms:1000}") long updateDelayMs) {
+        this.courseRepository = courseRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.maxNeighbors = Math.max(1, maxNeighbors);
+        this.updateDelayMs = Math.max(0, updateDelayMs);
+    }
+
+    /**
+     * Get the current co-enrollment snapshot
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    if (counts == null) {
+                        counts = loadCounts();
+                    }
+                    current = counts.toSnapshot();
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Reload all counts from the completed enrollments
+     */
+    @Scheduled(fixedDelayString = "${recommendation.co-enrollment.reconcile-interval-ms:3600000}",
+            initialDelayString = "${recommendation.co-enrollment.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        // Enrollment changes committed while the pairs are loaded are corrected by the next reconcile
+        Counts reloaded = loadCounts();
+        Snapshot rebuilt = reloaded.toSnapshot();
+        synchronized (this) {
+            counts = reloaded;
+            snapshot = rebuilt;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        // Grade changes of a completed enrollment do not change co-enrollment
+        if (event.wasCompleted() == event.isCompleted() || event.getStudentId() == null) {
+            return;
+        }
+        if (snapshot == null) {
+            // Not loaded yet; the first read loads current data
+            return;
+        }
+        synchronized (pending) {
+            pending.computeIfAbsent(event.getStudentId(), id -> new HashMap<>())
+                    .merge(event.getCourseId(), event.isCompleted() ? 1 : -1, Integer::sum);
+            // Not pushed back by later events, so steady traffic is still applied every update-delay-ms
+            if (pendingUpdate == null) {
+                pendingUpdate = updateExecutor.schedule(this::applyPending, updateDelayMs, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.getScope() == CatalogChangedEvent.Scope.COURSES && snapshot != null) {
+            // Readers keep the previous snapshot; unknown courses are skipped until the reload publishes
+            updateExecutor.execute(this::reloadQuietly);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        updateExecutor.shutdownNow();
+    }
+
+    /**
+     * Apply the queued enrollment changes and publish a new snapshot
+     */
+    void applyPending() {
+        Map<Long, Map<Long, Integer>> batch;
+        synchronized (pending) {
+            batch = new HashMap<>(pending);
+            pending.clear();
+            pendingUpdate = null;
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            // Completed courses of every changed student after the changes
+            Map<Long, List<Long>> completed = new HashMap<>();
+            List<Long> studentIds = new ArrayList<>(batch.keySet());
+            for (int from = 0; from < studentIds.size(); from += STUDENTS_PER_QUERY) {
+                List<Long> chunk = studentIds.subList(from, Math.min(from + STUDENTS_PER_QUERY, studentIds.size()));
+                for (Object[] row : enrollmentRepository.findCompletedPairsByStudentIds(chunk)) {
+                    completed.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Long) row[1]);
+                }
+            }
+            boolean unknownCourse = false;
+            Snapshot rebuilt;
+            synchronized (this) {
+                if (counts == null) {
+                    return;
+                }
+                for (Map.Entry<Long, Map<Long, Integer>> student : batch.entrySet()) {
+                    List<Long> after = completed.getOrDefault(student.getKey(), List.of());
+                    if (!counts.apply(after, student.getValue())) {
+                        unknownCourse = true;
+                    }
+                }
+                rebuilt = counts.toSnapshot();
+                snapshot = rebuilt;
+            }
+            if (unknownCourse) {
+                // Course added since the last load
+                reloadQuietly();
+            }
+        } catch (RuntimeException e) {
+            // Counts drift until the next reconcile
+            log.warn("Co-enrollment update of {} students failed: {}", batch.size(), e.getMessage(), e);
+        }
+    }
+
+    private void reloadQuietly() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("Co-enrollment reload failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private Counts loadCounts() {
+        long start = System.nanoTime();
+        List<Long> courseIds = courseRepository.findAllIds();
+        long[] ids = new long[courseIds.size()];
+        int n = 0;
+        for (Long id : courseIds) {
+            if (id != null) {
+                ids[n++] = id;
+            }
+        }
+        ids = Arrays.copyOf(ids, n);
+        Arrays.sort(ids);
+
+        Counts loaded = new Counts(ids, maxNeighbors);
+        // Pairs come ordered by student; count each student's distinct completed courses once
+        int[] taken = new int[16];
+        int takenCount = 0;
+        Long currentStudent = null;
+        for (Object[] row : enrollmentRepository.findAllCompletedPairs()) {
+            Long studentId = (Long) row[0];
+            if (!studentId.equals(currentStudent)) {
+                loaded.addStudent(taken, takenCount);
+                currentStudent = studentId;
+                takenCount = 0;
+            }
+            int index = row[1] != null ? Arrays.binarySearch(ids, (Long) row[1]) : -1;
+            if (index < 0) {
+                continue;
+            }
+            if (takenCount == taken.length) {
+                taken = Arrays.copyOf(taken, takenCount * 2);
+            }
+            taken[takenCount++] = index;
+        }
+        loaded.addStudent(taken, takenCount);
+
+        log.debug("Loaded co-enrollment counts: {} courses, {} pairs in {} ms",
+                n, loaded.pairCount(), (System.nanoTime() - start) / 1_000_000);
+        return loaded;
+    }
+
+    /**
+     * Mutable counts over a dense course index
+     */
+    private static final class Counts {
+
+        private final long[] ids;
+        private final int[] completions;
+        private final SparseRow[] rows;
+        private final int maxNeighbors;
+
+        private Counts(long[] ids, int maxNeighbors) {
+            this.ids = ids;
+            this.completions = new int[ids.length];
+            this.rows = new SparseRow[ids.length];
+            this.maxNeighbors = maxNeighbors;
+        }
+
+        private void addStudent(int[] taken, int length) {
+            if (length == 0) {
+                return;
+            }
+            Arrays.sort(taken, 0, length);
+            int distinct = 0;
+            for (int i = 0; i < length; i++) {
+                if (i == 0 || taken[i] != taken[i - 1]) {
+                    taken[distinct++] = taken[i];
+                }
+            }
+            for (int i = 0; i < distinct; i++) {
+                int course = taken[i];
+                completions[course]++;
+                for (int j = i + 1; j < distinct; j++) {
+                    add(course, taken[j], 1);
+                }
+            }
+        }
+
+        /**
+         * Apply one student's net completion changes, given the student's completed courses after them:
+         * pairs of the courses completed after the change gain one, pairs of those completed before lose one,
+         * so pairs present in both are unchanged. Returns false when a course is unknown to this index.
+         */
+        private boolean apply(List<Long> completedAfter, Map<Long, Integer> netChanges) {
+            Map<Integer, Integer> afterCounts = new HashMap<>();
+            for (Long courseId : completedAfter) {
+                int course = courseId != null ? Arrays.binarySearch(ids, courseId) : -1;
+                if (course < 0) {
+                    return false;
+                }
+                afterCounts.merge(course, 1, Integer::sum);
+            }
+            // Completed enrollments per course before the changes; a student may repeat a course
+            Map<Integer, Integer> beforeCounts = new HashMap<>(afterCounts);
+            for (Map.Entry<Long, Integer> change : netChanges.entrySet()) {
+                int course = change.getKey() != null ? Arrays.binarySearch(ids, change.getKey()) : -1;
+                if (course < 0) {
+                    return false;
+                }
+                beforeCounts.merge(course, -change.getValue(), Integer::sum);
+            }
+            int[] after = completedSet(afterCounts);
+            int[] before = completedSet(beforeCounts);
+            int[] added = difference(after, before);
+            int[] removed = difference(before, after);
+            for (int course : added) {
+                completions[course]++;
+            }
+            for (int course : removed) {
+                completions[course] = Math.max(0, completions[course] - 1);
+            }
+            addPairs(added, after, 1);
+            addPairs(removed, before, -1);
+            return true;
+        }
+
+        // Pairs of each changed course with the other courses of the set, each pair once
+        private void addPairs(int[] changed, int[] set, int delta) {
+            for (int course : changed) {
+                for (int other : set) {
+                    if (other != course && (other > course || Arrays.binarySearch(changed, other) < 0)) {
+                        add(course, other, delta);
+                    }
+                }
+            }
+        }
+
+        private void add(int course, int other, int delta) {
+            row(course).add(other, delta, maxNeighbors);
+            row(other).add(course, delta, maxNeighbors);
+        }
+
+        private static int[] completedSet(Map<Integer, Integer> enrollments) {
+            return enrollments.entrySet().stream()
+                    .filter(entry -> entry.getValue() > 0)
+                    .mapToInt(Map.Entry::getKey)
+                    .sorted()
+                    .toArray();
+        }
+
+        private static int[] difference(int[] sorted, int[] excluded) {
+            return Arrays.stream(sorted).filter(course -> Arrays.binarySearch(excluded, course) < 0).toArray();
+        }
+
+        private SparseRow row(int course) {
+            SparseRow row = rows[course];
+            if (row == null) {
+                row = new SparseRow();
+                rows[course] = row;
+            }
+            return row;
+        }
+
+        private long pairCount() {
+            long pairs = 0;
+            for (SparseRow row : rows) {
+                if (row != null) {
+                    pairs += row.size;
+                }
+            }
+            return pairs / 2;
+        }
+
+        /**
+         * Compress into offsets / neighbors / counts arrays, keeping the strongest neighbors of each course
+         */
+        private Snapshot toSnapshot() {
+            int n = ids.length;
+            int[] offsets = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                int size = rows[i] == null ? 0 : Math.min(rows[i].size, maxNeighbors);
+                offsets[i + 1] = offsets[i] + size;
+            }
+            int[] neighbors = new int[offsets[n]];
+            int[] pairCounts = new int[offsets[n]];
+            long[] packed = new long[0];
+            for (int i = 0; i < n; i++) {
+                SparseRow row = rows[i];
+                if (row == null || row.size == 0) {
+                    continue;
+                }
+                // count in the high bits so an ascending sort puts the strongest neighbors last
+                if (packed.length < row.size) {
+                    packed = new long[row.size];
+                }
+                int size = 0;
+                for (int slot = 0; slot < row.keys.length; slot++) {
+                    if (row.keys[slot] != SparseRow.FREE) {
+                        packed[size++] = ((long) row.values[slot] << 32) | row.keys[slot];
+                    }
+                }
+                if (size > maxNeighbors) {
+                    Arrays.sort(packed, 0, size);
+                }
+                int out = offsets[i];
+                for (int k = size - (offsets[i + 1] - offsets[i]); k < size; k++) {
+                    neighbors[out] = (int) packed[k];
+                    pairCounts[out] = (int) (packed[k] >>> 32);
+                    out++;
+                }
+            }
+            return new Snapshot(ids, completions.clone(), offsets, neighbors, pairCounts);
+        }
+    }
+
+    /**
+     * Open addressing int -> int map with linear probing; entries whose count drops to zero are removed,
+     * and the weakest entries are dropped once the row holds twice the neighbors it keeps
+     */
+    private static final class SparseRow {
+
+        private static final int FREE = -1;
+
+        private int[] keys;
+        private int[] values;
+        private int size;
+
+        // Largest count dropped by a trim; new entries start from it
+        private int floor;
+
+        private SparseRow() {
+            keys = new int[8];
+            values = new int[8];
+            Arrays.fill(keys, FREE);
+        }
+
+        private void add(int key, int delta, int keep) {
+            int mask = keys.length - 1;
+            int slot = hash(key) & mask;
+            while (keys[slot] != FREE) {
+                if (keys[slot] == key) {
+                    values[slot] += delta;
+                    if (values[slot] <= 0) {
+                        removeAt(slot);
+                    }
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (delta <= 0) {
+                return;
+            }
+            keys[slot] = key;
+            values[slot] = floor + delta;
+            size++;
+            if (size >= 2 * keep) {
+                trim(keep);
+            } else if (size * 4 > keys.length * 3) {
+                resize(keys.length * 2);
+            }
+        }
+
+        // Keep the strongest entries; count in the high bits so an ascending sort puts them last
+        private void trim(int keep) {
+            long[] packed = new long[size];
+            int n = 0;
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != FREE) {
+                    packed[n++] = ((long) values[slot] << 32) | keys[slot];
+                }
+            }
+            Arrays.sort(packed);
+            floor = Math.max(floor, (int) (packed[n - keep - 1] >>> 32));
+            Arrays.fill(keys, FREE);
+            Arrays.fill(values, 0);
+            int mask = keys.length - 1;
+            for (int k = n - keep; k < n; k++) {
+                int key = (int) packed[k];
+                int slot = hash(key) & mask;
+                while (keys[slot] != FREE) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = (int) (packed[k] >>> 32);
+            }
+            size = keep;
+        }
+
+        // Backward shift deletion keeps probe chains intact without tombstones
+        private void removeAt(int slot) {
+            int mask = keys.length - 1;
+            int gap = slot;
+            int next = (gap + 1) & mask;
+            while (keys[next] != FREE) {
+                int home = hash(keys[next]) & mask;
+                if (((next - home) & mask) >= ((next - gap) & mask)) {
+                    keys[gap] = keys[next];
+                    values[gap] = values[next];
+                    gap = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[gap] = FREE;
+            values[gap] = 0;
+            size--;
+        }
+
+        private void resize(int capacity) {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new int[capacity];
+            values = new int[capacity];
+            Arrays.fill(keys, FREE);
+            int mask = capacity - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != FREE) {
+                    int slot = hash(oldKeys[i]) & mask;
+                    while (keys[slot] != FREE) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+
+        private static int hash(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+
+    /**
+     * Immutable co-enrollment view, swapped as a whole on rebuild
+     */
+    public static final class Snapshot {
+
+        private final long[] ids;
+        private final int[] completions;
+        private final int[] offsets;
+        private final int[] neighbors;
+        private final int[] pairCounts;
+
+        private Snapshot(long[] ids, int[] completions, int[] offsets, int[] neighbors, int[] pairCounts) {
+            this.ids = ids;
+            this.completions = completions;
+            this.offsets = offsets;
+            this.neighbors = neighbors;
+            this.pairCounts = pairCounts;
+        }
+
+        /**
+         * Number of students who completed the course
+         */
+        public int getCompletionCount(Long courseId) {
+            int index = courseId == null ? -1 : Arrays.binarySearch(ids, courseId);
+            return index < 0 ? 0 : completions[index];
+        }
+
+        /**
+         * Sum the rows of the given completed courses into per-course affinities over the catalog.
+         * A source course contributes the share of its students who also completed the target,
+         * so the affinity of a target is the sum of conditional probabilities P(target | source).
+         *
+         * @param completed completed courses as a bitset over the prerequisite graph index
+         */
+        public Affinity affinity(long[] completed, PrerequisiteGraph.Snapshot graph, CourseCatalogSnapshot catalog) {
+            double[] scores = new double[catalog.size()];
+            double[] strongest = new double[catalog.size()];
+            long[] strongestSource = new long[catalog.size()];
+            int[] candidates = new int[16];
+            int candidateCount = 0;
+            int sources = 0;
+
+            for (int i = BitSets.nextSetBit(completed, 0); i >= 0; i = BitSets.nextSetBit(completed, i + 1)) {
+                long sourceId = graph.courseIdAt(i);
+                int source = Arrays.binarySearch(ids, sourceId);
+                if (source < 0 || completions[source] == 0) {
+                    continue;
+                }
+                sources++;
+                double total = completions[source];
+                for (int k = offsets[source]; k < offsets[source + 1]; k++) {
+                    int target = catalog.indexOf(ids[neighbors[k]]);
+                    if (target < 0) {
+                        continue;
+                    }
+                    // Counts of trimmed rows may over-estimate
+                    double share = Math.min(1.0, pairCounts[k] / total);
+                    if (scores[target] == 0.0) {
+                        if (candidateCount == candidates.length) {
+                            candidates = Arrays.copyOf(candidates, candidateCount * 2);
+                        }
+                        candidates[candidateCount++] = target;
+                    }
+                    scores[target] += share;
+                    if (share > strongest[target]) {
+                        strongest[target] = share;
+                        strongestSource[target] = sourceId;
+                    }
+                }
+            }
+            Arrays.sort(candidates, 0, candidateCount);
+            return new Affinity(Arrays.copyOf(candidates, candidateCount), scores, strongestSource, sources);
+        }
+    }
+
+    /**
+     * One student's co-enrollment affinities, indexed by catalog index
+     */
+    public static final class Affinity {
+
+        private final int[] candidates;
+        private final double[] scores;
+        private final long[] strongestSource;
+        private final int sourceCount;
+
+        private Affinity(int[] candidates, double[] scores, long[] strongestSource, int sourceCount) {
+            this.candidates = candidates;
+            this.scores = scores;
+            this.strongestSource = strongestSource;
+            this.sourceCount = sourceCount;
+        }
+
+        /**
+         * Catalog indices co-enrolled with at least one completed course, ascending
+         */
+        public int[] candidates() {
+            return candidates;
+        }
+
+        /**
+         * Average share of students who also completed the course, across the student's completed courses, 0.0 - 1.0
+         */
+        public double averageShare(int courseIndex) {
+            return sourceCount == 0 ? 0.0 : scores[courseIndex] / sourceCount;
+        }
+
+        /**
+         * Completed course id contributing the largest share to this course
+         */
+        public long strongestSourceId(int courseIndex) {
+            return strongestSource[courseIndex];
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.event.CatalogChangedEvent;
+import edu.neu.curriculumRecommendation.mapper.repository.CourseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Course Catalog
+ * Holds the current CourseCatalogSnapshot, loading it once and dropping it after course changes.
+ */
+@Component
+public class CourseCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseCatalog.class);
+
+    private final CourseRepository courseRepository;
+
+    private volatile CourseCatalogSnapshot snapshot;
+
+    // Bumped on invalidation so a catalog loaded concurrently is not published
+    private final AtomicLong generation = new AtomicLong();
+
+    public CourseCatalog(CourseRepository courseRepository) {
+        this.courseRepository = courseRepository;
+    }
+
+    /**
+     * Get the current catalog, loading it if needed.
+     * Callers should hold on to one snapshot per request so that indices stay consistent.
+     */
+    public CourseCatalogSnapshot snapshot() {
+        CourseCatalogSnapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    long loadGeneration = generation.get();
+                    long start = System.nanoTime();
+                    current = CourseCatalogSnapshot.of(courseRepository.findAll());
+                    log.debug("Loaded course catalog: {} courses in {} ms",
+                            current.size(), (System.nanoTime() - start) / 1_000_000);
+                    if (generation.get() == loadGeneration) {
+                        snapshot = current;
+                    }
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Drop the loaded catalog so the next read reloads it
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.getScope() == CatalogChangedEvent.Scope.COURSES) {
+            invalidate();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.entity.Course;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Course Catalog Snapshot
+ * Immutable struct-of-arrays view of the fields read while scoring, indexed by a dense course index
+ * (position in the sorted id array). Strings are decoded once at build time: difficulty becomes a
+ * byte code, offered semesters a bitmask and the active flag a bitset.
+ * The course entities are kept only for rendering the selected results.
+ */
+public final class CourseCatalogSnapshot {
+
+    public static final byte DIFFICULTY_UNKNOWN = 0;
+    public static final byte DIFFICULTY_BEGINNER = 1;
+    public static final byte DIFFICULTY_INTERMEDIATE = 2;
+    public static final byte DIFFICULTY_ADVANCED = 3;
+
+    public static final byte TERM_FALL = 1;
+    public static final byte TERM_SPRING = 1 << 1;
+    public static final byte TERM_SUMMER = 1 << 2;
+
+    private final long[] ids;
+    private final Course[] courses;
+    private final byte[] difficulties;
+    private final byte[] terms;
+    private final int[] credits;
+    private final long[] active;
+    private final int[] allIndices;
+    private final int[] activeIndices;
+
+    private CourseCatalogSnapshot(long[] ids, Course[] courses, byte[] difficulties, byte[] terms,
+                                  int[] credits, long[] active, int[] activeIndices) {
+        this.ids = ids;
+        this.courses = courses;
+        this.difficulties = difficulties;
+        this.terms = terms;
+        this.credits = credits;
+        this.active = active;
+        this.activeIndices = activeIndices;
+        this.allIndices = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            allIndices[i] = i;
+        }
+    }
+
+    /**
+     * Build a snapshot from loaded courses; courses without an id are ignored
+     */
+    public static CourseCatalogSnapshot of(List<Course> loaded) {
+        Course[] sorted = loaded.stream()
+                .filter(c -> c != null && c.getId() != null)
+                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                .toArray(Course[]::new);
+        int n = sorted.length;
+        long[] ids = new long[n];
+        byte[] difficulties = new byte[n];
+        byte[] terms = new byte[n];
+        int[] credits = new int[n];
+        long[] active = BitSets.create(n);
+        int[] activeIndices = new int[n];
+        int activeCount = 0;
+        for (int i = 0; i < n; i++) {
+            Course course = sorted[i];
+            ids[i] = course.getId();
+            difficulties[i] = difficultyCode(course.getDifficulty());
+            terms[i] = termMask(course.getSemester());
+            credits[i] = course.getCredits() != null ? course.getCredits() : 0;
+            if (Boolean.TRUE.equals(course.getIsActive())) {
+                BitSets.set(active, i);
+                activeIndices[activeCount++] = i;
+            }
+        }
+        return new CourseCatalogSnapshot(ids, sorted, difficulties, terms, credits, active,
+                Arrays.copyOf(activeIndices, activeCount));
+    }
+
+    public static byte difficultyCode(String difficulty) {
+        if (difficulty == null) {
+            return DIFFICULTY_UNKNOWN;
+        }
+        switch (difficulty.trim().toUpperCase(Locale.ROOT)) {
+            case "BEGINNER":
+                return DIFFICULTY_BEGINNER;
+            case "INTERMEDIATE":
+                return DIFFICULTY_INTERMEDIATE;
+            case "ADVANCED":
+                return DIFFICULTY_ADVANCED;
+            default:
+                return DIFFICULTY_UNKNOWN;
+        }
+    }
+
+    /**
+     * Offered semesters of a free-text value such as "Fall, Spring"
+     */
+    public static byte termMask(String semester) {
+        if (semester == null) {
+            return 0;
+        }
+        String value = semester.toLowerCase(Locale.ROOT);
+        byte mask = 0;
+        if (value.contains("fall")) {
+            mask |= TERM_FALL;
+        }
+        if (value.contains("spring")) {
+            mask |= TERM_SPRING;
+        }
+        if (value.contains("summer")) {
+            mask |= TERM_SUMMER;
+        }
+        return mask;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Dense index of a course, or -1 when the course is unknown
+     */
+    public int indexOf(Long courseId) {
+        if (courseId == null) {
+            return -1;
+        }
+        int index = Arrays.binarySearch(ids, courseId);
+        return index < 0 ? -1 : index;
+    }
+
+    public long courseIdAt(int index) {
+        return ids[index];
+    }
+
+    /**
+     * Course entity for rendering; detached, so only basic fields may be read
+     */
+    public Course courseAt(int index) {
+        return courses[index];
+    }
+
+    public byte difficultyAt(int index) {
+        return difficulties[index];
+    }
+
+    public byte termsAt(int index) {
+        return terms[index];
+    }
+
+    public int creditsAt(int index) {
+        return credits[index];
+    }
+
+    public boolean isActive(int index) {
+        return BitSets.get(active, index);
+    }
+
+    /**
+     * Every course index; shared, must not be modified
+     */
+    public int[] allIndices() {
+        return allIndices;
+    }
+
+    /**
+     * Indices of active courses; shared, must not be modified
+     */
+    public int[] activeIndices() {
+        return activeIndices;
+    }
+}
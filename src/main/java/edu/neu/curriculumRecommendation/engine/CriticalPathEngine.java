@@ -0,0 +1,268 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.event.CatalogChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Critical Path Engine
+ * Longest prerequisite chain through the required courses of each major, the lower bound on the terms
+ * needed to finish the program. Per major and graph snapshot, the requirements and their transitive
+ * prerequisites are put in topological order once and the program's critical path is found by dynamic
+ * programming over that order. A student's remaining critical path reruns the same DP over only that
+ * subgraph, skipping completed courses, so it costs one pass over a few hundred ints.
+ */
+@Component
+public class CriticalPathEngine {
+
+    private static final int[] NONE = new int[0];
+
+    // Cache key of the program of students without a major (ConcurrentHashMap keys cannot be null)
+    private static final String NO_MAJOR = "";
+
+    private final Map<String, ProgramPaths> programs = new ConcurrentHashMap<>();
+
+    /**
+     * Precomputed order and critical path of the program in the context, for the context's graph.
+     * A context on an older catalog snapshot gets its own paths without replacing the cached ones.
+     */
+    public ProgramPaths program(RecommendationContext context) {
+        DegreeAuditEngine.Program program = context.getProgram();
+        PrerequisiteGraph.Snapshot graph = context.getGraph();
+        long version = context.getCatalogVersion();
+        String key = program.getMajor() != null ? program.getMajor() : NO_MAJOR;
+        ProgramPaths cached = programs.get(key);
+        if (cached != null && cached.matches(graph, program)) {
+            return cached;
+        }
+        if (cached != null && cached.version > version) {
+            return ProgramPaths.build(version, graph, program);
+        }
+        return programs.compute(key, (major, existing) ->
+                existing != null && (existing.matches(graph, program) || existing.version > version)
+                        ? existing
+                        : ProgramPaths.build(version, graph, program));
+    }
+
+    /**
+     * Remaining critical path of the student in the context
+     */
+    public Remaining remaining(RecommendationContext context) {
+        return program(context).remaining(context.getCompleted());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        // Entries are checked against the current graph and program anyway; this only frees memory
+        programs.clear();
+    }
+
+    /**
+     * Requirements of one major and their transitive prerequisites in topological order over one graph
+     */
+    public static final class ProgramPaths {
+
+        private final long version;
+        private final PrerequisiteGraph.Snapshot graph;
+        private final DegreeAuditEngine.Program program;
+        // Graph indices in topological order (prerequisites first)
+        private final int[] order;
+        // Graph index to position in order, or -1 outside the subgraph
+        private final int[] position;
+        // Direct prerequisites and dependents inside the subgraph, by position
+        private final int[][] prerequisites;
+        private final int[][] dependents;
+        private final boolean[] required;
+        private final long[] criticalPath;
+
+        private ProgramPaths(long version, PrerequisiteGraph.Snapshot graph, DegreeAuditEngine.Program program,
+                             int[] order, int[] position, int[][] prerequisites, int[][] dependents,
+                             boolean[] required) {
+            this.version = version;
+            this.graph = graph;
+            this.program = program;
+            this.order = order;
+            this.position = position;
+            this.prerequisites = prerequisites;
+            this.dependents = dependents;
+            this.required = required;
+            this.criticalPath = remaining(BitSets.create(graph.size())).path;
+        }
+
+        private static ProgramPaths build(long version, PrerequisiteGraph.Snapshot graph,
+                                          DegreeAuditEngine.Program program) {
+            long[] members = BitSets.create(graph.size());
+            long[] requiredBits = BitSets.create(graph.size());
+            for (DegreeAuditEngine.Requirement requirement : program.getRequirements()) {
+                int index = graph.indexOf(requirement.getCourseId());
+                if (index < 0) {
+                    continue;
+                }
+                BitSets.set(members, index);
+                BitSets.set(requiredBits, index);
+                for (int prerequisite : graph.prerequisites(index)) {
+                    BitSets.set(members, prerequisite);
+                }
+            }
+
+            // In a DAG a prerequisite has strictly fewer transitive prerequisites than its dependents
+            int m = BitSets.cardinality(members);
+            Integer[] sorted = new Integer[m];
+            int n = 0;
+            for (int i = BitSets.nextSetBit(members, 0); i >= 0; i = BitSets.nextSetBit(members, i + 1)) {
+                sorted[n++] = i;
+            }
+            Arrays.sort(sorted, (a, b) -> graph.prerequisites(a).length - graph.prerequisites(b).length);
+
+            int[] order = new int[m];
+            int[] position = new int[graph.size()];
+            Arrays.fill(position, -1);
+            for (int u = 0; u < m; u++) {
+                order[u] = sorted[u];
+                position[order[u]] = u;
+            }
+
+            int[][] prerequisites = new int[m][];
+            int[] dependentCount = new int[m];
+            boolean[] required = new boolean[m];
+            for (int u = 0; u < m; u++) {
+                int[] direct = graph.directPrerequisites(order[u]);
+                int[] local = new int[direct.length];
+                int k = 0;
+                for (int p : direct) {
+                    if (position[p] >= 0) {
+                        local[k++] = position[p];
+                        dependentCount[position[p]]++;
+                    }
+                }
+                prerequisites[u] = k == 0 ? NONE : Arrays.copyOf(local, k);
+                required[u] = BitSets.get(requiredBits, order[u]);
+            }
+            int[][] dependents = new int[m][];
+            for (int u = 0; u < m; u++) {
+                dependents[u] = dependentCount[u] == 0 ? NONE : new int[dependentCount[u]];
+            }
+            int[] fill = new int[m];
+            for (int u = 0; u < m; u++) {
+                for (int p : prerequisites[u]) {
+                    dependents[p][fill[p]++] = u;
+                }
+            }
+            return new ProgramPaths(version, graph, program, order, position, prerequisites, dependents, required);
+        }
+
+        private boolean matches(PrerequisiteGraph.Snapshot graph, DegreeAuditEngine.Program program) {
+            return this.graph == graph && this.program == program;
+        }
+
+        public PrerequisiteGraph.Snapshot getGraph() {
+            return graph;
+        }
+
+        /**
+         * Number of courses on the program's critical path, counted from no completed courses
+         */
+        public int getLength() {
+            return criticalPath.length;
+        }
+
+        /**
+         * Course ids of the program's critical path, prerequisites first
+         */
+        public long[] getCriticalPath() {
+            return criticalPath;
+        }
+
+        /**
+         * Longest chain of not completed courses ending at a not completed requirement,
+         * plus for every course the longest such chain starting at it
+         */
+        public Remaining remaining(long[] completed) {
+            int m = order.length;
+            // Forward pass: longest chain of not completed courses ending at each course
+            int[] up = new int[m];
+            int[] previous = new int[m];
+            int best = -1;
+            for (int u = 0; u < m; u++) {
+                previous[u] = -1;
+                if (BitSets.get(completed, order[u])) {
+                    continue;
+                }
+                int longest = 0;
+                for (int p : prerequisites[u]) {
+                    if (up[p] > longest) {
+                        longest = up[p];
+                        previous[u] = p;
+                    }
+                }
+                up[u] = longest + 1;
+                if (required[u] && (best < 0 || up[u] > up[best])) {
+                    best = u;
+                }
+            }
+
+            // Backward pass: longest chain of not completed courses starting at each course and ending at a requirement
+            int[] down = new int[m];
+            for (int u = m - 1; u >= 0; u--) {
+                if (BitSets.get(completed, order[u])) {
+                    continue;
+                }
+                int longest = 0;
+                for (int d : dependents[u]) {
+                    if (down[d] > longest) {
+                        longest = down[d];
+                    }
+                }
+                down[u] = longest > 0 ? longest + 1 : (required[u] ? 1 : 0);
+            }
+
+            long[] path = new long[best < 0 ? 0 : up[best]];
+            for (int u = best, i = path.length - 1; u >= 0; u = previous[u], i--) {
+                path[i] = graph.courseIdAt(order[u]);
+            }
+            return new Remaining(this, path, down);
+        }
+    }
+
+    /**
+     * Remaining critical path of one student
+     */
+    public static final class Remaining {
+
+        private final ProgramPaths paths;
+        private final long[] path;
+        private final int[] chainFrom;
+
+        private Remaining(ProgramPaths paths, long[] path, int[] chainFrom) {
+            this.paths = paths;
+            this.path = path;
+            this.chainFrom = chainFrom;
+        }
+
+        /**
+         * Number of not completed courses on the longest remaining chain: the fewest terms still needed
+         */
+        public int getLength() {
+            return path.length;
+        }
+
+        /**
+         * Course ids of the longest remaining chain, prerequisites first
+         */
+        public long[] getPath() {
+            return path;
+        }
+
+        /**
+         * Longest remaining chain starting at the course at this graph index; 0 when it leads to no requirement
+         */
+        public int chainFrom(int graphIndex) {
+            int u = graphIndex >= 0 && graphIndex < paths.position.length ? paths.position[graphIndex] : -1;
+            return u < 0 ? 0 : chainFrom[u];
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.entity.ProgramRequirement;
+import edu.neu.curriculumRecommendation.event.CatalogChangedEvent;
+import edu.neu.curriculumRecommendation.mapper.repository.ProgramRequirementRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Degree Audit Engine
+ * Compiles the program requirements of each major once into an immutable Program (requirements in
+ * declaration order, one per course, grouped by requirement type with credit targets) and evaluates a
+ * student's completed courses against it in one pass.
+ * A group's credit target is the sum of creditsRequired of its requirements; a completed requirement
+ * earns its creditsRequired toward its group.
+ * Compiled programs are dropped when program requirements or courses change.
+ */
+@Component
+public class DegreeAuditEngine {
+
+    private final ProgramRequirementRepository programRequirementRepository;
+
+    private final Map<String, Program> programs = new ConcurrentHashMap<>();
+
+    // Bumped on invalidation so a program compiled from older rows is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    public DegreeAuditEngine(ProgramRequirementRepository programRequirementRepository) {
+        this.programRequirementRepository = programRequirementRepository;
+    }
+
+    /**
+     * Get the compiled program of a major; a blank major has no requirements
+     */
+    public Program program(String major) {
+        if (major == null || major.trim().isEmpty()) {
+            return Program.EMPTY;
+        }
+        String key = major.trim();
+        Program program = programs.get(key);
+        if (program != null) {
+            return program;
+        }
+        long loadGeneration = generation.get();
+        program = Program.compile(key, programRequirementRepository.findByMajor(key));
+        synchronized (programs) {
+            if (generation.get() == loadGeneration) {
+                programs.put(key, program);
+            }
+        }
+        return program;
+    }
+
+    /**
+     * Evaluate the student's completed courses against their major in one pass over the requirements
+     */
+    public Audit audit(RecommendationContext context) {
+        Program program = context.getProgram();
+        CourseCatalogSnapshot catalog = context.getCatalog();
+        int[] earned = new int[program.groups.size()];
+        int[] mandatoryRemaining = new int[program.groups.size()];
+        for (Requirement requirement : program.requirements) {
+            int index = catalog.indexOf(requirement.courseId);
+            if (index >= 0 && context.isCompleted(index)) {
+                earned[requirement.group] += requirement.credits;
+            } else if (requirement.mandatory) {
+                mandatoryRemaining[requirement.group]++;
+            }
+        }
+
+        List<GroupProgress> progress = new ArrayList<>(program.groups.size());
+        for (int g = 0; g < program.groups.size(); g++) {
+            Group group = program.groups.get(g);
+            progress.add(new GroupProgress(group, Math.min(earned[g], group.targetCredits), mandatoryRemaining[g]));
+        }
+        return new Audit(program, progress);
+    }
+
+    public void invalidate() {
+        synchronized (programs) {
+            generation.incrementAndGet();
+            programs.clear();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.getScope() != CatalogChangedEvent.Scope.PREREQUISITES) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Immutable compiled requirements of one major
+     */
+    public static final class Program {
+
+        static final Program EMPTY = new Program(null, List.of(), Map.of(), List.of());
+
+        private final String major;
+        private final List<Requirement> requirements;
+        private final Map<Long, Requirement> byCourse;
+        private final List<Group> groups;
+
+        private Program(String major, List<Requirement> requirements, Map<Long, Requirement> byCourse,
+                        List<Group> groups) {
+            this.major = major;
+            this.requirements = requirements;
+            this.byCourse = byCourse;
+            this.groups = groups;
+        }
+
+        private static Program compile(String major, List<ProgramRequirement> rows) {
+            Map<String, Integer> groupIndex = new LinkedHashMap<>();
+            List<int[]> groupTotals = new ArrayList<>();
+            List<Requirement> requirements = new ArrayList<>(rows.size());
+            Map<Long, Requirement> byCourse = new HashMap<>(rows.size() * 2);
+            for (ProgramRequirement row : rows) {
+                if (row.getCourse() == null || row.getCourse().getId() == null) {
+                    continue;
+                }
+                Long courseId = row.getCourse().getId();
+                if (byCourse.containsKey(courseId)) {
+                    // First requirement of a course wins
+                    continue;
+                }
+                String type = row.getRequirementType() != null ? row.getRequirementType() : "";
+                Integer group = groupIndex.get(type);
+                if (group == null) {
+                    group = groupIndex.size();
+                    groupIndex.put(type, group);
+                    groupTotals.add(new int[2]);
+                }
+                boolean mandatory = Boolean.TRUE.equals(row.getIsMandatory());
+                int credits = row.getCreditsRequired() != null ? Math.max(0, row.getCreditsRequired()) : 0;
+                Requirement requirement = new Requirement(courseId, type, mandatory, credits, group);
+                requirements.add(requirement);
+                byCourse.put(courseId, requirement);
+                groupTotals.get(group)[0] += credits;
+                if (mandatory) {
+                    groupTotals.get(group)[1]++;
+                }
+            }
+
+            List<Group> groups = new ArrayList<>(groupIndex.size());
+            for (Map.Entry<String, Integer> entry : groupIndex.entrySet()) {
+                int[] totals = groupTotals.get(entry.getValue());
+                groups.add(new Group(entry.getKey(), totals[0], totals[1]));
+            }
+            return new Program(major, Collections.unmodifiableList(requirements),
+                    Collections.unmodifiableMap(byCourse), Collections.unmodifiableList(groups));
+        }
+
+        public String getMajor() {
+            return major;
+        }
+
+        /**
+         * Requirements in declaration order, one per course
+         */
+        public List<Requirement> getRequirements() {
+            return requirements;
+        }
+
+        /**
+         * Requirement of a course, or null when the course is not part of the program
+         */
+        public Requirement requirementFor(Long courseId) {
+            return byCourse.get(courseId);
+        }
+
+        /**
+         * Requirement type groups in order of first appearance
+         */
+        public List<Group> getGroups() {
+            return groups;
+        }
+    }
+
+    public static final class Requirement {
+
+        private final Long courseId;
+        private final String requirementType;
+        private final boolean mandatory;
+        private final int credits;
+        private final int group;
+
+        private Requirement(Long courseId, String requirementType, boolean mandatory, int credits, int group) {
+            this.courseId = courseId;
+            this.requirementType = requirementType;
+            this.mandatory = mandatory;
+            this.credits = credits;
+            this.group = group;
+        }
+
+        public Long getCourseId() {
+            return courseId;
+        }
+
+        public String getRequirementType() {
+            return requirementType;
+        }
+
+        public boolean isMandatory() {
+            return mandatory;
+        }
+
+        public int getCredits() {
+            return credits;
+        }
+    }
+
+    public static final class Group {
+
+        private final String requirementType;
+        private final int targetCredits;
+        private final int mandatoryCourses;
+
+        private Group(String requirementType, int targetCredits, int mandatoryCourses) {
+            this.requirementType = requirementType;
+            this.targetCredits = targetCredits;
+            this.mandatoryCourses = mandatoryCourses;
+        }
+
+        public String getRequirementType() {
+            return requirementType;
+        }
+
+        public int getTargetCredits() {
+            return targetCredits;
+        }
+
+        public int getMandatoryCourses() {
+            return mandatoryCourses;
+        }
+    }
+
+    /**
+     * Credits earned and remaining of one requirement type group
+     */
+    public static final class GroupProgress {
+
+        private final Group group;
+        private final int earnedCredits;
+        private final int mandatoryCoursesRemaining;
+
+        private GroupProgress(Group group, int earnedCredits, int mandatoryCoursesRemaining) {
+            this.group = group;
+            this.earnedCredits = earnedCredits;
+            this.mandatoryCoursesRemaining = mandatoryCoursesRemaining;
+        }
+
+        public Group getGroup() {
+            return group;
+        }
+
+        public int getEarnedCredits() {
+            return earnedCredits;
+        }
+
+        public int getRemainingCredits() {
+            return group.targetCredits - earnedCredits;
+        }
+
+        public int getMandatoryCoursesRemaining() {
+            return mandatoryCoursesRemaining;
+        }
+    }
+
+    /**
+     * Result of evaluating one student against their program
+     */
+    public static final class Audit {
+
+        private final Program program;
+        private final List<GroupProgress> groups;
+
+        private Audit(Program program, List<GroupProgress> groups) {
+            this.program = program;
+            this.groups = groups;
+        }
+
+        public Program getProgram() {
+            return program;
+        }
+
+        public List<GroupProgress> getGroups() {
+            return groups;
+        }
+
+        public int getRemainingCredits() {
+            int remaining = 0;
+            for (GroupProgress group : groups) {
+                remaining += group.getRemainingCredits();
+            }
+            return remaining;
+        }
+    }
+}
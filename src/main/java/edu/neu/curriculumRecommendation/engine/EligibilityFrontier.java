@@ -0,0 +1,205 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.event.CatalogChangedEvent;
+import edu.neu.curriculumRecommendation.event.EnrollmentChangedEvent;
+import edu.neu.curriculumRecommendation.mapper.repository.EnrollmentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+
+/**
+ * Eligibility Frontier
+ * Bounded LRU of per-student completed and eligible course bitsets over the prerequisite graph index.
+ * A course is eligible when it is not completed and all of its transitive prerequisites are completed.
+ * When an enrollment becomes COMPLETED or stops being completed, only the dependents of that course are
+ * revisited (descending through completed dependents), instead of re-checking the whole catalog.
+ * Frontiers are dropped when the prerequisite graph changes.
+ */
+@Component
+public class EligibilityFrontier {
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final int maxSize;
+
+    private final LinkedHashMap<Long, Frontier> frontiers;
+
+    // Bumped on every change so a frontier loaded concurrently with an update is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    public EligibilityFrontier(EnrollmentRepository enrollmentRepository,
+                               @Value("${recommendation.frontier.max-students:10000}") int maxSize) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.maxSize = Math.max(1, maxSize);
+        this.frontiers = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Frontier> eldest) {
+                return size() > EligibilityFrontier.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Get the student's frontier over the given graph, loading completed courses if it is not cached
+     */
+    public Frontier get(Long studentId, PrerequisiteGraph.Snapshot graph) {
+        long loadGeneration;
+        synchronized (frontiers) {
+            Frontier frontier = frontiers.get(studentId);
+            if (frontier != null && frontier.graph == graph) {
+                return frontier;
+            }
+            loadGeneration = generation.get();
+        }
+
+        long[] completed = BitSets.create(graph.size());
+        for (Long courseId : enrollmentRepository.findCompletedCourseIdsByStudentId(studentId)) {
+            int index = graph.indexOf(courseId);
+            if (index >= 0) {
+                BitSets.set(completed, index);
+            }
+        }
+        Frontier frontier = new Frontier(graph, completed, graph.eligible(completed));
+        synchronized (frontiers) {
+            if (generation.get() == loadGeneration) {
+                frontiers.put(studentId, frontier);
+            }
+        }
+        return frontier;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        if (event.wasCompleted() == event.isCompleted()) {
+            return;
+        }
+        boolean cached;
+        synchronized (frontiers) {
+            generation.incrementAndGet();
+            cached = frontiers.containsKey(event.getStudentId());
+        }
+        if (!cached) {
+            return;
+        }
+        // A retaken course stays completed while another completed enrollment remains
+        boolean stillCompleted = !event.isCompleted() && enrollmentRepository.existsByStudentIdAndCourseIdAndStatus(
+                event.getStudentId(), event.getCourseId(), EnrollmentChangedEvent.STATUS_COMPLETED);
+        synchronized (frontiers) {
+            generation.incrementAndGet();
+            Frontier frontier = frontiers.get(event.getStudentId());
+            if (frontier == null || stillCompleted) {
+                return;
+            }
+            int index = frontier.graph.indexOf(event.getCourseId());
+            if (index < 0) {
+                frontiers.remove(event.getStudentId());
+                return;
+            }
+            frontiers.put(event.getStudentId(), event.isCompleted()
+                    ? frontier.complete(index)
+                    : frontier.uncomplete(index));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.getScope() != CatalogChangedEvent.Scope.PROGRAM_REQUIREMENTS) {
+            synchronized (frontiers) {
+                generation.incrementAndGet();
+                frontiers.clear();
+            }
+        }
+    }
+
+    /**
+     * Immutable completed and eligible sets of one student; updates return a new frontier
+     */
+    public static final class Frontier {
+
+        private final PrerequisiteGraph.Snapshot graph;
+        private final long[] completed;
+        private final long[] eligible;
+
+        private Frontier(PrerequisiteGraph.Snapshot graph, long[] completed, long[] eligible) {
+            this.graph = graph;
+            this.completed = completed;
+            this.eligible = eligible;
+        }
+
+        public PrerequisiteGraph.Snapshot getGraph() {
+            return graph;
+        }
+
+        /**
+         * Completed courses as a bitset over the graph index; must not be modified
+         */
+        public long[] getCompleted() {
+            return completed;
+        }
+
+        /**
+         * Eligible courses as a bitset over the graph index; must not be modified
+         */
+        public long[] getEligible() {
+            return eligible;
+        }
+
+        private Frontier complete(int index) {
+            long[] nextCompleted = completed.clone();
+            long[] nextEligible = eligible.clone();
+            BitSets.set(nextCompleted, index);
+            BitSets.clear(nextEligible, index);
+            // Dependents may now be satisfied; through completed dependents, so may their descendants
+            visitDescendants(index, nextCompleted, dependent -> {
+                if (graph.isSatisfied(dependent, nextCompleted)) {
+                    BitSets.set(nextEligible, dependent);
+                }
+            });
+            return new Frontier(graph, nextCompleted, nextEligible);
+        }
+
+        private Frontier uncomplete(int index) {
+            long[] nextCompleted = completed.clone();
+            long[] nextEligible = eligible.clone();
+            BitSets.clear(nextCompleted, index);
+            if (graph.isSatisfied(index, nextCompleted)) {
+                BitSets.set(nextEligible, index);
+            }
+            // Every descendant now misses this course
+            visitDescendants(index, nextCompleted, dependent -> BitSets.clear(nextEligible, dependent));
+            return new Frontier(graph, nextCompleted, nextEligible);
+        }
+
+        /**
+         * Visit the uncompleted dependents of a course, descending through completed ones
+         */
+        private void visitDescendants(int index, long[] completed, IntConsumer visitor) {
+            long[] visited = BitSets.create(graph.size());
+            int[] stack = new int[16];
+            int top = 0;
+            stack[top++] = index;
+            while (top > 0) {
+                int node = stack[--top];
+                for (int dependent : graph.dependents(node)) {
+                    if (BitSets.get(visited, dependent)) {
+                        continue;
+                    }
+                    BitSets.set(visited, dependent);
+                    if (BitSets.get(completed, dependent)) {
+                        if (top == stack.length) {
+                            stack = Arrays.copyOf(stack, top * 2);
+                        }
+                        stack[top++] = dependent;
+                    } else {
+                        visitor.accept(dependent);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,441 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Graduation Planner
+ * Lays the remaining requirements of the student's major, plus their uncompleted transitive prerequisites,
+ * out over future terms by topological layering of the prerequisite DAG: a course can be taken in a term
+ * once all of its prerequisites were completed, in progress or planned in an earlier term, and only in
+ * terms it is offered (Course.semester; no value means every term).
+ * Each term is filled up to the credit cap by a branch-and-bound search that prefers courses on long
+ * remaining prerequisite chains, then mandatory ones. The search of the whole plan shares a time budget;
+ * once it is spent the remaining terms are filled greedily in the same priority order.
+ * Planning starts with the term after the one under way: Spring runs January to April, Summer May to
+ * August and Fall September to December.
+ */
+@Component
+public class GraduationPlanner {
+
+    private static final int[] NONE = new int[0];
+
+    // Deadline is checked every this many search nodes
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+    private final Clock clock;
+    private final int maxTerms;
+    private final long searchBudgetNanos;
+
+    public GraduationPlanner(Clock clock,
+                             @Value("${recommendation.planner.max-terms:12}") int maxTerms,
+                             @Value("${recommendation.planner.search-budget-ms:50}") long searchBudgetMillis) {
+        this.clock = clock;
+        this.maxTerms = Math.max(1, maxTerms);
+        this.searchBudgetNanos = Math.max(0, searchBudgetMillis) * 1_000_000L;
+    }
+
+    /**
+     * Plan the remaining requirements of the student's major
+     *
+     * @param context             student context
+     * @param inProgressCourseIds courses currently taken, treated as completed before the first planned term
+     * @param maxCreditsPerTerm   credit cap of every term
+     * @param includeSummer       whether Summer terms are planned
+     * @return planned terms and the courses that could not be placed
+     */
+    public Plan plan(RecommendationContext context, Collection<Long> inProgressCourseIds,
+                     int maxCreditsPerTerm, boolean includeSummer) {
+        long deadline = System.nanoTime() + searchBudgetNanos;
+        PrerequisiteGraph.Snapshot graph = context.getGraph();
+        CourseCatalogSnapshot catalog = context.getCatalog();
+        DegreeAuditEngine.Program program = context.getProgram();
+
+        long[] done = context.getCompleted().clone();
+        for (Long courseId : inProgressCourseIds) {
+            int index = graph.indexOf(courseId);
+            if (index >= 0) {
+                BitSets.set(done, index);
+            }
+        }
+
+        // Remaining requirements and their missing prerequisites, as graph indices
+        long[] remaining = BitSets.create(graph.size());
+        List<PlannedCourse> unscheduled = new ArrayList<>();
+        for (DegreeAuditEngine.Requirement requirement : program.getRequirements()) {
+            int index = graph.indexOf(requirement.getCourseId());
+            if (index < 0) {
+                unscheduled.add(new PlannedCourse(requirement.getCourseId(), -1, 0, requirement));
+                continue;
+            }
+            if (BitSets.get(done, index)) {
+                continue;
+            }
+            BitSets.set(remaining, index);
+            for (int prerequisite : graph.prerequisites(index)) {
+                if (!BitSets.get(done, prerequisite)) {
+                    BitSets.set(remaining, prerequisite);
+                }
+            }
+        }
+
+        int m = BitSets.cardinality(remaining);
+        int[] nodes = new int[m];
+        int[] local = new int[graph.size()];
+        Arrays.fill(local, -1);
+        int n = 0;
+        for (int i = BitSets.nextSetBit(remaining, 0); i >= 0; i = BitSets.nextSetBit(remaining, i + 1)) {
+            local[i] = n;
+            nodes[n++] = i;
+        }
+
+        int[] catalogIndex = new int[m];
+        int[] credits = new int[m];
+        int[] priority = new int[m];
+        boolean[] placeable = new boolean[m];
+        int[] height = chainHeights(graph, nodes, local);
+        for (int u = 0; u < m; u++) {
+            int ci = catalog.indexOf(graph.courseIdAt(nodes[u]));
+            catalogIndex[u] = ci;
+            credits[u] = ci >= 0 ? Math.max(0, catalog.creditsAt(ci)) : 0;
+            placeable[u] = ci >= 0 && catalog.isActive(ci) && credits[u] <= maxCreditsPerTerm;
+            DegreeAuditEngine.Requirement requirement = program.requirementFor(graph.courseIdAt(nodes[u]));
+            priority[u] = height[u] + (requirement != null && requirement.isMandatory() ? 1 : 0);
+        }
+
+        List<Term> terms = new ArrayList<>();
+        boolean[] scheduled = new boolean[m];
+        int left = m;
+        boolean timedOut = false;
+        int idleTerms = 0;
+        int termsPerYear = includeSummer ? 3 : 2;
+        LocalDate today = LocalDate.now(clock);
+        int year = today.getYear();
+        String semester;
+        if (today.getMonthValue() <= 4) {
+            semester = includeSummer ? "Summer" : "Fall";
+        } else if (today.getMonthValue() <= 8) {
+            semester = "Fall";
+        } else {
+            semester = "Spring";
+            year++;
+        }
+
+        while (left > 0 && terms.size() < maxTerms && idleTerms < termsPerYear) {
+            byte term = CourseCatalogSnapshot.termMask(semester);
+            int[] available = new int[left];
+            int count = 0;
+            for (int u = 0; u < m; u++) {
+                if (!scheduled[u] && placeable[u] && graph.isSatisfied(nodes[u], done)) {
+                    byte offered = catalog.termsAt(catalogIndex[u]);
+                    if (offered == 0 || (offered & term) != 0) {
+                        available[count++] = u;
+                    }
+                }
+            }
+            if (count == 0 && hasPending(placeable, scheduled, graph, nodes, done)) {
+                // Nothing offered this term yet; skip it rather than end the plan
+                idleTerms++;
+                terms.add(new Term(semester, year, Collections.emptyList(), 0));
+            } else if (count == 0) {
+                break;
+            } else {
+                Selection selection = new Selection(Arrays.copyOf(available, count), credits, priority,
+                        maxCreditsPerTerm, deadline);
+                int[] chosen = selection.select(!timedOut);
+                timedOut |= selection.timedOut;
+
+                List<PlannedCourse> courses = new ArrayList<>(chosen.length);
+                int termCredits = 0;
+                for (int u : chosen) {
+                    scheduled[u] = true;
+                    left--;
+                    termCredits += credits[u];
+                    long courseId = graph.courseIdAt(nodes[u]);
+                    courses.add(new PlannedCourse(courseId, catalogIndex[u], credits[u], program.requirementFor(courseId)));
+                }
+                for (int u : chosen) {
+                    BitSets.set(done, nodes[u]);
+                }
+                idleTerms = chosen.length == 0 ? idleTerms + 1 : 0;
+                terms.add(new Term(semester, year, courses, termCredits));
+            }
+
+            if ("Fall".equals(semester)) {
+                semester = "Spring";
+                year++;
+            } else if ("Spring".equals(semester) && includeSummer) {
+                semester = "Summer";
+            } else {
+                semester = "Fall";
+            }
+        }
+
+        // Trailing terms without courses carry no information
+        while (!terms.isEmpty() && terms.get(terms.size() - 1).courses.isEmpty()) {
+            terms.remove(terms.size() - 1);
+        }
+        for (int u = 0; u < m; u++) {
+            if (!scheduled[u]) {
+                long courseId = graph.courseIdAt(nodes[u]);
+                unscheduled.add(new PlannedCourse(courseId, catalogIndex[u], credits[u], program.requirementFor(courseId)));
+            }
+        }
+        return new Plan(terms, unscheduled, timedOut);
+    }
+
+    /**
+     * Longest chain of remaining dependents starting at each node (1 = nothing remaining depends on it).
+     * A dependent has strictly more transitive prerequisites than each of its prerequisites,
+     * so visiting nodes by descending prerequisite count visits dependents first.
+     */
+    private static int[] chainHeights(PrerequisiteGraph.Snapshot graph, int[] nodes, int[] local) {
+        Integer[] order = new Integer[nodes.length];
+        for (int u = 0; u < nodes.length; u++) {
+            order[u] = u;
+        }
+        Arrays.sort(order, (a, b) -> graph.prerequisites(nodes[b]).length - graph.prerequisites(nodes[a]).length);
+        int[] height = new int[nodes.length];
+        for (int u : order) {
+            int best = 0;
+            for (int dependent : graph.dependents(nodes[u])) {
+                int v = local[dependent];
+                if (v >= 0 && height[v] > best) {
+                    best = height[v];
+                }
+            }
+            height[u] = best + 1;
+        }
+        return height;
+    }
+
+    /**
+     * Whether an unscheduled placeable course has its prerequisites met and only waits for its offering term
+     */
+    private static boolean hasPending(boolean[] placeable, boolean[] scheduled, PrerequisiteGraph.Snapshot graph,
+                                      int[] nodes, long[] done) {
+        for (int u = 0; u < nodes.length; u++) {
+            if (!scheduled[u] && placeable[u] && graph.isSatisfied(nodes[u], done)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Branch-and-bound choice of one term's courses: maximize the sum of credits * (priority + 1)
+     * within the credit cap, bounded by the fractional relaxation, starting from the greedy choice.
+     */
+    private static final class Selection {
+
+        private final int[] items;
+        private final int[] credits;
+        private final int[] weight;
+        private final int cap;
+        private final long deadline;
+
+        private final boolean[] current;
+        private boolean[] best;
+        private long bestValue;
+        private int nodes;
+        private boolean timedOut;
+
+        private Selection(int[] available, int[] credits, int[] priority, int cap, long deadline) {
+            // Highest weight per credit first; ties keep the lower (earlier) graph index
+            Integer[] order = new Integer[available.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = available[i];
+            }
+            Arrays.sort(order, (a, b) -> Integer.compare(priority[b], priority[a]));
+            this.items = new int[order.length];
+            this.weight = new int[order.length];
+            this.credits = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                items[i] = order[i];
+                this.credits[i] = credits[order[i]];
+                weight[i] = priority[order[i]] + 1;
+            }
+            this.cap = cap;
+            this.deadline = deadline;
+            this.current = new boolean[items.length];
+        }
+
+        private int[] select(boolean search) {
+            // Greedy incumbent
+            best = new boolean[items.length];
+            int used = 0;
+            for (int i = 0; i < items.length; i++) {
+                if (used + credits[i] <= cap) {
+                    best[i] = true;
+                    used += credits[i];
+                    bestValue += (long) credits[i] * weight[i];
+                }
+            }
+            if (search) {
+                search(0, cap, 0);
+            }
+            // Courses without credits never compete for the cap
+            for (int i = 0; i < items.length; i++) {
+                if (credits[i] == 0) {
+                    best[i] = true;
+                }
+            }
+
+            int[] chosen = new int[items.length];
+            int count = 0;
+            for (int i = 0; i < items.length; i++) {
+                if (best[i]) {
+                    chosen[count++] = items[i];
+                }
+            }
+            return count == 0 ? NONE : Arrays.copyOf(chosen, count);
+        }
+
+        private void search(int i, int capacity, long value) {
+            if (timedOut) {
+                return;
+            }
+            if (++nodes % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+                timedOut = true;
+                return;
+            }
+            if (value > bestValue) {
+                bestValue = value;
+                best = current.clone();
+            }
+            if (i == items.length || value + bound(i, capacity) <= bestValue) {
+                return;
+            }
+            if (credits[i] <= capacity) {
+                current[i] = true;
+                search(i + 1, capacity - credits[i], value + (long) credits[i] * weight[i]);
+                current[i] = false;
+            }
+            search(i + 1, capacity, value);
+        }
+
+        /**
+         * Upper bound of the value still reachable from item i: fill the capacity fractionally in weight order
+         */
+        private long bound(int i, int capacity) {
+            long extra = 0;
+            for (int j = i; j < items.length && capacity > 0; j++) {
+                int take = Math.min(capacity, credits[j]);
+                extra += (long) take * weight[j];
+                capacity -= take;
+            }
+            return extra;
+        }
+    }
+
+    /**
+     * Planned terms in order plus the courses that could not be placed
+     */
+    public static final class Plan {
+
+        private final List<Term> terms;
+        private final List<PlannedCourse> unscheduled;
+        private final boolean searchTimedOut;
+
+        private Plan(List<Term> terms, List<PlannedCourse> unscheduled, boolean searchTimedOut) {
+            this.terms = terms;
+            this.unscheduled = unscheduled;
+            this.searchTimedOut = searchTimedOut;
+        }
+
+        public List<Term> getTerms() {
+            return terms;
+        }
+
+        /**
+         * Courses not placed: inactive or unknown, over the credit cap, not offered in a planned term,
+         * blocked by such a prerequisite, or beyond the last planned term
+         */
+        public List<PlannedCourse> getUnscheduled() {
+            return unscheduled;
+        }
+
+        /**
+         * Whether the time budget ran out and some terms were filled greedily
+         */
+        public boolean isSearchTimedOut() {
+            return searchTimedOut;
+        }
+    }
+
+    public static final class Term {
+
+        private final String semester;
+        private final int year;
+        private final List<PlannedCourse> courses;
+        private final int credits;
+
+        private Term(String semester, int year, List<PlannedCourse> courses, int credits) {
+            this.semester = semester;
+            this.year = year;
+            this.courses = courses;
+            this.credits = credits;
+        }
+
+        public String getSemester() {
+            return semester;
+        }
+
+        public int getYear() {
+            return year;
+        }
+
+        public List<PlannedCourse> getCourses() {
+            return courses;
+        }
+
+        public int getCredits() {
+            return credits;
+        }
+    }
+
+    public static final class PlannedCourse {
+
+        private final long courseId;
+        private final int catalogIndex;
+        private final int credits;
+        private final DegreeAuditEngine.Requirement requirement;
+
+        private PlannedCourse(long courseId, int catalogIndex, int credits, DegreeAuditEngine.Requirement requirement) {
+            this.courseId = courseId;
+            this.catalogIndex = catalogIndex;
+            this.credits = credits;
+            this.requirement = requirement;
+        }
+
+        public long getCourseId() {
+            return courseId;
+        }
+
+        /**
+         * Catalog index, or -1 when the course is not in the catalog
+         */
+        public int getCatalogIndex() {
+            return catalogIndex;
+        }
+
+        public int getCredits() {
+            return credits;
+        }
+
+        /**
+         * Requirement of the major, or null for a prerequisite outside the program
+         */
+        public DegreeAuditEngine.Requirement getRequirement() {
+            return requirement;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Parallel Scorer
+ * Scores candidates into a bounded top-K, splitting large candidate lists into chunks that run
+ * on the dedicated scoring pool and merging the per-chunk heaps.
+ * Lists below the configured threshold are scored sequentially on the calling thread,
+ * as are lists scored from a task already running on the pool (e.g. cohort batch jobs).
+ */
+@Component
+public class ParallelScorer {
+
+    private final ForkJoinPool pool;
+    private final boolean parallelEnabled;
+    private final int parallelThreshold;
+    private final int chunkSize;
+
+    public ParallelScorer(@Qualifier("recommendationScoringPool") ForkJoinPool pool,
+                          @Value("${recommendation.scoring.parallel-enabled:true}") boolean parallelEnabled,
+                          @Value("${recommendation.scoring.parallel-threshold:2000}") int parallelThreshold,
+                          @Value("${recommendation.scoring.chunk-size:500}") int chunkSize) {
+        this.pool = pool;
+        this.parallelEnabled = parallelEnabled;
+        this.parallelThreshold = parallelThreshold;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Score one candidate; implementations offer accepted results to the sink using the given sequence
+     */
+    @FunctionalInterface
+    public interface CandidateScorer<R> {
+
+        void score(int candidate, long sequence, TopKCollector<R> sink);
+    }
+
+    /**
+     * Score all candidates (dense catalog indices) and keep the k best.
+     * The scorer must only read shared state, as chunks may run concurrently.
+     */
+    public <R> TopKCollector<R> score(int[] candidates, int k, CandidateScorer<R> scorer) {
+        int n = candidates.length;
+        if (!parallelEnabled || n < parallelThreshold || pool.getParallelism() < 2
+                || ForkJoinTask.getPool() == pool) {
+            TopKCollector<R> topK = new TopKCollector<>(k);
+            scoreRange(candidates, 0, n, scorer, topK);
+            return topK;
+        }
+
+        List<ForkJoinTask<TopKCollector<R>>> tasks = new ArrayList<>();
+        for (int from = 0; from < n; from += chunkSize) {
+            int start = from;
+            int end = Math.min(n, from + chunkSize);
+            tasks.add(pool.submit(() -> {
+                TopKCollector<R> chunk = new TopKCollector<>(k);
+                scoreRange(candidates, start, end, scorer, chunk);
+                return chunk;
+            }));
+        }
+
+        TopKCollector<R> topK = new TopKCollector<>(k);
+        for (ForkJoinTask<TopKCollector<R>> task : tasks) {
+            topK.merge(task.join());
+        }
+        return topK;
+    }
+
+    private static <R> void scoreRange(int[] candidates, int from, int to,
+                                       CandidateScorer<R> scorer, TopKCollector<R> sink) {
+        for (int i = from; i < to; i++) {
+            scorer.score(candidates[i], i, sink);
+        }
+    }
+}
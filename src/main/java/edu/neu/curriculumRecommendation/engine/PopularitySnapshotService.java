@@ -0,0 +1,233 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.event.CatalogChangedEvent;
+import edu.neu.curriculumRecommendation.event.EnrollmentChangedEvent;
+import edu.neu.curriculumRecommendation.mapper.repository.CourseRepository;
+import edu.neu.curriculumRecommendation.util.GradeUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Popularity Snapshot Service
+ * Keeps per-course completed enrollment count, average grade points and normalized popularity score.
+ * Counters are updated incrementally as enrollments complete or change, and fully reconciled
+ * against the completed enrollments on a fixed schedule.
+ */
+@Component
+public class PopularitySnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(PopularitySnapshotService.class);
+
+    private static final double ENROLLMENT_WEIGHT = 0.7;
+    private static final double GRADE_WEIGHT = 0.3;
+
+    private final CourseRepository courseRepository;
+
+    // Mutable counters, guarded by this
+    private Map<Long, Counter> counters;
+
+    // Immutable read view, rebuilt lazily after counters change
+    private volatile Snapshot snapshot;
+
+    public PopularitySnapshotService(CourseRepository courseRepository) {
+        this.courseRepository = courseRepository;
+    }
+
+    /**
+     * Get the current popularity snapshot
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    if (counters == null) {
+                        counters = loadCounters();
+                    }
+                    current = Snapshot.of(counters);
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Reload all counters from the completed enrollments
+     */
+    @Scheduled(fixedDelayString = "${recommendation.popularity.reconcile-interval-ms:900000}",
+            initialDelayString = "${recommendation.popularity.reconcile-interval-ms:900000}")
+    public void reconcile() {
+        // Enrollment changes committed while the statistics query runs are corrected by the next reconcile
+        Map<Long, Counter> reloaded = loadCounters();
+        synchronized (this) {
+            counters = reloaded;
+            snapshot = null;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        if (!event.wasCompleted() && !event.isCompleted()) {
+            return;
+        }
+        synchronized (this) {
+            if (counters == null) {
+                // Not loaded yet; the first read loads current data
+                return;
+            }
+            if (event.wasCompleted()) {
+                Counter counter = counters.get(event.getCourseId());
+                if (counter != null) {
+                    counter.remove(gradePoints(event.getPreviousGrade()));
+                    if (counter.count <= 0) {
+                        counters.remove(event.getCourseId());
+                    }
+                }
+            }
+            if (event.isCompleted()) {
+                counters.computeIfAbsent(event.getCourseId(), id -> new Counter())
+                        .add(gradePoints(event.getGrade()));
+            }
+            snapshot = null;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.getScope() == CatalogChangedEvent.Scope.COURSES) {
+            // Deleted courses take their enrollments with them
+            synchronized (this) {
+                counters = null;
+                snapshot = null;
+            }
+        }
+    }
+
+    /**
+     * Grade points as findCourseGradeTotals maps them: only a grade stored exactly as a letter counts
+     */
+    private static Double gradePoints(String grade) {
+        if (grade == null || !grade.equals(grade.trim().toUpperCase(Locale.ROOT))) {
+            return null;
+        }
+        return GradeUtil.gradeToGPA(grade);
+    }
+
+    private Map<Long, Counter> loadCounters() {
+        long start = System.nanoTime();
+        List<Object[]> totals = courseRepository.findCourseGradeTotals();
+        Map<Long, Counter> loaded = new HashMap<>(totals.size() * 2);
+        for (Object[] row : totals) {
+            Counter counter = new Counter();
+            counter.count = ((Number) row[1]).longValue();
+            counter.gradedCount = row[2] != null ? ((Number) row[2]).longValue() : 0L;
+            counter.gradePointSum = row[3] != null ? ((Number) row[3]).doubleValue() : 0.0;
+            loaded.put((Long) row[0], counter);
+        }
+        log.debug("Loaded popularity statistics for {} courses in {} ms",
+                loaded.size(), (System.nanoTime() - start) / 1_000_000);
+        return loaded;
+    }
+
+    private static final class Counter {
+
+        private long count;
+        private long gradedCount;
+        private double gradePointSum;
+
+        private void add(Double gradePoints) {
+            count++;
+            if (gradePoints != null) {
+                gradedCount++;
+                gradePointSum += gradePoints;
+            }
+        }
+
+        private void remove(Double gradePoints) {
+            count--;
+            if (gradePoints != null && gradedCount > 0) {
+                gradedCount--;
+                gradePointSum -= gradePoints;
+            }
+        }
+
+        private double averageGrade() {
+            return gradedCount == 0 ? 0.0 : gradePointSum / gradedCount;
+        }
+    }
+
+    /**
+     * Immutable popularity view over courses with at least one completed enrollment
+     */
+    public static final class Snapshot {
+
+        private final long[] courseIds;
+        private final long[] enrollmentCounts;
+        private final double[] averageGrades;
+        private final double[] normalizedScores;
+
+        private Snapshot(long[] courseIds, long[] enrollmentCounts, double[] averageGrades, double[] normalizedScores) {
+            this.courseIds = courseIds;
+            this.enrollmentCounts = enrollmentCounts;
+            this.averageGrades = averageGrades;
+            this.normalizedScores = normalizedScores;
+        }
+
+        private static Snapshot of(Map<Long, Counter> counters) {
+            long[] ids = new long[counters.size()];
+            int n = 0;
+            for (Long id : counters.keySet()) {
+                ids[n++] = id;
+            }
+            Arrays.sort(ids);
+            long[] counts = new long[n];
+            double[] averages = new double[n];
+            double[] scores = new double[n];
+            double max = 0.0;
+            for (int i = 0; i < n; i++) {
+                Counter counter = counters.get(ids[i]);
+                counts[i] = counter.count;
+                averages[i] = counter.averageGrade();
+                scores[i] = counts[i] * ENROLLMENT_WEIGHT + averages[i] * 10 * GRADE_WEIGHT;
+                max = Math.max(max, scores[i]);
+            }
+            for (int i = 0; i < n; i++) {
+                scores[i] = max > 0 ? scores[i] / max : 0.0;
+            }
+            return new Snapshot(ids, counts, averages, scores);
+        }
+
+        private int indexOf(Long courseId) {
+            return courseId == null ? -1 : Arrays.binarySearch(courseIds, courseId);
+        }
+
+        public long getEnrollmentCount(Long courseId) {
+            int index = indexOf(courseId);
+            return index < 0 ? 0L : enrollmentCounts[index];
+        }
+
+        public double getAverageGrade(Long courseId) {
+            int index = indexOf(courseId);
+            return index < 0 ? 0.0 : averageGrades[index];
+        }
+
+        /**
+         * Popularity relative to the most popular course, 0.0 - 1.0
+         */
+        public double getNormalizedScore(Long courseId) {
+            int index = indexOf(courseId);
+            return index < 0 ? 0.0 : normalizedScores[index];
+        }
+    }
+}
@@ -0,0 +1,593 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.event.CatalogChangedEvent;
+import edu.neu.curriculumRecommendation.event.PrerequisiteChangedEvent;
+import edu.neu.curriculumRecommendation.exception.ResourceNotFoundException;
+import edu.neu.curriculumRecommendation.exception.ValidationException;
+import edu.neu.curriculumRecommendation.mapper.repository.CourseRepository;
+import edu.neu.curriculumRecommendation.mapper.repository.PrerequisiteRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prerequisite Graph
+ * In-memory prerequisite DAG loaded once from all Prerequisite edges, with the
+ * ancestor closure and BFS level of every course precomputed, plus the reverse (dependent) adjacency.
+ * Every course id is mapped to a dense int index so closures and completed sets
+ * can be compared as long[] bitsets.
+ * Prerequisite edges written through addEdge / removeEdge are validated against the closure bitsets
+ * (an edge closing a cycle is rejected in O(1)) and applied by recomputing only the closures of the
+ * changed course and its dependents. This check is only a fast path: the writer validates again against the
+ * committed edges under the catalog revision lock, which also covers writes from other instances.
+ * The graph is dropped after other prerequisite or course changes and rebuilt on next access.
+ */
+@Component
+public class PrerequisiteGraph {
+
+    private static final Logger log = LoggerFactory.getLogger(PrerequisiteGraph.class);
+
+    private static final int[] EMPTY = new int[0];
+
+    private final CourseRepository courseRepository;
+    private final PrerequisiteRepository prerequisiteRepository;
+
+    private volatile Snapshot snapshot;
+
+    // Bumped on invalidation so a graph loaded or updated concurrently is not published
+    private final AtomicLong generation = new AtomicLong();
+
+    public PrerequisiteGraph(CourseRepository courseRepository,
+                             PrerequisiteRepository prerequisiteRepository) {
+        this.courseRepository = courseRepository;
+        this.prerequisiteRepository = prerequisiteRepository;
+    }
+
+    /**
+     * Get the current graph, loading it if needed.
+     * Callers should hold on to one snapshot per request so that indices and bitsets stay consistent.
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    long loadGeneration = generation.get();
+                    current = load();
+                    if (generation.get() == loadGeneration) {
+                        snapshot = current;
+                    }
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Whether the graph is in memory; when it is not, a single-course lookup is cheaper in the database
+     */
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    /**
+     * Get all prerequisites of a course with their BFS level (1 = direct)
+     *
+     * @param courseId course id
+     * @return prerequisite course id to level, ordered by level asc
+     */
+    public Map<Long, Integer> getAllPrerequisitesWithLevels(Long courseId) {
+        return snapshot().getAllPrerequisitesWithLevels(courseId);
+    }
+
+    /**
+     * Drop the loaded graph so the next read rebuilds it
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    /**
+     * Add the edge "course requires prerequisite" unless it would close a cycle, then apply it in memory.
+     * Only the in-memory check and the apply hold the graph lock; the persist step runs between them and must
+     * check again against the committed edges, since a concurrent write may land in between.
+     *
+     * @param persist stores the edge; only run when the edge is valid
+     * @throws ValidationException when the prerequisite already requires the course, directly or transitively
+     */
+    public void addEdge(Long courseId, Long prerequisiteCourseId, Runnable persist) {
+        synchronized (this) {
+            Snapshot current = snapshotContaining(courseId, prerequisiteCourseId);
+            int course = current.indexOf(courseId);
+            int prerequisite = current.indexOf(prerequisiteCourseId);
+            if (course == prerequisite) {
+                throw new ValidationException("A course cannot be its own prerequisite");
+            }
+            if (current.requires(prerequisite, course)) {
+                throw new ValidationException("Prerequisite would create a cycle: course " + prerequisiteCourseId
+                        + " already requires course " + courseId);
+            }
+        }
+        persist.run();
+        apply(courseId, prerequisiteCourseId, true);
+    }
+
+    /**
+     * Remove the edge "course requires prerequisite" and apply it in memory
+     *
+     * @param persist deletes the edge
+     */
+    public void removeEdge(Long courseId, Long prerequisiteCourseId, Runnable persist) {
+        synchronized (this) {
+            snapshotContaining(courseId, prerequisiteCourseId);
+        }
+        persist.run();
+        apply(courseId, prerequisiteCourseId, false);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event instanceof PrerequisiteChangedEvent) {
+            // Already applied by addEdge / removeEdge
+            return;
+        }
+        if (event.getScope() != CatalogChangedEvent.Scope.PROGRAM_REQUIREMENTS) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Current graph indexing both courses; reloads once for courses created after the graph was loaded
+     */
+    private Snapshot snapshotContaining(Long courseId, Long prerequisiteCourseId) {
+        Snapshot current = snapshot();
+        if (current.indexOf(courseId) < 0 || current.indexOf(prerequisiteCourseId) < 0) {
+            invalidate();
+            current = snapshot();
+        }
+        if (current.indexOf(courseId) < 0) {
+            throw new ResourceNotFoundException("Course not found with id: " + courseId);
+        }
+        if (current.indexOf(prerequisiteCourseId) < 0) {
+            throw new ResourceNotFoundException("Course not found with id: " + prerequisiteCourseId);
+        }
+        return current;
+    }
+
+    /**
+     * Apply a committed edge write to the published graph. A graph loaded after the commit already reflects it
+     * and is kept; a graph invalidated meanwhile is left to the next read to reload.
+     */
+    private synchronized void apply(Long courseId, Long prerequisiteCourseId, boolean added) {
+        long writeGeneration = generation.get();
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        int course = current.indexOf(courseId);
+        int prerequisite = current.indexOf(prerequisiteCourseId);
+        if (course < 0 || prerequisite < 0) {
+            invalidate();
+            return;
+        }
+        if (current.hasDirectPrerequisite(course, prerequisite) == added) {
+            return;
+        }
+        Snapshot updated = added ? current.withEdge(course, prerequisite) : current.withoutEdge(course, prerequisite);
+        if (generation.get() == writeGeneration) {
+            snapshot = updated;
+        } else {
+            invalidate();
+        }
+    }
+
+    private Snapshot load() {
+        long start = System.nanoTime();
+        List<Long> courseIds = courseRepository.findAllIds();
+        List<Object[]> edges = prerequisiteRepository.findAllEdges();
+
+        // Dense index: position in the sorted id array
+        long[] ids = new long[courseIds.size()];
+        int n = 0;
+        for (Long id : courseIds) {
+            if (id != null) {
+                ids[n++] = id;
+            }
+        }
+        ids = Arrays.copyOf(ids, n);
+        Arrays.sort(ids);
+
+        int[] from = new int[edges.size()];
+        int[] to = new int[edges.size()];
+        int edgeCount = 0;
+        for (Object[] edge : edges) {
+            if (edge[0] == null || edge[1] == null) {
+                continue;
+            }
+            int c = Arrays.binarySearch(ids, (Long) edge[0]);
+            int p = Arrays.binarySearch(ids, (Long) edge[1]);
+            if (c < 0 || p < 0) {
+                continue;
+            }
+            from[edgeCount] = c;
+            to[edgeCount] = p;
+            edgeCount++;
+        }
+
+        // Direct prerequisite adjacency
+        int[] degree = new int[n];
+        for (int e = 0; e < edgeCount; e++) {
+            degree[from[e]]++;
+        }
+        int[][] direct = new int[n][];
+        for (int i = 0; i < n; i++) {
+            direct[i] = degree[i] == 0 ? EMPTY : new int[degree[i]];
+        }
+        int[] fill = new int[n];
+        for (int e = 0; e < edgeCount; e++) {
+            direct[from[e]][fill[from[e]]++] = to[e];
+        }
+
+        // Reverse adjacency: courses that list each course as a direct prerequisite
+        int[] dependentDegree = new int[n];
+        for (int e = 0; e < edgeCount; e++) {
+            dependentDegree[to[e]]++;
+        }
+        int[][] dependents = new int[n][];
+        for (int i = 0; i < n; i++) {
+            dependents[i] = dependentDegree[i] == 0 ? EMPTY : new int[dependentDegree[i]];
+        }
+        Arrays.fill(fill, 0);
+        for (int e = 0; e < edgeCount; e++) {
+            dependents[to[e]][fill[to[e]]++] = from[e];
+        }
+
+        int[][] closure = new int[n][];
+        int[][] levels = new int[n][];
+        long[][] closureBits = new long[n][];
+        long[] roots = BitSets.create(n);
+        Traversal traversal = new Traversal(n);
+        for (int root = 0; root < n; root++) {
+            if (direct[root].length == 0) {
+                BitSets.set(roots, root);
+            }
+            traversal.fill(root, direct, closure, levels, closureBits);
+        }
+
+        Snapshot loaded = new Snapshot(ids, direct, closure, levels, closureBits, dependents, roots);
+        int cyclic = loaded.countCyclic();
+        if (cyclic > 0) {
+            log.warn("Prerequisite graph contains cycles through {} courses; new edges on them are still rejected",
+                    cyclic);
+        }
+        log.debug("Loaded prerequisite graph: {} courses, {} edges in {} ms",
+                n, edgeCount, (System.nanoTime() - start) / 1_000_000);
+        return loaded;
+    }
+
+    /**
+     * Reusable BFS scratch space for computing closures over a direct adjacency
+     */
+    private static final class Traversal {
+
+        private final int[] visitedStamp;
+        private final int[] queue;
+        private final int[] queueLevel;
+        private int stamp;
+
+        private Traversal(int size) {
+            this.visitedStamp = new int[size];
+            this.queue = new int[size];
+            this.queueLevel = new int[size];
+        }
+
+        /**
+         * BFS from root over its prerequisites; ancestors come out already ordered by level
+         */
+        private void fill(int root, int[][] direct, int[][] closure, int[][] levels, long[][] closureBits) {
+            if (direct[root].length == 0) {
+                closure[root] = EMPTY;
+                levels[root] = EMPTY;
+                closureBits[root] = null;
+                return;
+            }
+            stamp++;
+            visitedStamp[root] = stamp;
+            int head = 0;
+            int tail = 0;
+            for (int prereq : direct[root]) {
+                if (visitedStamp[prereq] != stamp) {
+                    visitedStamp[prereq] = stamp;
+                    queue[tail] = prereq;
+                    queueLevel[tail++] = 1;
+                }
+            }
+            while (head < tail) {
+                int node = queue[head];
+                int level = queueLevel[head++];
+                for (int prereq : direct[node]) {
+                    if (visitedStamp[prereq] != stamp) {
+                        visitedStamp[prereq] = stamp;
+                        queue[tail] = prereq;
+                        queueLevel[tail++] = level + 1;
+                    }
+                }
+            }
+            closure[root] = Arrays.copyOf(queue, tail);
+            levels[root] = Arrays.copyOf(queueLevel, tail);
+            long[] bits = BitSets.create(visitedStamp.length);
+            for (int i = 0; i < tail; i++) {
+                BitSets.set(bits, queue[i]);
+            }
+            closureBits[root] = bits;
+        }
+    }
+
+    /**
+     * Immutable graph state, swapped as a whole on rebuild
+     */
+    public static final class Snapshot {
+
+        private final long[] ids;
+        private final int[][] direct;
+        private final int[][] closure;
+        private final int[][] levels;
+        // null when the course has no prerequisites
+        private final long[][] closureBits;
+        private final int[][] dependents;
+        // Courses without prerequisites
+        private final long[] roots;
+
+        private Snapshot(long[] ids, int[][] direct, int[][] closure, int[][] levels, long[][] closureBits,
+                         int[][] dependents, long[] roots) {
+            this.ids = ids;
+            this.direct = direct;
+            this.closure = closure;
+            this.levels = levels;
+            this.closureBits = closureBits;
+            this.dependents = dependents;
+            this.roots = roots;
+        }
+
+        /**
+         * Number of indexed courses
+         */
+        public int size() {
+            return ids.length;
+        }
+
+        /**
+         * Dense index of a course, or -1 when the course is unknown
+         */
+        public int indexOf(Long courseId) {
+            if (courseId == null) {
+                return -1;
+            }
+            int index = Arrays.binarySearch(ids, courseId);
+            return index < 0 ? -1 : index;
+        }
+
+        public long courseIdAt(int index) {
+            return ids[index];
+        }
+
+        public boolean hasPrerequisites(Long courseId) {
+            int index = indexOf(courseId);
+            return index >= 0 && closureBits[index] != null;
+        }
+
+        /**
+         * Build a bitset of the given course ids; unknown ids are ignored
+         */
+        public long[] toBitSet(Collection<Long> courseIds) {
+            long[] bits = BitSets.create(ids.length);
+            for (Long courseId : courseIds) {
+                int index = indexOf(courseId);
+                if (index >= 0) {
+                    BitSets.set(bits, index);
+                }
+            }
+            return bits;
+        }
+
+        /**
+         * Whether every transitive prerequisite of the course is in the completed bitset
+         */
+        public boolean allPrerequisitesMet(Long courseId, long[] completed) {
+            int index = indexOf(courseId);
+            return index < 0 || closureBits[index] == null || BitSets.containsAll(closureBits[index], completed);
+        }
+
+        /**
+         * Whether every transitive prerequisite of the course at this index is in the completed bitset
+         */
+        public boolean isSatisfied(int index, long[] completed) {
+            return closureBits[index] == null || BitSets.containsAll(closureBits[index], completed);
+        }
+
+        /**
+         * Whether the course at this index requires the other one, directly or transitively; O(1)
+         */
+        public boolean requires(int index, int prerequisite) {
+            return closureBits[index] != null && BitSets.get(closureBits[index], prerequisite);
+        }
+
+        /**
+         * Direct prerequisites of the course at this index; must not be modified
+         */
+        public int[] directPrerequisites(int index) {
+            return direct[index];
+        }
+
+        /**
+         * Whether the course at this index requires the other one directly
+         */
+        public boolean hasDirectPrerequisite(int index, int prerequisite) {
+            for (int value : direct[index]) {
+                if (value == prerequisite) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * BFS level of a prerequisite of the course at this index (1 = direct), or 0 when it is not one
+         */
+        public int levelOf(int index, int prerequisite) {
+            int[] ancestors = closure[index];
+            for (int i = 0; i < ancestors.length; i++) {
+                if (ancestors[i] == prerequisite) {
+                    return levels[index][i];
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * Transitive prerequisites of the course at this index, ordered by level asc; must not be modified
+         */
+        public int[] prerequisites(int index) {
+            return closure[index];
+        }
+
+        /**
+         * Courses listing the course at this index as a direct prerequisite
+         */
+        public int[] dependents(int index) {
+            return dependents[index];
+        }
+
+        /**
+         * Courses not completed whose prerequisites are all completed.
+         * Only courses without prerequisites and direct dependents of completed courses can qualify,
+         * so the rest of the graph is never visited.
+         */
+        public long[] eligible(long[] completed) {
+            long[] eligible = roots.clone();
+            BitSets.andNot(eligible, completed);
+            for (int c = BitSets.nextSetBit(completed, 0); c >= 0; c = BitSets.nextSetBit(completed, c + 1)) {
+                for (int dependent : dependents[c]) {
+                    if (!BitSets.get(completed, dependent) && !BitSets.get(eligible, dependent)
+                            && BitSets.containsAll(closureBits[dependent], completed)) {
+                        BitSets.set(eligible, dependent);
+                    }
+                }
+            }
+            return eligible;
+        }
+
+        /**
+         * Courses on a cycle: a direct prerequisite is the course itself or requires it
+         */
+        private int countCyclic() {
+            int count = 0;
+            for (int i = 0; i < ids.length; i++) {
+                for (int prereq : direct[i]) {
+                    if (prereq == i || requires(prereq, i)) {
+                        count++;
+                        break;
+                    }
+                }
+            }
+            return count;
+        }
+
+        private Snapshot withEdge(int course, int prerequisite) {
+            int[][] nextDirect = direct.clone();
+            nextDirect[course] = append(direct[course], prerequisite);
+            int[][] nextDependents = dependents.clone();
+            nextDependents[prerequisite] = append(dependents[prerequisite], course);
+            long[] nextRoots = roots.clone();
+            BitSets.clear(nextRoots, course);
+            return recompute(course, nextDirect, nextDependents, nextRoots);
+        }
+
+        private Snapshot withoutEdge(int course, int prerequisite) {
+            int[][] nextDirect = direct.clone();
+            nextDirect[course] = remove(direct[course], prerequisite);
+            int[][] nextDependents = dependents.clone();
+            nextDependents[prerequisite] = remove(dependents[prerequisite], course);
+            long[] nextRoots = roots.clone();
+            if (nextDirect[course].length == 0) {
+                BitSets.set(nextRoots, course);
+            }
+            return recompute(course, nextDirect, nextDependents, nextRoots);
+        }
+
+        /**
+         * Copy of this graph with the closures of the course and of every course depending on it
+         * recomputed; all other rows are shared
+         */
+        private Snapshot recompute(int course, int[][] nextDirect, int[][] nextDependents, long[] nextRoots) {
+            int n = ids.length;
+            int[][] nextClosure = closure.clone();
+            int[][] nextLevels = levels.clone();
+            long[][] nextClosureBits = closureBits.clone();
+            Traversal traversal = new Traversal(n);
+
+            long[] visited = BitSets.create(n);
+            int[] queue = new int[n];
+            int head = 0;
+            int tail = 0;
+            BitSets.set(visited, course);
+            queue[tail++] = course;
+            while (head < tail) {
+                int node = queue[head++];
+                traversal.fill(node, nextDirect, nextClosure, nextLevels, nextClosureBits);
+                for (int dependent : nextDependents[node]) {
+                    if (!BitSets.get(visited, dependent)) {
+                        BitSets.set(visited, dependent);
+                        queue[tail++] = dependent;
+                    }
+                }
+            }
+            return new Snapshot(ids, nextDirect, nextClosure, nextLevels, nextClosureBits, nextDependents, nextRoots);
+        }
+
+        private static int[] append(int[] values, int value) {
+            int[] next = Arrays.copyOf(values, values.length + 1);
+            next[values.length] = value;
+            return next;
+        }
+
+        private static int[] remove(int[] values, int value) {
+            int[] next = new int[values.length];
+            int n = 0;
+            for (int v : values) {
+                if (v != value) {
+                    next[n++] = v;
+                }
+            }
+            return n == 0 ? EMPTY : Arrays.copyOf(next, n);
+        }
+
+        /**
+         * Get all prerequisites of a course with their BFS level (1 = direct), ordered by level asc
+         */
+        public Map<Long, Integer> getAllPrerequisitesWithLevels(Long courseId) {
+            int index = indexOf(courseId);
+            if (index < 0 || closure[index].length == 0) {
+                return Collections.emptyMap();
+            }
+            int[] ancestors = closure[index];
+            int[] ancestorLevels = levels[index];
+            Map<Long, Integer> result = new LinkedHashMap<>(ancestors.length * 2);
+            for (int i = 0; i < ancestors.length; i++) {
+                result.put(ids[ancestors[i]], ancestorLevels[i]);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reason Code
+ * Compact explanation recorded while scoring. A candidate keeps its reasons as a bitmask of ordinals
+ * plus a few numeric parameters; the text is only rendered for the returned recommendations.
+ * Reasons render in declaration order.
+ */
+public enum ReasonCode {
+
+    // Personalized
+    GPA_ADVANCED("Your high GPA suits advanced courses."),
+    GPA_INTERMEDIATE("This intermediate course matches your performance."),
+    GPA_FOUNDATIONAL("A good foundational course."),
+    NO_PREREQUISITES_REQUIRED("No prerequisites required."),
+    ALL_PREREQUISITES_MET("All prerequisites met."),
+    INTEREST_STRONG("Strongly aligns with your career interests."),
+    INTEREST_ALIGNED("Aligns with your career interests."),
+    INTEREST_SOME("Somewhat relevant to your career interests."),
+    UPCOMING_SEMESTER("Available in upcoming %s semester."),
+    BOTH_SEMESTERS("Available in both semesters."),
+    UNLOCKS_COURSES("Opens the way to %d further courses."),
+
+    // Popularity
+    POPULAR("Popular course with %d students enrolled."),
+    GRADE_HIGH("High average grade (%.2f)."),
+    GRADE_GOOD("Good average grade (%.2f)."),
+    GRADE_MODERATE("Moderate average grade (%.2f)."),
+
+    // Co-enrollment
+    CO_ENROLLED("Often taken by students who completed %s."),
+
+    // Degree requirements; missing prerequisite codes are appended to the last reason
+    MANDATORY_FOR_MAJOR("Required core course for %s major."),
+    ELECTIVE_FOR_MAJOR("Recommended elective for %s major."),
+    CORE("Core course."),
+    FOUNDATION("Foundation course."),
+    NO_PREREQUISITES("No prerequisites."),
+    PREREQUISITES_MET("Prerequisites met."),
+    CRITICAL_PATH("Starts your longest remaining prerequisite chain (%d courses)."),
+    PREREQUISITES_NEEDED("Prerequisites needed:");
+
+    // Numeric parameter slots
+    public static final int PARAM_ENROLLMENT_COUNT = 0;
+    public static final int PARAM_AVERAGE_GRADE = 1;
+    public static final int PARAM_RELATED_COURSE = 2;
+    public static final int PARAM_UNLOCK_COUNT = 3;
+    public static final int PARAM_CHAIN_LENGTH = 4;
+    public static final int PARAM_COUNT = 5;
+
+    private static final ReasonCode[] VALUES = values();
+
+    private final String template;
+
+    ReasonCode(String template) {
+        this.template = template;
+    }
+
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    /**
+     * Render a reason bitmask as text
+     *
+     * @param reasons              reason bitmask
+     * @param params               numeric parameters by PARAM_* slot, may be null
+     * @param context              request context supplying the major and upcoming semester
+     * @param missingPrerequisites course codes appended after PREREQUISITES_NEEDED
+     * @return reason text
+     */
+    public static String render(long reasons, double[] params, RecommendationContext context,
+                                List<String> missingPrerequisites) {
+        StringBuilder text = new StringBuilder();
+        for (ReasonCode code : VALUES) {
+            if ((reasons & code.bit()) == 0) {
+                continue;
+            }
+            if (text.length() > 0) {
+                text.append(' ');
+            }
+            switch (code) {
+                case UPCOMING_SEMESTER:
+                    text.append(String.format(code.template, context.getUpcomingSemester()));
+                    break;
+                case MANDATORY_FOR_MAJOR:
+                case ELECTIVE_FOR_MAJOR:
+                    text.append(String.format(code.template, context.getStudent().getMajor()));
+                    break;
+                case POPULAR:
+                    text.append(String.format(code.template, (long) param(params, PARAM_ENROLLMENT_COUNT)));
+                    break;
+                case UNLOCKS_COURSES:
+                    text.append(String.format(code.template, (long) param(params, PARAM_UNLOCK_COUNT)));
+                    break;
+                case CRITICAL_PATH:
+                    text.append(String.format(code.template, (long) param(params, PARAM_CHAIN_LENGTH)));
+                    break;
+                case GRADE_HIGH:
+                case GRADE_GOOD:
+                case GRADE_MODERATE:
+                    text.append(String.format(Locale.ROOT, code.template, param(params, PARAM_AVERAGE_GRADE)));
+                    break;
+                case CO_ENROLLED:
+                    int related = context.getCatalog().indexOf((long) param(params, PARAM_RELATED_COURSE));
+                    text.append(String.format(code.template,
+                            related >= 0 ? context.getCatalog().courseAt(related).getCourseCode() : "your courses"));
+                    break;
+                case PREREQUISITES_NEEDED:
+                    text.append(code.template);
+                    for (String courseCode : missingPrerequisites) {
+                        text.append(' ').append(courseCode);
+                    }
+                    break;
+                default:
+                    text.append(code.template);
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Drop degree-requirement reasons that repeat a personalized reason with the same meaning,
+     * so a blended candidate states each fact once
+     */
+    public static long collapseDuplicates(long reasons) {
+        if ((reasons & NO_PREREQUISITES_REQUIRED.bit()) != 0) {
+            reasons &= ~NO_PREREQUISITES.bit();
+        }
+        if ((reasons & ALL_PREREQUISITES_MET.bit()) != 0) {
+            reasons &= ~PREREQUISITES_MET.bit();
+        }
+        return reasons;
+    }
+
+    /**
+     * Copy the parameters of the reasons set in one component's bitmask into merged parameters,
+     * so a blended candidate keeps the numbers of every component that set a reason
+     *
+     * @param merged  merged parameters, or null before any reason needed one
+     * @param reasons component reason bitmask
+     * @param params  component parameters by PARAM_* slot, may be null
+     * @return merged parameters, allocated on first use
+     */
+    public static double[] mergeParams(double[] merged, long reasons, double[] params) {
+        if (params == null) {
+            return merged;
+        }
+        for (ReasonCode code : VALUES) {
+            int slot = code.paramSlot();
+            if (slot < 0 || slot >= params.length || (reasons & code.bit()) == 0) {
+                continue;
+            }
+            if (merged == null) {
+                merged = new double[PARAM_COUNT];
+            }
+            merged[slot] = params[slot];
+        }
+        return merged;
+    }
+
+    private int paramSlot() {
+        switch (this) {
+            case POPULAR:
+                return PARAM_ENROLLMENT_COUNT;
+            case GRADE_HIGH:
+            case GRADE_GOOD:
+            case GRADE_MODERATE:
+                return PARAM_AVERAGE_GRADE;
+            case CO_ENROLLED:
+                return PARAM_RELATED_COURSE;
+            case UNLOCKS_COURSES:
+                return PARAM_UNLOCK_COUNT;
+            case CRITICAL_PATH:
+                return PARAM_CHAIN_LENGTH;
+            default:
+                return -1;
+        }
+    }
+
+    private static double param(double[] params, int slot) {
+        return params != null && slot < params.length ? params[slot] : 0.0;
+    }
+}
@@ -0,0 +1,249 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.entity.Student;
+
+import java.time.LocalDate;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Recommendation Context
+ * Per-request state shared by every pipeline stage: the student, one versioned catalog snapshot (courses,
+ * prerequisite graph and programs, so every stage sees the same catalog), and the completed and eligible
+ * courses as bitsets over both, each loaded at most once.
+ * Data not needed by a strategy (tags, popularity, co-enrollment, program requirements, unlocks,
+ * critical path) is never loaded.
+ */
+public final class RecommendationContext {
+
+    private final Student student;
+    private final long catalogVersion;
+    private final CourseCatalogSnapshot catalog;
+    private final PrerequisiteGraph.Snapshot graph;
+    private final long[] completed;
+    private final long[] completedInCatalog;
+    private final long[] eligibleInCatalog;
+    private final int[] eligibleIndices;
+    private final String upcomingSemester;
+    private final byte upcomingTerm;
+
+    private final Lazy<CareerTagIndex.Snapshot> careerTags;
+    private final Lazy<int[]> interestMatches;
+    private final Lazy<PopularitySnapshotService.Snapshot> popularity;
+    private final Lazy<CoEnrollmentIndex.Affinity> coEnrollment;
+    private final Lazy<DegreeAuditEngine.Program> program;
+    private final Lazy<UnlockIndex.Snapshot> unlocks;
+    private final Lazy<CriticalPathEngine.Remaining> criticalPath;
+
+    RecommendationContext(Student student,
+                          CatalogSnapshotHolder.Snapshot catalogSnapshot,
+                          long[] completed,
+                          long[] eligible,
+                          Supplier<CareerTagIndex.Snapshot> careerTags,
+                          Supplier<PopularitySnapshotService.Snapshot> popularity,
+                          Supplier<CoEnrollmentIndex.Snapshot> coEnrollment,
+                          Supplier<UnlockIndex.Snapshot> unlocks,
+                          Function<RecommendationContext, CriticalPathEngine.Remaining> criticalPath) {
+        this.student = student;
+        this.catalogVersion = catalogSnapshot.getVersion();
+        this.catalog = catalogSnapshot.getCourses();
+        this.graph = catalogSnapshot.getGraph();
+        this.completed = completed;
+        this.completedInCatalog = toCatalogBits(completed, graph, catalog);
+        this.eligibleInCatalog = toCatalogBits(eligible, graph, catalog);
+        this.eligibleIndices = new int[BitSets.cardinality(eligibleInCatalog)];
+        int n = 0;
+        for (int i = BitSets.nextSetBit(eligibleInCatalog, 0); i >= 0; i = BitSets.nextSetBit(eligibleInCatalog, i + 1)) {
+            eligibleIndices[n++] = i;
+        }
+        this.upcomingSemester = upcomingSemester();
+        this.upcomingTerm = CourseCatalogSnapshot.termMask(upcomingSemester);
+        this.careerTags = new Lazy<>(careerTags);
+        this.interestMatches = new Lazy<>(this::loadInterestMatches);
+        this.popularity = new Lazy<>(popularity);
+        this.coEnrollment = new Lazy<>(() -> coEnrollment.get().affinity(completed, graph, catalog));
+        this.program = new Lazy<>(() -> catalogSnapshot.program(student.getMajor()));
+        this.unlocks = new Lazy<>(unlocks);
+        this.criticalPath = new Lazy<>(() -> criticalPath.apply(this));
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    /**
+     * Version of the catalog snapshot the context reads
+     */
+    public long getCatalogVersion() {
+        return catalogVersion;
+    }
+
+    public CourseCatalogSnapshot getCatalog() {
+        return catalog;
+    }
+
+    public PrerequisiteGraph.Snapshot getGraph() {
+        return graph;
+    }
+
+    /**
+     * Completed courses as a bitset over the graph's dense course index
+     */
+    public long[] getCompleted() {
+        return completed;
+    }
+
+    /**
+     * Whether the course at this catalog index is completed
+     */
+    public boolean isCompleted(int courseIndex) {
+        return BitSets.get(completedInCatalog, courseIndex);
+    }
+
+    /**
+     * Whether the course at this catalog index is not completed and has all prerequisites completed
+     */
+    public boolean isEligible(int courseIndex) {
+        return BitSets.get(eligibleInCatalog, courseIndex);
+    }
+
+    /**
+     * Catalog indices of eligible courses, ascending
+     */
+    public int[] getEligibleIndices() {
+        return eligibleIndices;
+    }
+
+    /**
+     * Upcoming semester (Fall or Spring; ignore Summer)
+     */
+    public String getUpcomingSemester() {
+        return upcomingSemester;
+    }
+
+    /**
+     * Upcoming semester as a CourseCatalogSnapshot term bit
+     */
+    public byte getUpcomingTerm() {
+        return upcomingTerm;
+    }
+
+    public CareerTagIndex.Snapshot getCareerTags() {
+        return careerTags.get();
+    }
+
+    /**
+     * Number of matching interest keywords per catalog index,
+     * or null when the student has no career interests
+     */
+    public int[] getInterestMatches() {
+        return interestMatches.get();
+    }
+
+    public PopularitySnapshotService.Snapshot getPopularity() {
+        return popularity.get();
+    }
+
+    /**
+     * Co-enrollment affinity of every catalog course with the student's completed courses
+     */
+    public CoEnrollmentIndex.Affinity getCoEnrollment() {
+        return coEnrollment.get();
+    }
+
+    /**
+     * Compiled program requirements of the student's major
+     */
+    public DegreeAuditEngine.Program getProgram() {
+        return program.get();
+    }
+
+    /**
+     * Descendant closure of the context's prerequisite graph
+     */
+    public UnlockIndex.Snapshot getUnlocks() {
+        return unlocks.get();
+    }
+
+    /**
+     * Number of courses not completed by the student that require the course at this catalog index
+     */
+    public int getUnlockWeight(int courseIndex) {
+        int index = graph.indexOf(catalog.courseIdAt(courseIndex));
+        return index < 0 ? 0 : getUnlocks().unlockWeight(index, completed);
+    }
+
+    /**
+     * Longest remaining prerequisite chain through the student's not completed requirements
+     */
+    public CriticalPathEngine.Remaining getCriticalPath() {
+        return criticalPath.get();
+    }
+
+    private int[] loadInterestMatches() {
+        if (student.getCareerInterests() == null) {
+            return null;
+        }
+        CareerTagIndex.Snapshot index = getCareerTags();
+        int[] byTagIndex = index.countMatches(index.tokenize(student.getCareerInterests()));
+        int[] byCatalogIndex = new int[catalog.size()];
+        for (int i = 0; i < byTagIndex.length; i++) {
+            if (byTagIndex[i] > 0) {
+                int courseIndex = catalog.indexOf(index.courseIdAt(i));
+                if (courseIndex >= 0) {
+                    byCatalogIndex[courseIndex] = byTagIndex[i];
+                }
+            }
+        }
+        return byCatalogIndex;
+    }
+
+    private static long[] toCatalogBits(long[] graphBits, PrerequisiteGraph.Snapshot graph,
+                                        CourseCatalogSnapshot catalog) {
+        long[] bits = BitSets.create(catalog.size());
+        for (int i = BitSets.nextSetBit(graphBits, 0); i >= 0; i = BitSets.nextSetBit(graphBits, i + 1)) {
+            int index = catalog.indexOf(graph.courseIdAt(i));
+            if (index >= 0) {
+                BitSets.set(bits, index);
+            }
+        }
+        return bits;
+    }
+
+    private static String upcomingSemester() {
+        int month = LocalDate.now().getMonthValue();
+        if (month >= 1 && month <= 5) {
+            return "Spring";
+        } else if (month >= 6 && month <= 8) {
+            return "Fall";
+        } else {
+            return "Spring";
+        }
+    }
+
+    /**
+     * Value loaded on first access; later reads are a single volatile read
+     */
+    private static final class Lazy<T> {
+
+        private final Supplier<T> loader;
+        private volatile boolean loaded;
+        private T value;
+
+        private Lazy(Supplier<T> loader) {
+            this.loader = loader;
+        }
+
+        private T get() {
+            if (!loaded) {
+                synchronized (this) {
+                    if (!loaded) {
+                        value = loader.get();
+                        loaded = true;
+                    }
+                }
+            }
+            return value;
+        }
+    }
+}
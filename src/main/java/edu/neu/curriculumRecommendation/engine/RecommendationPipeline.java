@@ -0,0 +1,339 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.dto.RecommendationDTO;
+import edu.neu.curriculumRecommendation.entity.Course;
+import edu.neu.curriculumRecommendation.entity.Student;
+import edu.neu.curriculumRecommendation.exception.ResourceNotFoundException;
+import edu.neu.curriculumRecommendation.exception.ValidationException;
+import edu.neu.curriculumRecommendation.mapper.repository.StudentRepository;
+import edu.neu.curriculumRecommendation.vo.response.PipelineStageStatsVO;
+import edu.neu.curriculumRecommendation.vo.response.PrerequisiteCourseVO;
+import edu.neu.curriculumRecommendation.vo.response.RecommendationResponseVO;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Recommendation Pipeline
+ * Shared hot path for every RecommendationStrategy:
+ * context loading -> candidate generation -> filtering and scoring -> top-K ranking -> rendering.
+ * Time spent in each stage is accumulated per strategy.
+ */
+@Component
+public class RecommendationPipeline {
+
+    public static final String STAGE_CONTEXT = "context";
+    public static final String STAGE_CANDIDATES = "candidates";
+    public static final String STAGE_SCORE = "score";
+    public static final String STAGE_RANK = "rank";
+    public static final String STAGE_RENDER = "render";
+
+    private final StudentRepository studentRepository;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final CareerTagIndex careerTagIndex;
+    private final PopularitySnapshotService popularitySnapshotService;
+    private final CoEnrollmentIndex coEnrollmentIndex;
+    private final EligibilityFrontier eligibilityFrontier;
+    private final UnlockIndex unlockIndex;
+    private final CriticalPathEngine criticalPathEngine;
+    private final ParallelScorer parallelScorer;
+    private final Map<String, RecommendationStrategy> strategies;
+
+    private final Map<String, StageTimer> timers = new ConcurrentHashMap<>();
+
+    public RecommendationPipeline(StudentRepository studentRepository,
+                                  CatalogSnapshotHolder catalogSnapshotHolder,
+                                  CareerTagIndex careerTagIndex,
+                                  PopularitySnapshotService popularitySnapshotService,
+                                  CoEnrollmentIndex coEnrollmentIndex,
+                                  EligibilityFrontier eligibilityFrontier,
+                                  UnlockIndex unlockIndex,
+                                  CriticalPathEngine criticalPathEngine,
+                                  ParallelScorer parallelScorer,
+                                  List<RecommendationStrategy> strategies) {
+        this.studentRepository = studentRepository;
+        this.catalogSnapshotHolder = catalogSnapshotHolder;
+        this.careerTagIndex = careerTagIndex;
+        this.popularitySnapshotService = popularitySnapshotService;
+        this.coEnrollmentIndex = coEnrollmentIndex;
+        this.eligibilityFrontier = eligibilityFrontier;
+        this.unlockIndex = unlockIndex;
+        this.criticalPathEngine = criticalPathEngine;
+        this.parallelScorer = parallelScorer;
+        Map<String, RecommendationStrategy> byName = new HashMap<>();
+        for (RecommendationStrategy strategy : strategies) {
+            if (byName.put(strategy.name(), strategy) != null) {
+                throw new IllegalStateException("Duplicate recommendation strategy: " + strategy.name());
+            }
+        }
+        this.strategies = Collections.unmodifiableMap(byName);
+    }
+
+    /**
+     * Look up a registered strategy by name
+     */
+    public RecommendationStrategy strategy(String name) {
+        RecommendationStrategy strategy = strategies.get(name);
+        if (strategy == null) {
+            throw new ValidationException("Unknown recommendation strategy: " + name);
+        }
+        return strategy;
+    }
+
+    /**
+     * Run a strategy for one student and render recommendation DTOs
+     *
+     * @param explain whether to render reason text
+     */
+    public List<RecommendationDTO> recommendDtos(String strategyName, Long studentId, int limit, boolean explain) {
+        RecommendationStrategy strategy = strategy(strategyName);
+        RecommendationContext context = createContext(strategy, studentId);
+        return renderDtos(strategy, rank(strategy, context, limit), context, explain);
+    }
+
+    /**
+     * Run a strategy for one student and render response VOs
+     *
+     * @param explain whether to render reason text and prerequisite chains
+     */
+    public List<RecommendationResponseVO> recommendResponses(String strategyName, Long studentId, int limit,
+                                                             boolean explain) {
+        RecommendationStrategy strategy = strategy(strategyName);
+        RecommendationContext context = createContext(strategy, studentId);
+        return renderResponses(strategy, rank(strategy, context, limit), context, explain);
+    }
+
+    /**
+     * Load the student and their cached completed / eligible frontier over the published catalog snapshot;
+     * tags, popularity, co-enrollment and unlocks are loaded on first use
+     */
+    public RecommendationContext createContext(Long studentId) {
+        Student student = studentRepository.findById(studentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + studentId));
+        CatalogSnapshotHolder.Snapshot catalogSnapshot = catalogSnapshotHolder.current();
+        PrerequisiteGraph.Snapshot graph = catalogSnapshot.getGraph();
+        EligibilityFrontier.Frontier frontier = eligibilityFrontier.get(studentId, graph);
+        return new RecommendationContext(student, catalogSnapshot,
+                frontier.getCompleted(), frontier.getEligible(),
+                careerTagIndex::snapshot,
+                popularitySnapshotService::snapshot,
+                coEnrollmentIndex::snapshot,
+                () -> unlockIndex.of(graph),
+                criticalPathEngine::remaining);
+    }
+
+    /**
+     * Context over data preloaded for many students (batch jobs share the catalog and snapshots)
+     *
+     * @param completed completed courses over the snapshot's graph index
+     */
+    public RecommendationContext createContext(Student student,
+                                               CatalogSnapshotHolder.Snapshot catalogSnapshot,
+                                               long[] completed,
+                                               CareerTagIndex.Snapshot careerTags) {
+        PrerequisiteGraph.Snapshot graph = catalogSnapshot.getGraph();
+        return new RecommendationContext(student, catalogSnapshot, completed, graph.eligible(completed),
+                () -> careerTags,
+                popularitySnapshotService::snapshot,
+                coEnrollmentIndex::snapshot,
+                () -> unlockIndex.of(graph),
+                criticalPathEngine::remaining);
+    }
+
+    /**
+     * Generate, filter and score candidates and keep the top k, ordered by ranking score desc
+     */
+    public List<ScoredCandidate> rank(RecommendationStrategy strategy, RecommendationContext context, int limit) {
+        long start = System.nanoTime();
+        int[] candidates = strategy.candidates(context);
+        long generated = System.nanoTime();
+        record(strategy, STAGE_CANDIDATES, generated - start);
+
+        TopKCollector<ScoredCandidate> topK = parallelScorer.score(candidates, limit, (candidate, sequence, sink) -> {
+            if (!strategy.accept(candidate, context)) {
+                return;
+            }
+            ScoredCandidate scored = strategy.score(candidate, context);
+            if (scored != null) {
+                sink.offer(scored, strategy.rankingScore(scored), sequence);
+            }
+        });
+        long scoredAt = System.nanoTime();
+        record(strategy, STAGE_SCORE, scoredAt - generated);
+
+        List<ScoredCandidate> ranked = topK.toSortedList();
+        record(strategy, STAGE_RANK, System.nanoTime() - scoredAt);
+        return ranked;
+    }
+
+    /**
+     * Render ranked candidates as pending recommendation DTOs; reason is null unless explained
+     */
+    public List<RecommendationDTO> renderDtos(RecommendationStrategy strategy,
+                                              List<ScoredCandidate> ranked,
+                                              RecommendationContext context,
+                                              boolean explain) {
+        long start = System.nanoTime();
+        LocalDateTime recommendedAt = LocalDateTime.now();
+        List<RecommendationDTO> recommendations = new ArrayList<>(ranked.size());
+        for (ScoredCandidate candidate : ranked) {
+            Course course = candidate.getCourse();
+            recommendations.add(RecommendationDTO.builder()
+                    .studentId(context.getStudent().getId())
+                    .courseId(course.getId())
+                    .courseCode(course.getCourseCode())
+                    .courseName(course.getCourseName())
+                    .matchScore(candidate.getScore())
+                    .reason(explain
+                            ? ReasonCode.render(candidate.getReasons(), candidate.getReasonParams(),
+                                    context, Collections.emptyList())
+                            : null)
+                    .recommendedAt(recommendedAt)
+                    .status("PENDING")
+                    .build());
+        }
+        record(strategy, STAGE_RENDER, System.nanoTime() - start);
+        return recommendations;
+    }
+
+    /**
+     * Render ranked candidates as response VOs; reason text and prerequisite chains are only built here,
+     * for returned courses, and skipped entirely when not explained
+     */
+    public List<RecommendationResponseVO> renderResponses(RecommendationStrategy strategy,
+                                                          List<ScoredCandidate> ranked,
+                                                          RecommendationContext context,
+                                                          boolean explain) {
+        long start = System.nanoTime();
+        PrerequisiteGraph.Snapshot graph = context.getGraph();
+        long[] completed = context.getCompleted();
+        CourseCatalogSnapshot catalog = context.getCatalog();
+
+        List<RecommendationResponseVO> responses = new ArrayList<>(ranked.size());
+        for (ScoredCandidate candidate : ranked) {
+            Course course = candidate.getCourse();
+            List<PrerequisiteCourseVO> prerequisiteChain = null;
+            List<PrerequisiteCourseVO> missingPrerequisites = null;
+            String reason = null;
+            if (explain) {
+                prerequisiteChain = graph.hasPrerequisites(course.getId())
+                        ? buildPrerequisiteChain(course.getId(), graph, completed, catalog)
+                        : new ArrayList<>();
+                missingPrerequisites = prerequisiteChain.stream()
+                        .filter(p -> p.getIsCompleted() == null || !p.getIsCompleted())
+                        .collect(Collectors.toList());
+                List<String> missingCodes = missingPrerequisites.stream()
+                        .map(PrerequisiteCourseVO::getCourseCode)
+                        .collect(Collectors.toList());
+                reason = ReasonCode.render(candidate.getReasons(), candidate.getReasonParams(), context, missingCodes);
+            }
+
+            responses.add(RecommendationResponseVO.builder()
+                    .courseId(course.getId())
+                    .courseCode(course.getCourseCode())
+                    .courseName(course.getCourseName())
+                    .description(course.getDescription())
+                    .credits(course.getCredits())
+                    .difficulty(course.getDifficulty())
+                    .matchScore((double) Math.round(candidate.getScore()))
+                    .reason(reason)
+                    .status("PENDING")
+                    .prerequisiteChain(prerequisiteChain)
+                    .missingPrerequisites(missingPrerequisites)
+                    .allPrerequisitesMet(candidate.isAllPrerequisitesMet())
+                    .scoreComponents(candidate.getScoreComponents())
+                    .build());
+        }
+        record(strategy, STAGE_RENDER, System.nanoTime() - start);
+        return responses;
+    }
+
+    /**
+     * Cumulative stage timings per strategy
+     */
+    public List<PipelineStageStatsVO> stageStats() {
+        List<PipelineStageStatsVO> stats = new ArrayList<>(timers.size());
+        for (StageTimer timer : timers.values()) {
+            long invocations = timer.invocations.sum();
+            double totalMillis = timer.nanos.sum() / 1_000_000.0;
+            stats.add(PipelineStageStatsVO.builder()
+                    .strategy(timer.strategy)
+                    .stage(timer.stage)
+                    .invocations(invocations)
+                    .totalMillis(totalMillis)
+                    .averageMillis(invocations == 0 ? 0.0 : totalMillis / invocations)
+                    .build());
+        }
+        stats.sort((a, b) -> a.getStrategy().equals(b.getStrategy())
+                ? a.getStage().compareTo(b.getStage())
+                : a.getStrategy().compareTo(b.getStrategy()));
+        return stats;
+    }
+
+    private RecommendationContext createContext(RecommendationStrategy strategy, Long studentId) {
+        long start = System.nanoTime();
+        RecommendationContext context = createContext(studentId);
+        record(strategy, STAGE_CONTEXT, System.nanoTime() - start);
+        return context;
+    }
+
+    /**
+     * Build prerequisite chain with completion status, resolving courses from the catalog snapshot
+     */
+    private List<PrerequisiteCourseVO> buildPrerequisiteChain(Long courseId,
+                                                              PrerequisiteGraph.Snapshot graph,
+                                                              long[] completed,
+                                                              CourseCatalogSnapshot catalog) {
+        Map<Long, Integer> prereqMap = graph.getAllPrerequisitesWithLevels(courseId);
+        List<PrerequisiteCourseVO> chain = new ArrayList<>();
+
+        for (Map.Entry<Long, Integer> entry : prereqMap.entrySet()) {
+            Long prereqCourseId = entry.getKey();
+            int prereqIndex = catalog.indexOf(prereqCourseId);
+            if (prereqIndex < 0) {
+                throw new ResourceNotFoundException("Prerequisite course not found");
+            }
+
+            Course prereqCourse = catalog.courseAt(prereqIndex);
+            chain.add(PrerequisiteCourseVO.builder()
+                    .courseId(prereqCourse.getId())
+                    .courseCode(prereqCourse.getCourseCode())
+                    .courseName(prereqCourse.getCourseName())
+                    .credits(prereqCourse.getCredits())
+                    .isCompleted(BitSets.get(completed, graph.indexOf(prereqCourseId)))
+                    .level(entry.getValue())
+                    .build());
+        }
+
+        // Already ordered by level asc
+        return chain;
+    }
+
+    private void record(RecommendationStrategy strategy, String stage, long nanos) {
+        String name = strategy.name();
+        StageTimer timer = timers.computeIfAbsent(name + ':' + stage, key -> new StageTimer(name, stage));
+        timer.invocations.increment();
+        timer.nanos.add(nanos);
+    }
+
+    private static final class StageTimer {
+
+        private final String strategy;
+        private final String stage;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private StageTimer(String strategy, String stage) {
+            this.strategy = strategy;
+            this.stage = stage;
+        }
+    }
+}
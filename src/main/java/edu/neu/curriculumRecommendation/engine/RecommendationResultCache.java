@@ -0,0 +1,278 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.event.CatalogChangedEvent;
+import edu.neu.curriculumRecommendation.event.EnrollmentChangedEvent;
+import edu.neu.curriculumRecommendation.event.StudentProfileChangedEvent;
+import edu.neu.curriculumRecommendation.vo.response.CacheStatsVO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Recommendation Result Cache
+ * Bounded LRU cache with TTL in front of the recommendation generators, keyed by (studentId, strategy, limit).
+ * Entries of a student are invalidated when their enrollments or profile change;
+ * everything is invalidated when courses, prerequisites or program requirements change.
+ * A result's data version is the catalog snapshot version plus a per-student version bumped on that
+ * student's changes: a result is cached only while its student's version is unchanged and served only
+ * while its catalog version is current, so one student's writes never discard another student's results.
+ * Concurrent misses for the same (studentId, strategy, limit, data version) share one computation,
+ * so a result started before a data change is never handed to a caller that arrives after it.
+ */
+@Component
+public class RecommendationResultCache {
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+
+    private final LinkedHashMap<Key, Entry> entries;
+
+    // Version of each recently changed student, guarded by entries; evicted students read the floor,
+    // which never decreases, so a result loaded across an eviction is at worst not cached
+    private final LinkedHashMap<Long, Long> studentVersions;
+    private long studentVersionFloor;
+    private long lastStudentVersion;
+
+    // null when coalescing is disabled
+    private final SingleFlight<Flight, List<?>> flights;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public RecommendationResultCache(CatalogSnapshotHolder catalogSnapshotHolder,
+                                     @Value("${recommendation.cache.enabled:true}") boolean enabled,
+                                     @Value("${recommendation.cache.max-size:10000}") int maxSize,
+                                     @Value("${recommendation.cache.ttl-seconds:600}") long ttlSeconds,
+                                     @Value("${recommendation.cache.coalescing-enabled:true}") boolean coalescingEnabled,
+                                     @Value("${recommendation.cache.coalescing-timeout-ms:5000}") long coalescingTimeoutMillis) {
+        this.catalogSnapshotHolder = catalogSnapshotHolder;
+        this.enabled = enabled;
+        this.flights = coalescingEnabled ? new SingleFlight<>(coalescingTimeoutMillis) : null;
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > RecommendationResultCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.studentVersions = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                if (size() > RecommendationResultCache.this.maxSize) {
+                    studentVersionFloor = Math.max(studentVersionFloor, eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Return the cached result or compute and cache it, joining an identical in-flight computation if any.
+     * A result computed while the student's data changed is returned but not cached.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> get(Long studentId, String strategy, int limit, Supplier<List<T>> loader) {
+        Key key = new Key(studentId, strategy, limit);
+        // Read before the loader runs, so a result is never labelled with a newer catalog than it read
+        long catalogVersion = catalogSnapshotHolder.current().getVersion();
+        long now = System.nanoTime();
+        long studentVersion;
+        synchronized (entries) {
+            Entry entry = enabled ? entries.get(key) : null;
+            if (entry != null) {
+                if (now - entry.createdAt < ttlNanos && entry.catalogVersion == catalogVersion) {
+                    hits.incrementAndGet();
+                    return (List<T>) entry.value;
+                }
+                entries.remove(key);
+                evictions.incrementAndGet();
+            }
+            studentVersion = studentVersion(studentId);
+        }
+        if (enabled) {
+            misses.incrementAndGet();
+        }
+
+        Supplier<List<?>> load = () -> {
+            List<T> value = List.copyOf(loader.get());
+            if (enabled) {
+                synchronized (entries) {
+                    if (studentVersion(studentId) == studentVersion) {
+                        entries.put(key, new Entry(value, catalogVersion, now));
+                    }
+                }
+            }
+            return value;
+        };
+        return (List<T>) (flights != null
+                ? flights.execute(new Flight(key, catalogVersion, studentVersion), load)
+                : load.get());
+    }
+
+    /**
+     * Drop all cached results of one student
+     */
+    public void invalidateStudent(Long studentId) {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            studentVersions.remove(studentId);
+            studentVersions.put(studentId, ++lastStudentVersion);
+            Iterator<Key> it = entries.keySet().iterator();
+            while (it.hasNext()) {
+                if (Objects.equals(it.next().studentId, studentId)) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop every cached result
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    public CacheStatsVO stats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        long requests = hitCount + missCount;
+        return CacheStatsVO.builder()
+                .size(size)
+                .maxSize(maxSize)
+                .hits(hitCount)
+                .misses(missCount)
+                .hitRate(requests == 0 ? 0.0 : (double) hitCount / requests)
+                .evictions(evictions.get())
+                .invalidations(invalidations.get())
+                .coalesced(flights != null ? flights.coalescedCount() : 0L)
+                .coalescingTimeouts(flights != null ? flights.timeoutCount() : 0L)
+                .build();
+    }
+
+    // Caller holds the entries lock
+    private long studentVersion(Long studentId) {
+        Long version = studentVersions.get(studentId);
+        return version != null ? version : studentVersionFloor;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        invalidateStudent(event.getStudentId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentProfileChanged(StudentProfileChangedEvent event) {
+        invalidateStudent(event.getStudentId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        invalidateAll();
+    }
+
+    private static final class Key {
+
+        private final Long studentId;
+        private final String strategy;
+        private final int limit;
+
+        private Key(Long studentId, String strategy, int limit) {
+            this.studentId = studentId;
+            this.strategy = strategy;
+            this.limit = limit;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return limit == other.limit
+                    && Objects.equals(studentId, other.studentId)
+                    && Objects.equals(strategy, other.strategy);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(studentId, strategy, limit);
+        }
+    }
+
+    /**
+     * Cache key at one catalog and student data version
+     */
+    private static final class Flight {
+
+        private final Key key;
+        private final long catalogVersion;
+        private final long studentVersion;
+
+        private Flight(Key key, long catalogVersion, long studentVersion) {
+            this.key = key;
+            this.catalogVersion = catalogVersion;
+            this.studentVersion = studentVersion;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Flight)) {
+                return false;
+            }
+            Flight other = (Flight) o;
+            return catalogVersion == other.catalogVersion && studentVersion == other.studentVersion
+                    && key.equals(other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(key, catalogVersion, studentVersion);
+        }
+    }
+
+    private static final class Entry {
+
+        private final Object value;
+        private final long catalogVersion;
+        private final long createdAt;
+
+        private Entry(Object value, long catalogVersion, long createdAt) {
+            this.value = value;
+            this.catalogVersion = catalogVersion;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package edu.neu.curriculumRecommendation.engine;
+
+/**
+ * Recommendation Strategy
+ * Pluggable scoring rule run by the RecommendationPipeline. The pipeline owns context loading,
+ * top-K ranking and rendering; a strategy only generates, filters and scores candidates.
+ * Candidates are dense CourseCatalogSnapshot indices, so scoring reads primitive arrays.
+ * Strategies are Spring beans and are looked up by name.
+ */
+public interface RecommendationStrategy {
+
+    /**
+     * Unique strategy name, also used as the result cache key
+     */
+    String name();
+
+    /**
+     * Candidate generation; runs once per request on the calling thread.
+     * The returned array must not be modified afterwards.
+     */
+    int[] candidates(RecommendationContext context);
+
+    /**
+     * Filtering; completed courses are skipped by default.
+     * May run concurrently, so implementations must only read the context.
+     */
+    default boolean accept(int courseIndex, RecommendationContext context) {
+        return !context.isCompleted(courseIndex);
+    }
+
+    /**
+     * Scoring of an accepted candidate; null drops it.
+     * May run concurrently, so implementations must only read the context.
+     */
+    ScoredCandidate score(int courseIndex, RecommendationContext context);
+
+    /**
+     * Score used for top-K ranking, the raw score by default
+     */
+    default double rankingScore(ScoredCandidate scored) {
+        return scored.getScore();
+    }
+}
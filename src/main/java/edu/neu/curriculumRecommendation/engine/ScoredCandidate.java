@@ -0,0 +1,61 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.entity.Course;
+
+import java.util.Map;
+
+/**
+ * Scored Candidate
+ * A course scored by a recommendation strategy, with its ReasonCode bitmask and numeric parameters.
+ * Reason text is rendered only for candidates that reach the top-K.
+ */
+public final class ScoredCandidate {
+
+    private final Course course;
+    private final double score;
+    private final long reasons;
+    // Indexed by ReasonCode.PARAM_*, null when no reason needs a parameter
+    private final double[] reasonParams;
+    private final boolean allPrerequisitesMet;
+    // Per-strategy scores of a blended candidate, null otherwise
+    private final Map<String, Double> scoreComponents;
+
+    public ScoredCandidate(Course course, double score, long reasons, double[] reasonParams,
+                           boolean allPrerequisitesMet) {
+        this(course, score, reasons, reasonParams, allPrerequisitesMet, null);
+    }
+
+    public ScoredCandidate(Course course, double score, long reasons, double[] reasonParams,
+                           boolean allPrerequisitesMet, Map<String, Double> scoreComponents) {
+        this.course = course;
+        this.score = score;
+        this.reasons = reasons;
+        this.reasonParams = reasonParams;
+        this.allPrerequisitesMet = allPrerequisitesMet;
+        this.scoreComponents = scoreComponents;
+    }
+
+    public Course getCourse() {
+        return course;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public long getReasons() {
+        return reasons;
+    }
+
+    public double[] getReasonParams() {
+        return reasonParams;
+    }
+
+    public boolean isAllPrerequisitesMet() {
+        return allPrerequisitesMet;
+    }
+
+    public Map<String, Double> getScoreComponents() {
+        return scoreComponents;
+    }
+}
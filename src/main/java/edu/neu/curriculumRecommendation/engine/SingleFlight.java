@@ -0,0 +1,93 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Single Flight
+ * Coalesces concurrent calls with the same key: the first caller computes the value on its own thread,
+ * later callers wait on its CompletableFuture and receive the same value or exception.
+ * A waiter that is not answered within the timeout computes the value itself.
+ * Keys are forgotten as soon as the call completes, so nothing is cached here.
+ */
+public final class SingleFlight<K, V> {
+
+    private static final Logger log = LoggerFactory.getLogger(SingleFlight.class);
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+
+    public SingleFlight(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Return the value of the in-flight call for this key, or compute it as the leader
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            coalesced.incrementAndGet();
+            return await(leader, loader);
+        }
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Calls answered by another caller's computation
+     */
+    public long coalescedCount() {
+        return coalesced.get();
+    }
+
+    /**
+     * Waiters that gave up on the leader and computed the value themselves
+     */
+    public long timeoutCount() {
+        return timeouts.get();
+    }
+
+    private V await(CompletableFuture<V> leader, Supplier<V> loader) {
+        try {
+            return leader.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // Same failure as the leader, e.g. ResourceNotFoundException for an unknown student
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (TimeoutException e) {
+            timeouts.incrementAndGet();
+            log.warn("Coalesced call not answered within {} ms, computing independently", timeoutMillis);
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a coalesced call", e);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Top-K Collector
+ * Bounded min-heap keeping the k highest scored items in O(n log k).
+ * Ties keep insertion order (the earlier item ranks higher), matching a stable sort by score desc.
+ */
+public final class TopKCollector<T> {
+
+    private final int capacity;
+    private Object[] items;
+    private double[] scores;
+    private long[] sequences;
+    private int size;
+    private long nextSequence;
+
+    public TopKCollector(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        int initial = Math.min(capacity, 64);
+        this.items = new Object[initial];
+        this.scores = new double[initial];
+        this.sequences = new long[initial];
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Whether an item with this score would currently be kept.
+     * Use it to skip building items that cannot reach the top k.
+     */
+    public boolean wouldAccept(double score) {
+        return size < capacity || score > scores[0];
+    }
+
+    /**
+     * Offer an item; returns false when it was rejected
+     */
+    public boolean offer(T item, double score) {
+        return offer(item, score, nextSequence++);
+    }
+
+    /**
+     * Offer an item with an explicit insertion sequence used for tie breaking
+     * (lets chunked scoring keep the original candidate order across chunks)
+     */
+    public boolean offer(T item, double score, long sequence) {
+        if (size < capacity) {
+            grow();
+            items[size] = item;
+            scores[size] = score;
+            sequences[size] = sequence;
+            siftUp(size++);
+            return true;
+        }
+        // Root is the worst kept item; replace it only if the new one ranks strictly higher
+        if (score < scores[0] || (score == scores[0] && sequence > sequences[0])) {
+            return false;
+        }
+        items[0] = item;
+        scores[0] = score;
+        sequences[0] = sequence;
+        siftDown(0);
+        return true;
+    }
+
+    /**
+     * Merge another collector into this one, keeping the original insertion order for ties
+     */
+    @SuppressWarnings("unchecked")
+    public void merge(TopKCollector<T> other) {
+        for (int i = 0; i < other.size; i++) {
+            offer((T) other.items[i], other.scores[i], other.sequences[i]);
+        }
+    }
+
+    /**
+     * Kept items ordered by score desc
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> toSortedList() {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> isWorse(a, b) ? 1 : (isWorse(b, a) ? -1 : 0));
+        List<T> result = new ArrayList<>(size);
+        for (Integer i : order) {
+            result.add((T) items[i]);
+        }
+        return result;
+    }
+
+    private void grow() {
+        if (size == items.length) {
+            int length = (int) Math.min((long) capacity, items.length * 2L);
+            items = Arrays.copyOf(items, length);
+            scores = Arrays.copyOf(scores, length);
+            sequences = Arrays.copyOf(sequences, length);
+        }
+    }
+
+    // a ranks below b: lower score, or same score inserted later
+    private boolean isWorse(int a, int b) {
+        return scores[a] < scores[b] || (scores[a] == scores[b] && sequences[a] > sequences[b]);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!isWorse(index, parent)) {
+                break;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                break;
+            }
+            int worst = left;
+            int right = left + 1;
+            if (right < size && isWorse(right, left)) {
+                worst = right;
+            }
+            if (!isWorse(worst, index)) {
+                break;
+            }
+            swap(index, worst);
+            index = worst;
+        }
+    }
+
+    private void swap(int a, int b) {
+        Object item = items[a];
+        items[a] = items[b];
+        items[b] = item;
+        double score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+        long sequence = sequences[a];
+        sequences[a] = sequences[b];
+        sequences[b] = sequence;
+    }
+}
@@ -0,0 +1,105 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Unlock Index
+ * Number of courses that transitively require each course, and so cannot become eligible before it is completed.
+ * Counted once per graph snapshot from the graph's own ancestor closures, so no descendant sets are stored;
+ * the courses requiring a given one are found with the graph's O(1) requires check.
+ */
+@Component
+public class UnlockIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(UnlockIndex.class);
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Get the index of the given graph, building it on first use of that graph
+     */
+    public Snapshot of(PrerequisiteGraph.Snapshot graph) {
+        Snapshot current = snapshot;
+        if (current == null || current.graph != graph) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null || current.graph != graph) {
+                    current = build(graph);
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static Snapshot build(PrerequisiteGraph.Snapshot graph) {
+        long start = System.nanoTime();
+        int n = graph.size();
+        int[] counts = new int[n];
+        for (int course = 0; course < n; course++) {
+            for (int prerequisite : graph.prerequisites(course)) {
+                // A course on a legacy cycle is listed among its own prerequisites
+                if (prerequisite != course) {
+                    counts[prerequisite]++;
+                }
+            }
+        }
+        log.debug("Built unlock index: {} courses in {} ms", n, (System.nanoTime() - start) / 1_000_000);
+        return new Snapshot(graph, counts);
+    }
+
+    /**
+     * Immutable unlock counts of one graph snapshot
+     */
+    public static final class Snapshot {
+
+        private final PrerequisiteGraph.Snapshot graph;
+        private final int[] counts;
+
+        private Snapshot(PrerequisiteGraph.Snapshot graph, int[] counts) {
+            this.graph = graph;
+            this.counts = counts;
+        }
+
+        public PrerequisiteGraph.Snapshot getGraph() {
+            return graph;
+        }
+
+        /**
+         * Courses requiring the course at this graph index, directly or transitively; O(n), built on each call
+         */
+        public long[] descendants(int index) {
+            long[] bits = BitSets.create(graph.size());
+            for (int course = 0; course < graph.size(); course++) {
+                if (course != index && graph.requires(course, index)) {
+                    BitSets.set(bits, course);
+                }
+            }
+            return bits;
+        }
+
+        /**
+         * Number of courses requiring the course at this graph index
+         */
+        public int unlockCount(int index) {
+            return counts[index];
+        }
+
+        /**
+         * Number of courses requiring the course at this graph index that the student has not completed;
+         * none of them can be eligible while the course itself is not completed. O(completed courses)
+         */
+        public int unlockWeight(int index, long[] completed) {
+            int count = counts[index];
+            for (int course = BitSets.nextSetBit(completed, 0); course >= 0 && course < graph.size();
+                 course = BitSets.nextSetBit(completed, course + 1)) {
+                if (course != index && graph.requires(course, index)) {
+                    count--;
+                }
+            }
+            return count;
+        }
+    }
+}
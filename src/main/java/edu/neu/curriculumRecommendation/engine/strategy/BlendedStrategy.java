@@ -0,0 +1,129 @@
+package edu.neu.curriculumRecommendation.engine.strategy;
+
+import edu.neu.curriculumRecommendation.engine.CourseCatalogSnapshot;
+import edu.neu.curriculumRecommendation.engine.ReasonCode;
+import edu.neu.curriculumRecommendation.engine.RecommendationContext;
+import edu.neu.curriculumRecommendation.engine.RecommendationStrategy;
+import edu.neu.curriculumRecommendation.engine.ScoredCandidate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Blended Strategy
+ * Scores every course once with the personalized, degree-requirement and popularity rules over the
+ * same context and combines the normalized (0 - 100) scores with configurable weights.
+ * A component is 0 when its strategy would not recommend the course.
+ */
+@Component
+public class BlendedStrategy implements RecommendationStrategy {
+
+    public static final String NAME = "blended";
+
+    // Highest raw score of the degree and popular strategies; the personalized one depends on its unlock bonus
+    private static final double DEGREE_MAX = 110.0;
+    private static final double POPULAR_MAX = 100.0;
+
+    private final PersonalizedStrategy personalizedStrategy;
+    private final DegreeRequirementStrategy degreeRequirementStrategy;
+    private final PopularityStrategy popularityStrategy;
+    private final double personalizedWeight;
+    private final double degreeWeight;
+    private final double popularWeight;
+    private final double personalizedMax;
+
+    public BlendedStrategy(PersonalizedStrategy personalizedStrategy,
+                           DegreeRequirementStrategy degreeRequirementStrategy,
+                           PopularityStrategy popularityStrategy,
+                           @Value("${recommendation.blended.weights.personalized:0.4}") double personalizedWeight,
+                           @Value("${recommendation.blended.weights.degree-requirements:0.35}") double degreeWeight,
+                           @Value("${recommendation.blended.weights.popular:0.25}") double popularWeight) {
+        this.personalizedStrategy = personalizedStrategy;
+        this.degreeRequirementStrategy = degreeRequirementStrategy;
+        this.popularityStrategy = popularityStrategy;
+        double total = Math.max(0, personalizedWeight) + Math.max(0, degreeWeight) + Math.max(0, popularWeight);
+        if (total <= 0) {
+            throw new IllegalStateException("At least one blended recommendation weight must be positive");
+        }
+        // Weights are normalized so the blended score stays within 0 - 100
+        this.personalizedWeight = Math.max(0, personalizedWeight) / total;
+        this.degreeWeight = Math.max(0, degreeWeight) / total;
+        this.popularWeight = Math.max(0, popularWeight) / total;
+        this.personalizedMax = personalizedStrategy.maxScore();
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public int[] candidates(RecommendationContext context) {
+        // Resolve every shared input before scoring fans out
+        context.getInterestMatches();
+        context.getPopularity();
+        context.getProgram();
+        return context.getCatalog().allIndices();
+    }
+
+    @Override
+    public ScoredCandidate score(int courseIndex, RecommendationContext context) {
+        CourseCatalogSnapshot catalog = context.getCatalog();
+        Long courseId = catalog.courseIdAt(courseIndex);
+
+        ScoredCandidate personalized = personalizedWeight > 0 ? personalizedStrategy.score(courseIndex, context) : null;
+
+        ScoredCandidate degree = null;
+        if (degreeWeight > 0 && context.getProgram().requirementFor(courseId) != null) {
+            degree = degreeRequirementStrategy.score(courseIndex, context);
+        }
+
+        ScoredCandidate popular = null;
+        if (popularWeight > 0 && catalog.isActive(courseIndex) && popularityStrategy.accept(courseIndex, context)) {
+            popular = popularityStrategy.score(courseIndex, context);
+        }
+
+        double personalizedScore = normalize(personalized, personalizedMax);
+        double degreeScore = normalize(degree, DEGREE_MAX);
+        double popularScore = normalize(popular, POPULAR_MAX);
+        double score = personalizedScore * personalizedWeight + degreeScore * degreeWeight + popularScore * popularWeight;
+        if (score <= 0) {
+            return null;
+        }
+
+        Map<String, Double> components = new LinkedHashMap<>();
+        components.put(PersonalizedStrategy.NAME, round(personalizedScore));
+        components.put(DegreeRequirementStrategy.NAME, round(degreeScore));
+        components.put(PopularityStrategy.NAME, round(popularScore));
+
+        long reasons = 0L;
+        double[] reasonParams = null;
+        if (personalized != null) {
+            reasons |= personalized.getReasons();
+            reasonParams = ReasonCode.mergeParams(reasonParams, personalized.getReasons(),
+                    personalized.getReasonParams());
+        }
+        if (popular != null) {
+            reasons |= popular.getReasons();
+            reasonParams = ReasonCode.mergeParams(reasonParams, popular.getReasons(), popular.getReasonParams());
+        }
+        if (degree != null) {
+            reasons |= degree.getReasons();
+            reasonParams = ReasonCode.mergeParams(reasonParams, degree.getReasons(), degree.getReasonParams());
+        }
+
+        boolean allPrerequisitesMet = context.isEligible(courseIndex);
+        return new ScoredCandidate(catalog.courseAt(courseIndex), score, ReasonCode.collapseDuplicates(reasons),
+                reasonParams, allPrerequisitesMet, components);
+    }
+
+    private static double normalize(ScoredCandidate scored, double max) {
+        return scored == null ? 0.0 : Math.min(100.0, scored.getScore() * 100.0 / max);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
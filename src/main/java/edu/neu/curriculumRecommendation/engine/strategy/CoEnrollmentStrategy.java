@@ -0,0 +1,54 @@
+package edu.neu.curriculumRecommendation.engine.strategy;
+
+import edu.neu.curriculumRecommendation.engine.CoEnrollmentIndex;
+import edu.neu.curriculumRecommendation.engine.CourseCatalogSnapshot;
+import edu.neu.curriculumRecommendation.engine.ReasonCode;
+import edu.neu.curriculumRecommendation.engine.RecommendationContext;
+import edu.neu.curriculumRecommendation.engine.RecommendationStrategy;
+import edu.neu.curriculumRecommendation.engine.ScoredCandidate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Co-Enrollment Strategy
+ * "Students who took your courses also took": ranks active courses by the average share of students
+ * who completed each of the student's courses and also completed the candidate (0 - 100).
+ * Only courses co-enrolled with at least one completed course are considered; unmet prerequisites are skipped.
+ */
+@Component
+public class CoEnrollmentStrategy implements RecommendationStrategy {
+
+    public static final String NAME = "also-took";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public int[] candidates(RecommendationContext context) {
+        return context.getCoEnrollment().candidates();
+    }
+
+    @Override
+    public boolean accept(int courseIndex, RecommendationContext context) {
+        // Eligible: not completed and prerequisites met
+        return context.isEligible(courseIndex) && context.getCatalog().isActive(courseIndex);
+    }
+
+    @Override
+    public ScoredCandidate score(int courseIndex, RecommendationContext context) {
+        CourseCatalogSnapshot catalog = context.getCatalog();
+        CoEnrollmentIndex.Affinity affinity = context.getCoEnrollment();
+
+        double score = affinity.averageShare(courseIndex) * 100;
+        long reasons = ReasonCode.CO_ENROLLED.bit();
+        double[] params = new double[ReasonCode.PARAM_COUNT];
+        params[ReasonCode.PARAM_RELATED_COURSE] = affinity.strongestSourceId(courseIndex);
+
+        if (context.getGraph().hasPrerequisites(catalog.courseIdAt(courseIndex))) {
+            reasons |= ReasonCode.PREREQUISITES_MET.bit();
+        }
+
+        return new ScoredCandidate(catalog.courseAt(courseIndex), score, reasons, params, true);
+    }
+}
@@ -0,0 +1,118 @@
+package edu.neu.curriculumRecommendation.engine.strategy;
+
+import edu.neu.curriculumRecommendation.engine.CourseCatalogSnapshot;
+import edu.neu.curriculumRecommendation.engine.CriticalPathEngine;
+import edu.neu.curriculumRecommendation.engine.DegreeAuditEngine;
+import edu.neu.curriculumRecommendation.engine.PrerequisiteGraph;
+import edu.neu.curriculumRecommendation.engine.ReasonCode;
+import edu.neu.curriculumRecommendation.engine.RecommendationContext;
+import edu.neu.curriculumRecommendation.engine.RecommendationStrategy;
+import edu.neu.curriculumRecommendation.engine.ScoredCandidate;
+import edu.neu.curriculumRecommendation.exception.ValidationException;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Degree Requirement Strategy
+ * Prioritizes the remaining program requirements of the student's major:
+ * base 50, mandatory +30 / elective +10, Core +10 / Foundation +5, prerequisites met +10,
+ * and +10 for an eligible course starting the student's longest remaining prerequisite chain.
+ */
+@Component
+public class DegreeRequirementStrategy implements RecommendationStrategy {
+
+    public static final String NAME = "degree-requirements";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public int[] candidates(RecommendationContext context) {
+        String major = context.getStudent().getMajor();
+        if (major == null || major.trim().isEmpty()) {
+            throw new ValidationException("Student major is not set. Please update your profile.");
+        }
+        // Resolve the critical path before scoring fans out
+        context.getCriticalPath();
+        // Requirement order; the compiled program already has one requirement per course
+        CourseCatalogSnapshot catalog = context.getCatalog();
+        List<DegreeAuditEngine.Requirement> requirements = context.getProgram().getRequirements();
+        int[] candidates = new int[requirements.size()];
+        int count = 0;
+        for (DegreeAuditEngine.Requirement requirement : requirements) {
+            int index = catalog.indexOf(requirement.getCourseId());
+            if (index >= 0) {
+                candidates[count++] = index;
+            }
+        }
+        return Arrays.copyOf(candidates, count);
+    }
+
+    @Override
+    public ScoredCandidate score(int courseIndex, RecommendationContext context) {
+        CourseCatalogSnapshot catalog = context.getCatalog();
+        Long courseId = catalog.courseIdAt(courseIndex);
+        DegreeAuditEngine.Requirement req = context.getProgram().requirementFor(courseId);
+        if (req == null) {
+            return null;
+        }
+        PrerequisiteGraph.Snapshot graph = context.getGraph();
+
+        double score = 50.0;
+        long reasons = 0L;
+
+        if (req.isMandatory()) {
+            score += 30;
+            reasons |= ReasonCode.MANDATORY_FOR_MAJOR.bit();
+        } else {
+            score += 10;
+            reasons |= ReasonCode.ELECTIVE_FOR_MAJOR.bit();
+        }
+
+        String reqType = req.getRequirementType();
+        if ("Core".equalsIgnoreCase(reqType)) {
+            score += 10;
+            reasons |= ReasonCode.CORE.bit();
+        } else if ("Foundation".equalsIgnoreCase(reqType)) {
+            score += 5;
+            reasons |= ReasonCode.FOUNDATION.bit();
+        }
+
+        boolean allPrerequisitesMet;
+        if (!graph.hasPrerequisites(courseId)) {
+            allPrerequisitesMet = true;
+            score += 10;
+            reasons |= ReasonCode.NO_PREREQUISITES.bit();
+        } else if (context.isEligible(courseIndex)) {
+            allPrerequisitesMet = true;
+            score += 10;
+            reasons |= ReasonCode.PREREQUISITES_MET.bit();
+        } else {
+            // Missing course codes are rendered from the chain of the returned courses
+            allPrerequisitesMet = false;
+            reasons |= ReasonCode.PREREQUISITES_NEEDED.bit();
+        }
+
+        // Critical path: delaying this course delays graduation
+        double[] params = null;
+        CriticalPathEngine.Remaining criticalPath = context.getCriticalPath();
+        if (allPrerequisitesMet && criticalPath.getLength() > 1
+                && criticalPath.chainFrom(graph.indexOf(courseId)) == criticalPath.getLength()) {
+            score += 10;
+            reasons |= ReasonCode.CRITICAL_PATH.bit();
+            params = new double[ReasonCode.PARAM_COUNT];
+            params[ReasonCode.PARAM_CHAIN_LENGTH] = criticalPath.getLength();
+        }
+
+        return new ScoredCandidate(catalog.courseAt(courseIndex), score, reasons, params, allPrerequisitesMet);
+    }
+
+    @Override
+    public double rankingScore(ScoredCandidate scored) {
+        return Math.round(scored.getScore());
+    }
+}
@@ -0,0 +1,136 @@
+package edu.neu.curriculumRecommendation.engine.strategy;
+
+import edu.neu.curriculumRecommendation.engine.CourseCatalogSnapshot;
+import edu.neu.curriculumRecommendation.engine.PrerequisiteGraph;
+import edu.neu.curriculumRecommendation.engine.ReasonCode;
+import edu.neu.curriculumRecommendation.engine.RecommendationContext;
+import edu.neu.curriculumRecommendation.engine.RecommendationStrategy;
+import edu.neu.curriculumRecommendation.engine.ScoredCandidate;
+import edu.neu.curriculumRecommendation.entity.Student;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Personalized Strategy
+ * Comprehensive next-semester scoring: GPA fit (30), prerequisites (40), career interests (30),
+ * semester offering (bonus 10) and, when configured, courses it unlocks (bonus, off by default).
+ * Courses with unmet prerequisites are not recommended.
+ */
+@Component
+public class PersonalizedStrategy implements RecommendationStrategy {
+
+    public static final String NAME = "personalized";
+
+    // Highest score without the unlock bonus
+    private static final double BASE_MAX = 110.0;
+
+    // Unlocked courses at which the unlock bonus is full
+    private static final int UNLOCK_SATURATION = 5;
+
+    private final double unlockBonus;
+
+    public PersonalizedStrategy(@Value("${recommendation.scoring.unlock-bonus:0}") double unlockBonus) {
+        this.unlockBonus = Math.max(0, unlockBonus);
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    /**
+     * Highest score a course can get, including the configured unlock bonus
+     */
+    public double maxScore() {
+        return BASE_MAX + unlockBonus;
+    }
+
+    @Override
+    public int[] candidates(RecommendationContext context) {
+        // Resolve interest matches and unlocks before scoring fans out
+        context.getInterestMatches();
+        if (unlockBonus > 0) {
+            context.getUnlocks();
+        }
+        return context.getEligibleIndices();
+    }
+
+    @Override
+    public ScoredCandidate score(int courseIndex, RecommendationContext context) {
+        Student student = context.getStudent();
+        CourseCatalogSnapshot catalog = context.getCatalog();
+        PrerequisiteGraph.Snapshot graph = context.getGraph();
+        Long courseId = catalog.courseIdAt(courseIndex);
+
+        double score = 0.0;
+        long reasons = 0L;
+
+        // GPA factor (30)
+        if (student.getGpa() != null) {
+            double gpa = student.getGpa();
+            byte difficulty = catalog.difficultyAt(courseIndex);
+            if (gpa >= 3.5 && difficulty == CourseCatalogSnapshot.DIFFICULTY_ADVANCED) {
+                score += 30;
+                reasons |= ReasonCode.GPA_ADVANCED.bit();
+            } else if (gpa >= 3.0 && gpa < 3.5 && difficulty == CourseCatalogSnapshot.DIFFICULTY_INTERMEDIATE) {
+                score += 30;
+                reasons |= ReasonCode.GPA_INTERMEDIATE.bit();
+            } else if (gpa < 3.0 && difficulty == CourseCatalogSnapshot.DIFFICULTY_BEGINNER) {
+                score += 30;
+                reasons |= ReasonCode.GPA_FOUNDATIONAL.bit();
+            }
+        }
+
+        // Prerequisite factor (40) using the student's eligibility frontier
+        if (!graph.hasPrerequisites(courseId)) {
+            score += 40;
+            reasons |= ReasonCode.NO_PREREQUISITES_REQUIRED.bit();
+        } else if (context.isEligible(courseIndex)) {
+            score += 40;
+            reasons |= ReasonCode.ALL_PREREQUISITES_MET.bit();
+        } else {
+            // Skip recommending this course if prerequisites not met
+            return null;
+        }
+
+        // Career interests (30) - course careerTags, or description when no tags are set
+        int[] interestMatches = context.getInterestMatches();
+        if (interestMatches != null) {
+            int matchCount = interestMatches[courseIndex];
+
+            if (matchCount >= 3) {
+                score += 30;
+                reasons |= ReasonCode.INTEREST_STRONG.bit();
+            } else if (matchCount == 2) {
+                score += 20;
+                reasons |= ReasonCode.INTEREST_ALIGNED.bit();
+            } else if (matchCount == 1) {
+                score += 10;
+                reasons |= ReasonCode.INTEREST_SOME.bit();
+            }
+        }
+
+        // Factor 4 - Semester match (bonus, not core weight)
+        byte terms = catalog.termsAt(courseIndex);
+        byte bothSemesters = CourseCatalogSnapshot.TERM_FALL | CourseCatalogSnapshot.TERM_SPRING;
+        if ((terms & context.getUpcomingTerm()) != 0) {
+            score += 10;
+            reasons |= ReasonCode.UPCOMING_SEMESTER.bit();
+        } else if ((terms & bothSemesters) == bothSemesters) {
+            score += 5;
+            reasons |= ReasonCode.BOTH_SEMESTERS.bit();
+        }
+
+        // Factor 5 - Unlocks (bonus): courses not yet completed that require this one
+        double[] params = null;
+        int unlockWeight = unlockBonus > 0 ? context.getUnlockWeight(courseIndex) : 0;
+        if (unlockWeight > 0) {
+            score += unlockBonus * Math.min(unlockWeight, UNLOCK_SATURATION) / UNLOCK_SATURATION;
+            reasons |= ReasonCode.UNLOCKS_COURSES.bit();
+            params = new double[ReasonCode.PARAM_COUNT];
+            params[ReasonCode.PARAM_UNLOCK_COUNT] = unlockWeight;
+        }
+
+        return new ScoredCandidate(catalog.courseAt(courseIndex), score, reasons, params, true);
+    }
+}
@@ -0,0 +1,86 @@
+package edu.neu.curriculumRecommendation.engine.strategy;
+
+import edu.neu.curriculumRecommendation.engine.CourseCatalogSnapshot;
+import edu.neu.curriculumRecommendation.engine.PopularitySnapshotService;
+import edu.neu.curriculumRecommendation.engine.PrerequisiteGraph;
+import edu.neu.curriculumRecommendation.engine.ReasonCode;
+import edu.neu.curriculumRecommendation.engine.RecommendationContext;
+import edu.neu.curriculumRecommendation.engine.RecommendationStrategy;
+import edu.neu.curriculumRecommendation.engine.ScoredCandidate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Popularity Strategy
+ * Ranks active courses by completed enrollments and average grade (normalized popularity 50,
+ * grade tier up to 30, eligibility 20). Only eligible courses are considered; courses nobody completed are skipped.
+ */
+@Component
+public class PopularityStrategy implements RecommendationStrategy {
+
+    public static final String NAME = "popular";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public int[] candidates(RecommendationContext context) {
+        // Resolve the popularity snapshot before scoring fans out
+        context.getPopularity();
+        return context.getEligibleIndices();
+    }
+
+    @Override
+    public boolean accept(int courseIndex, RecommendationContext context) {
+        // Eligible: not completed and prerequisites met
+        CourseCatalogSnapshot catalog = context.getCatalog();
+        return context.isEligible(courseIndex)
+                && catalog.isActive(courseIndex)
+                && context.getPopularity().getEnrollmentCount(catalog.courseIdAt(courseIndex)) > 0;
+    }
+
+    @Override
+    public ScoredCandidate score(int courseIndex, RecommendationContext context) {
+        CourseCatalogSnapshot catalog = context.getCatalog();
+        Long courseId = catalog.courseIdAt(courseIndex);
+        PopularitySnapshotService.Snapshot popularity = context.getPopularity();
+        PrerequisiteGraph.Snapshot graph = context.getGraph();
+
+        long enrollmentCount = popularity.getEnrollmentCount(courseId);
+        double avgGrade = popularity.getAverageGrade(courseId);
+
+        double score = 0.0;
+        long reasons = 0L;
+
+        score += popularity.getNormalizedScore(courseId) * 50;
+
+        reasons |= ReasonCode.POPULAR.bit();
+        double[] params = new double[ReasonCode.PARAM_COUNT];
+        params[ReasonCode.PARAM_ENROLLMENT_COUNT] = enrollmentCount;
+        params[ReasonCode.PARAM_AVERAGE_GRADE] = avgGrade;
+
+        if (avgGrade >= 3.5) {
+            score += 30;
+            reasons |= ReasonCode.GRADE_HIGH.bit();
+        } else if (avgGrade >= 3.0) {
+            score += 20;
+            reasons |= ReasonCode.GRADE_GOOD.bit();
+        } else if (avgGrade >= 2.5) {
+            score += 10;
+            reasons |= ReasonCode.GRADE_MODERATE.bit();
+        }
+
+        score += 20;
+        if (graph.hasPrerequisites(courseId)) {
+            reasons |= ReasonCode.PREREQUISITES_MET.bit();
+        }
+
+        return new ScoredCandidate(catalog.courseAt(courseIndex), score, reasons, params, true);
+    }
+
+    @Override
+    public double rankingScore(ScoredCandidate scored) {
+        return Math.round(scored.getScore());
+    }
+}
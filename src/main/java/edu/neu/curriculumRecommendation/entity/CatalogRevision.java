@@ -0,0 +1,26 @@
+package edu.neu.curriculumRecommendation.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Catalog Revision entity
+ * Single row holding the catalog version shared by every instance. Catalog writes increment it in their own
+ * transaction, so the version survives restarts and rows tagged with it mean the same catalog everywhere.
+ */
+@Entity
+@Table(name = "catalog_revision")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogRevision {
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+}
@@ -0,0 +1,54 @@
+package edu.neu.curriculumRecommendation.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Precomputed Recommendation entity
+ * Read table of recommendations computed ahead of time by the precompute job, one row per rank.
+ * Rows are tagged with the catalog version they were computed against and are only served while it is current.
+ */
+@Entity
+@Table(name = "precomputed_recommendations",
+        indexes = @Index(name = "idx_precomputed_recommendations_student", columnList = "student_id, rank_position"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PrecomputedRecommendation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "rank_position", nullable = false)
+    private Integer rankPosition;
+
+    @Column(name = "course_id", nullable = false)
+    private Long courseId;
+
+    @Column(name = "course_code", length = 20)
+    private String courseCode;
+
+    @Column(name = "course_name", length = 200)
+    private String courseName;
+
+    @Column(name = "match_score", nullable = false, columnDefinition = "NUMERIC(5,2)")
+    private Double matchScore;
+
+    @Column(name = "reason", columnDefinition = "TEXT")
+    private String reason;
+
+    @Column(name = "catalog_version", nullable = false)
+    private Long catalogVersion;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+}
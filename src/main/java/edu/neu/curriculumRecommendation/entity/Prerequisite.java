@@ -9,7 +9,9 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "prerequisites")
+@Table(name = "prerequisites",
+        uniqueConstraints = @UniqueConstraint(name = "uk_prerequisites_course_prerequisite",
+                columnNames = {"course_id", "prerequisite_course_id"}))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
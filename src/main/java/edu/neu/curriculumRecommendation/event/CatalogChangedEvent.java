@@ -0,0 +1,24 @@
+package edu.neu.curriculumRecommendation.event;
+
+/**
+ * Catalog Changed Event
+ * Published after courses, prerequisites or program requirements are modified
+ */
+public class CatalogChangedEvent {
+
+    public enum Scope {
+        COURSES,
+        PREREQUISITES,
+        PROGRAM_REQUIREMENTS
+    }
+
+    private final Scope scope;
+
+    public CatalogChangedEvent(Scope scope) {
+        this.scope = scope;
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+}
@@ -0,0 +1,63 @@
+package edu.neu.curriculumRecommendation.event;
+
+/**
+ * Enrollment Changed Event
+ * Published after an enrollment is created, updated or deleted.
+ * Previous values are null for a new enrollment, current values are null for a deleted one.
+ */
+public class EnrollmentChangedEvent {
+
+    // Compared exactly, like the status = 'COMPLETED' predicate of the completed-enrollment queries,
+    // so counters maintained from events match a reload from the database
+    public static final String STATUS_COMPLETED = "COMPLETED";
+
+    private final Long studentId;
+    private final Long courseId;
+    private final String previousStatus;
+    private final String previousGrade;
+    private final String status;
+    private final String grade;
+
+    public EnrollmentChangedEvent(Long studentId, Long courseId,
+                                  String previousStatus, String previousGrade,
+                                  String status, String grade) {
+        this.studentId = studentId;
+        this.courseId = courseId;
+        this.previousStatus = previousStatus;
+        this.previousGrade = previousGrade;
+        this.status = status;
+        this.grade = grade;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public String getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public String getPreviousGrade() {
+        return previousGrade;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getGrade() {
+        return grade;
+    }
+
+    public boolean wasCompleted() {
+        return STATUS_COMPLETED.equals(previousStatus);
+    }
+
+    public boolean isCompleted() {
+        return STATUS_COMPLETED.equals(status);
+    }
+}
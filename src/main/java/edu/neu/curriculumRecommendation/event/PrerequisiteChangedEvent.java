@@ -0,0 +1,32 @@
+package edu.neu.curriculumRecommendation.event;
+
+/**
+ * Prerequisite Changed Event
+ * Published after a single prerequisite edge is added or removed through the validated write path.
+ * The prerequisite graph has already applied the edge; other listeners treat it as a PREREQUISITES change.
+ */
+public class PrerequisiteChangedEvent extends CatalogChangedEvent {
+
+    private final Long courseId;
+    private final Long prerequisiteCourseId;
+    private final boolean added;
+
+    public PrerequisiteChangedEvent(Long courseId, Long prerequisiteCourseId, boolean added) {
+        super(Scope.PREREQUISITES);
+        this.courseId = courseId;
+        this.prerequisiteCourseId = prerequisiteCourseId;
+        this.added = added;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public Long getPrerequisiteCourseId() {
+        return prerequisiteCourseId;
+    }
+
+    public boolean isAdded() {
+        return added;
+    }
+}
@@ -0,0 +1,18 @@
+package edu.neu.curriculumRecommendation.event;
+
+/**
+ * Student Profile Changed Event
+ * Published after a student's profile (major, GPA, interests...) is updated or the student is deleted
+ */
+public class StudentProfileChangedEvent {
+
+    private final Long studentId;
+
+    public StudentProfileChangedEvent(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+}
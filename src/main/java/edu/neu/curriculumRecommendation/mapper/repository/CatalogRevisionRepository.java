@@ -0,0 +1,32 @@
+package edu.neu.curriculumRecommendation.mapper.repository;
+
+import edu.neu.curriculumRecommendation.entity.CatalogRevision;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface CatalogRevisionRepository extends JpaRepository<CatalogRevision, Long> {
+
+    /**
+     * Increment the version; joins the caller's transaction and holds the row lock until it commits
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE CatalogRevision r SET r.version = r.version + 1 WHERE r.id = :id")
+    int increment(@Param("id") Long id);
+
+    /**
+     * Read the row with a write lock held until the caller's transaction ends; requires a transaction
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM CatalogRevision r WHERE r.id = :id")
+    Optional<CatalogRevision> lockById(@Param("id") Long id);
+}
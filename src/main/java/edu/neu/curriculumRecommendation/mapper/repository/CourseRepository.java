@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +25,15 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
 
     boolean existsByCourseCode(String courseCode);
 
+    @Query("SELECT c.id FROM Course c")
+    List<Long> findAllIds();
+
+    @Query("SELECT c.id FROM Course c WHERE c.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT c.id, c.careerTags, c.description FROM Course c")
+    List<Object[]> findCareerTagSources();
+
     @Query("SELECT c FROM Course c WHERE c.id NOT IN (SELECT e.course.id FROM Enrollment e WHERE e.student.id = :studentId AND e.status = 'COMPLETED')")
     List<Course> findCoursesNotCompletedByStudent(@Param("studentId") Long studentId);
 
@@ -57,5 +67,36 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
             "GROUP BY e.course.id " +
             "ORDER BY COUNT(e) DESC")
     List<Object[]> findCourseStatistics();
-}
 
+    @Query("SELECT e.course.id, COUNT(e), COUNT(CASE e.grade " +
+            "WHEN 'A' THEN 4.0 " +
+            "WHEN 'A-' THEN 3.667 " +
+            "WHEN 'B+' THEN 3.333 " +
+            "WHEN 'B' THEN 3.0 " +
+            "WHEN 'B-' THEN 2.667 " +
+            "WHEN 'C+' THEN 2.333 " +
+            "WHEN 'C' THEN 2.0 " +
+            "WHEN 'C-' THEN 1.667 " +
+            "WHEN 'D+' THEN 1.333 " +
+            "WHEN 'D' THEN 1.0 " +
+            "WHEN 'D-' THEN 0.667 " +
+            "WHEN 'F' THEN 0.0 " +
+            "ELSE NULL END), SUM(CASE e.grade " +
+            "WHEN 'A' THEN 4.0 " +
+            "WHEN 'A-' THEN 3.667 " +
+            "WHEN 'B+' THEN 3.333 " +
+            "WHEN 'B' THEN 3.0 " +
+            "WHEN 'B-' THEN 2.667 " +
+            "WHEN 'C+' THEN 2.333 " +
+            "WHEN 'C' THEN 2.0 " +
+            "WHEN 'C-' THEN 1.667 " +
+            "WHEN 'D+' THEN 1.333 " +
+            "WHEN 'D' THEN 1.0 " +
+            "WHEN 'D-' THEN 0.667 " +
+            "WHEN 'F' THEN 0.0 " +
+            "ELSE NULL END) " +
+            "FROM Enrollment e " +
+            "WHERE e.status = 'COMPLETED' " +
+            "GROUP BY e.course.id")
+    List<Object[]> findCourseGradeTotals();
+}
@@ -0,0 +1,61 @@
+package edu.neu.curriculumRecommendation.mapper.repository;
+
+import edu.neu.curriculumRecommendation.dto.EnrollmentDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Enrollment JDBC Repository
+ * Writes many enrollments of one student at once through JDBC batching
+ */
+@Repository
+public class EnrollmentJdbcRepository {
+
+    private static final String DELETE_BY_STATUS_SQL = "DELETE FROM enrollments WHERE student_id = ? AND status = ?";
+
+    private static final String INSERT_SQL = "INSERT INTO enrollments "
+            + "(student_id, course_id, semester, year, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EnrollmentJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Drop the enrollments of a student with the given status
+     *
+     * @return number of deleted rows
+     */
+    public int deleteByStudentIdAndStatus(Long studentId, String status) {
+        return jdbcTemplate.update(DELETE_BY_STATUS_SQL, studentId, status);
+    }
+
+    /**
+     * Insert enrollments without grade or completion date; ids and timestamps are not written back
+     *
+     * @return number of inserted rows
+     */
+    public int insertAll(List<EnrollmentDTO> enrollments) {
+        if (enrollments.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, enrollments, BATCH_SIZE, (ps, dto) -> {
+            ps.setLong(1, dto.getStudentId());
+            ps.setLong(2, dto.getCourseId());
+            ps.setString(3, dto.getSemester());
+            ps.setInt(4, dto.getYear());
+            ps.setString(5, dto.getStatus());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+        return enrollments.size();
+    }
+}
@@ -2,8 +2,11 @@ package edu.neu.curriculumRecommendation.mapper.repository;
 
 import edu.neu.curriculumRecommendation.entity.Enrollment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,5 +26,22 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     boolean existsByStudentIdAndCourseIdAndSemesterAndYear(Long studentId, Long courseId, String semester, Integer year);
 
     Long countByCourseIdAndStatus(Long courseId, String status);
+
+    boolean existsByStudentIdAndCourseIdAndStatus(Long studentId, Long courseId, String status);
+
+    @Query("SELECT e.student.id, e.course.id FROM Enrollment e WHERE e.student.major = :major AND e.status = 'COMPLETED'")
+    List<Object[]> findCompletedPairsByMajor(@Param("major") String major);
+
+    @Query("SELECT e.student.id, e.course.id FROM Enrollment e WHERE e.student.id IN :studentIds AND e.status = 'COMPLETED'")
+    List<Object[]> findCompletedPairsByStudentIds(@Param("studentIds") Collection<Long> studentIds);
+
+    @Query("SELECT e.student.id, e.course.id FROM Enrollment e WHERE e.status = 'COMPLETED' ORDER BY e.student.id")
+    List<Object[]> findAllCompletedPairs();
+
+    @Query("SELECT e.course.id FROM Enrollment e WHERE e.student.id = :studentId AND e.status = 'COMPLETED'")
+    List<Long> findCompletedCourseIdsByStudentId(@Param("studentId") Long studentId);
+
+    @Query("SELECT e.course.id FROM Enrollment e WHERE e.student.id = :studentId AND e.status = :status")
+    List<Long> findCourseIdsByStudentIdAndStatus(@Param("studentId") Long studentId, @Param("status") String status);
 }
 
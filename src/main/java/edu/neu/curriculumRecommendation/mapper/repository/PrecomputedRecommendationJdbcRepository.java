@@ -0,0 +1,89 @@
+package edu.neu.curriculumRecommendation.mapper.repository;
+
+import edu.neu.curriculumRecommendation.dto.RecommendationDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Precomputed Recommendation JDBC Repository
+ * Replaces the precomputed rows of many students at once through JDBC batching
+ */
+@Repository
+public class PrecomputedRecommendationJdbcRepository {
+
+    private static final String DELETE_SQL = "DELETE FROM precomputed_recommendations WHERE student_id = ?";
+
+    private static final String INSERT_SQL = "INSERT INTO precomputed_recommendations "
+            + "(student_id, rank_position, course_id, course_code, course_name, match_score, reason, "
+            + "catalog_version, computed_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PrecomputedRecommendationJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Replace the rows of the given students in one transaction.
+     * Recommendations are ranked in list order per student.
+     *
+     * @param studentIds      students whose rows are replaced (also those without recommendations)
+     * @param recommendations new rows, grouped by student
+     * @param catalogVersion  catalog version the rows were computed against
+     * @param computedAt      computation time
+     * @return number of inserted rows
+     */
+    @Transactional
+    public int replace(Collection<Long> studentIds, List<RecommendationDTO> recommendations,
+                       long catalogVersion, LocalDateTime computedAt) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, new ArrayList<>(studentIds), BATCH_SIZE,
+                (ps, studentId) -> ps.setLong(1, studentId));
+        if (recommendations.isEmpty()) {
+            return 0;
+        }
+
+        int[] ranks = new int[recommendations.size()];
+        for (int i = 0; i < ranks.length; i++) {
+            boolean sameStudent = i > 0 && Objects.equals(recommendations.get(i).getStudentId(),
+                    recommendations.get(i - 1).getStudentId());
+            ranks[i] = sameStudent ? ranks[i - 1] + 1 : 1;
+        }
+        Timestamp computed = Timestamp.valueOf(computedAt);
+        List<Integer> positions = new ArrayList<>(ranks.length);
+        for (int i = 0; i < ranks.length; i++) {
+            positions.add(i);
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, positions, BATCH_SIZE, (ps, i) -> {
+            RecommendationDTO dto = recommendations.get(i);
+            ps.setLong(1, dto.getStudentId());
+            ps.setInt(2, ranks[i]);
+            ps.setLong(3, dto.getCourseId());
+            ps.setString(4, dto.getCourseCode());
+            ps.setString(5, dto.getCourseName());
+            ps.setDouble(6, dto.getMatchScore() != null ? dto.getMatchScore() : 0.0);
+            ps.setString(7, dto.getReason());
+            ps.setLong(8, catalogVersion);
+            ps.setTimestamp(9, computed);
+        });
+        return recommendations.size();
+    }
+
+    /**
+     * Drop the rows of one student, committed before returning even when called after another commit
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int deleteByStudentId(Long studentId) {
+        return jdbcTemplate.update(DELETE_SQL, studentId);
+    }
+}
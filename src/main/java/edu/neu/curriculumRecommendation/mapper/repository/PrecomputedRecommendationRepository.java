@@ -0,0 +1,25 @@
+package edu.neu.curriculumRecommendation.mapper.repository;
+
+import edu.neu.curriculumRecommendation.entity.PrecomputedRecommendation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PrecomputedRecommendationRepository extends JpaRepository<PrecomputedRecommendation, Long> {
+
+    List<PrecomputedRecommendation> findByStudentIdOrderByRankPositionAsc(Long studentId);
+
+    @Query("SELECT COUNT(DISTINCT p.studentId) FROM PrecomputedRecommendation p "
+            + "WHERE p.catalogVersion = :catalogVersion AND p.computedAt >= :since")
+    long countFreshStudents(@Param("catalogVersion") Long catalogVersion, @Param("since") LocalDateTime since);
+
+    @Query("SELECT MIN(p.computedAt) FROM PrecomputedRecommendation p "
+            + "WHERE p.catalogVersion = :catalogVersion AND p.computedAt >= :since")
+    LocalDateTime findOldestFreshComputedAt(@Param("catalogVersion") Long catalogVersion,
+                                            @Param("since") LocalDateTime since);
+}
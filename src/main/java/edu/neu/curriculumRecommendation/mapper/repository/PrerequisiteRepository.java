@@ -2,8 +2,11 @@ package edu.neu.curriculumRecommendation.mapper.repository;
 
 import edu.neu.curriculumRecommendation.entity.Prerequisite;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,5 +17,69 @@ public interface PrerequisiteRepository extends JpaRepository<Prerequisite, Long
     List<Prerequisite> findByPrerequisiteCourseId(Long prerequisiteCourseId);
 
     boolean existsByCourseIdAndPrerequisiteCourseId(Long courseId, Long prerequisiteCourseId);
-}
 
+    List<Prerequisite> findByCourseIdAndPrerequisiteCourseId(Long courseId, Long prerequisiteCourseId);
+
+    @Query("SELECT p.course.id, p.prerequisiteCourse.id FROM Prerequisite p")
+    List<Object[]> findAllEdges();
+
+    /**
+     * Prerequisite edges reachable from each of the given courses in one round trip (recursive CTE).
+     * The walk is keyed on (course, reached course) only and PostgreSQL's UNION drops rows already produced,
+     * so every course is expanded once per requested course however many paths lead to it, and a legacy cycle
+     * ends the walk; levels are left to the caller's breadth-first pass over the returned edges.
+     * Rows are ordered by course, dependent course, prerequisite id.
+     * Aliases are quoted so PostgreSQL keeps their case and they match the projection getters.
+     */
+    @Query(value = "WITH RECURSIVE reach (course_id, reached_course_id) AS ("
+            + " SELECT DISTINCT p.course_id, p.course_id FROM prerequisites p WHERE p.course_id IN (:courseIds)"
+            + " UNION"
+            + " SELECT r.course_id, p.prerequisite_course_id FROM reach r"
+            + " JOIN prerequisites p ON p.course_id = r.reached_course_id"
+            + ")"
+            + " SELECT DISTINCT r.course_id AS \"courseId\", p.course_id AS \"dependentCourseId\","
+            + " p.prerequisite_course_id AS \"prerequisiteCourseId\", co.course_code AS \"courseCode\","
+            + " co.course_name AS \"courseName\", co.credits AS \"credits\""
+            + " FROM reach r JOIN prerequisites p ON p.course_id = r.reached_course_id"
+            + " JOIN courses co ON co.id = p.prerequisite_course_id"
+            + " ORDER BY 1, 2, 3",
+            nativeQuery = true)
+    List<ChainEdgeRow> findPrerequisiteChainEdges(@Param("courseIds") Collection<Long> courseIds);
+
+    /**
+     * Whether the course requires the other one, directly or transitively (recursive CTE over the committed edges)
+     */
+    @Query(value = "WITH RECURSIVE reach (reached_course_id) AS ("
+            + " SELECT p.prerequisite_course_id FROM prerequisites p WHERE p.course_id = :courseId"
+            + " UNION"
+            + " SELECT p.prerequisite_course_id FROM reach r"
+            + " JOIN prerequisites p ON p.course_id = r.reached_course_id"
+            + ")"
+            + " SELECT EXISTS (SELECT 1 FROM reach WHERE reached_course_id = :requiredCourseId)",
+            nativeQuery = true)
+    boolean requiresTransitively(@Param("courseId") Long courseId, @Param("requiredCourseId") Long requiredCourseId);
+
+    /**
+     * One prerequisite edge reachable from a course in findPrerequisiteChainEdges
+     */
+    interface ChainEdgeRow {
+
+        /**
+         * Course whose chain the edge belongs to
+         */
+        Long getCourseId();
+
+        /**
+         * Course requiring the prerequisite
+         */
+        Long getDependentCourseId();
+
+        Long getPrerequisiteCourseId();
+
+        String getCourseCode();
+
+        String getCourseName();
+
+        Integer getCredits();
+    }
+}
@@ -2,6 +2,7 @@ package edu.neu.curriculumRecommendation.mapper.repository;
 
 import edu.neu.curriculumRecommendation.entity.ProgramRequirement;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,5 +19,8 @@ public interface ProgramRequirementRepository extends JpaRepository<ProgramRequi
     List<ProgramRequirement> findByMajorAndRequirementType(String major, String requirementType);
 
     List<ProgramRequirement> findByMajorAndCourseId(String major, Long courseId);
+
+    @Query("SELECT DISTINCT p.major FROM ProgramRequirement p WHERE p.major IS NOT NULL")
+    List<String> findDistinctMajors();
 }
 
@@ -0,0 +1,102 @@
+package edu.neu.curriculumRecommendation.mapper.repository;
+
+import edu.neu.curriculumRecommendation.dto.RecommendationDTO;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recommendation JDBC Repository
+ * Bulk inserts of recommendation rows through JDBC batching.
+ * Recommendation ids are IDENTITY generated, which disables Hibernate insert batching.
+ */
+@Repository
+public class RecommendationJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO recommendations "
+            + "(student_id, course_id, match_score, reason, recommended_at, status, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RecommendationJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insert all recommendations in batches
+     *
+     * @param recommendations recommendations to insert
+     * @return number of inserted rows
+     */
+    public int batchInsert(List<RecommendationDTO> recommendations) {
+        if (recommendations.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, recommendations, BATCH_SIZE,
+                (ps, dto) -> bind(ps, dto, now));
+        int inserted = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // SUCCESS_NO_INFO (-2) still means the row was written
+                inserted += count >= 0 ? count : 1;
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * Insert all recommendations in one batch and return the generated ids in input order
+     *
+     * @param recommendations recommendations to insert
+     * @return generated ids
+     */
+    public List<Long> batchInsertReturningIds(List<RecommendationDTO> recommendations) {
+        if (recommendations.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        bind(ps, recommendations.get(i), now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return recommendations.size();
+                    }
+                }, keyHolder);
+        List<Long> ids = new ArrayList<>(recommendations.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.get("id")).longValue());
+        }
+        return ids;
+    }
+
+    private static void bind(PreparedStatement ps, RecommendationDTO dto, Timestamp now) throws SQLException {
+        ps.setLong(1, dto.getStudentId());
+        ps.setLong(2, dto.getCourseId());
+        ps.setDouble(3, dto.getMatchScore() != null ? dto.getMatchScore() : 0.0);
+        ps.setString(4, dto.getReason());
+        ps.setTimestamp(5, dto.getRecommendedAt() != null ? Timestamp.valueOf(dto.getRecommendedAt()) : now);
+        ps.setString(6, dto.getStatus() != null ? dto.getStatus() : "PENDING");
+        ps.setTimestamp(7, now);
+        ps.setTimestamp(8, now);
+    }
+}
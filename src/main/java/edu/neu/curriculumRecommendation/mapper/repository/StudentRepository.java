@@ -2,8 +2,11 @@ package edu.neu.curriculumRecommendation.mapper.repository;
 
 import edu.neu.curriculumRecommendation.entity.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,5 +24,11 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     List<Student> findByMajor(String major);
 
     boolean existsByStudentId(String studentId);
+
+    @Query("SELECT s.id FROM Student s WHERE s.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT s.id FROM Student s WHERE s.enrollmentYear IS NULL OR s.enrollmentYear >= :minEnrollmentYear ORDER BY s.id")
+    List<Long> findActiveIds(@Param("minEnrollmentYear") Integer minEnrollmentYear);
 }
 
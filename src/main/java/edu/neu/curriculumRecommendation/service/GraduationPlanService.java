@@ -0,0 +1,41 @@
+package edu.neu.curriculumRecommendation.service;
+
+import edu.neu.curriculumRecommendation.vo.response.CriticalPathResponseVO;
+import edu.neu.curriculumRecommendation.vo.response.GraduationPlanResponseVO;
+
+/**
+ * Graduation Plan Service Interface
+ * Lays the remaining degree requirements of a student out over future terms
+ */
+public interface GraduationPlanService {
+
+    /**
+     * Generate a graduation plan without saving it
+     *
+     * @param studentId         student id
+     * @param maxCreditsPerTerm credit cap of every term, or null for the configured default
+     * @param includeSummer     whether Summer terms are planned
+     * @return planned terms and unplaced courses
+     */
+    GraduationPlanResponseVO generatePlan(Long studentId, Integer maxCreditsPerTerm, boolean includeSummer);
+
+    /**
+     * Generate a graduation plan and save it as the student's PLANNED enrollments,
+     * replacing the PLANNED enrollments they had
+     *
+     * @param studentId         student id
+     * @param maxCreditsPerTerm credit cap of every term, or null for the configured default
+     * @param includeSummer     whether Summer terms are planned
+     * @return saved plan
+     */
+    GraduationPlanResponseVO savePlan(Long studentId, Integer maxCreditsPerTerm, boolean includeSummer);
+
+    /**
+     * Get the critical path of the student's program and the fewest terms needed to finish it
+     *
+     * @param studentId         student id
+     * @param maxCreditsPerTerm credit cap of every term, or null for the configured default
+     * @return program and remaining critical path with the minimum terms remaining
+     */
+    CriticalPathResponseVO getCriticalPath(Long studentId, Integer maxCreditsPerTerm);
+}
@@ -0,0 +1,64 @@
+package edu.neu.curriculumRecommendation.service;
+
+import edu.neu.curriculumRecommendation.vo.response.PrerequisiteCourseVO;
+import edu.neu.curriculumRecommendation.vo.response.UnlocksResponseVO;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prerequisite Service Interface
+ * Validated write path for prerequisite edges; the prerequisite graph is kept acyclic
+ */
+public interface PrerequisiteService {
+
+    /**
+     * Get the full prerequisite chain of a course
+     *
+     * @param courseId course id
+     * @return all prerequisites with their level (1 = direct), ordered by level asc
+     */
+    List<PrerequisiteCourseVO> getPrerequisites(Long courseId);
+
+    /**
+     * Get the full prerequisite chains of many courses
+     *
+     * @param courseIds course ids
+     * @return course id to its prerequisites ordered by level asc; unknown courses are left out
+     */
+    Map<Long, List<PrerequisiteCourseVO>> getPrerequisites(Collection<Long> courseIds);
+
+    /**
+     * Get the courses that require a course, directly or transitively
+     *
+     * @param courseId  course id
+     * @param studentId optional student whose completed courses are taken into account
+     * @return unlock counts with the directly and transitively unlocked courses
+     */
+    UnlocksResponseVO getUnlocks(Long courseId, Long studentId);
+
+    /**
+     * Get the current catalog version; it changes with every course, prerequisite or requirement write
+     *
+     * @return catalog version for cache keys and ETags
+     */
+    long getCatalogVersion();
+
+    /**
+     * Add a direct prerequisite to a course
+     *
+     * @param courseId             course id
+     * @param prerequisiteCourseId course that must be completed first
+     * @return the added prerequisite
+     */
+    PrerequisiteCourseVO addPrerequisite(Long courseId, Long prerequisiteCourseId);
+
+    /**
+     * Remove a direct prerequisite from a course
+     *
+     * @param courseId             course id
+     * @param prerequisiteCourseId prerequisite course id
+     */
+    void removePrerequisite(Long courseId, Long prerequisiteCourseId);
+}
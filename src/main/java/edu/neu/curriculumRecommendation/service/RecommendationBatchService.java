@@ -0,0 +1,27 @@
+package edu.neu.curriculumRecommendation.service;
+
+import edu.neu.curriculumRecommendation.vo.request.BatchRecommendationRequestVO;
+import edu.neu.curriculumRecommendation.vo.response.BatchJobResponseVO;
+
+/**
+ * Recommendation Batch Service Interface
+ * Generates and persists recommendations for a whole cohort in one background job
+ */
+public interface RecommendationBatchService {
+
+    /**
+     * Start a batch job for a major or a list of students
+     *
+     * @param request batch request
+     * @return queued job
+     */
+    BatchJobResponseVO submit(BatchRecommendationRequestVO request);
+
+    /**
+     * Get progress of a batch job
+     *
+     * @param jobId job id
+     * @return job progress
+     */
+    BatchJobResponseVO getJob(String jobId);
+}
@@ -0,0 +1,37 @@
+package edu.neu.curriculumRecommendation.service;
+
+import edu.neu.curriculumRecommendation.dto.RecommendationDTO;
+import edu.neu.curriculumRecommendation.vo.response.PrecomputeStatusVO;
+
+import java.util.List;
+
+/**
+ * Recommendation Precompute Service Interface
+ * Computes personalized recommendations of all active students ahead of time into a read table
+ */
+public interface RecommendationPrecomputeService {
+
+    /**
+     * Start a precompute run in the background unless one is already running
+     *
+     * @return job status
+     */
+    PrecomputeStatusVO trigger();
+
+    /**
+     * Get progress of the current or last run and freshness of the precomputed rows
+     *
+     * @return job status
+     */
+    PrecomputeStatusVO getStatus();
+
+    /**
+     * Get the precomputed recommendations of a student if they are still fresh
+     *
+     * @param studentId student id
+     * @param limit     max number of recommendations
+     * @param explain   whether to keep reason text
+     * @return recommendations, or null when they must be computed live
+     */
+    List<RecommendationDTO> findFresh(Long studentId, int limit, boolean explain);
+}
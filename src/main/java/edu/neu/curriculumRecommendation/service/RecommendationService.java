@@ -1,6 +1,9 @@
 package edu.neu.curriculumRecommendation.service;
 
 import edu.neu.curriculumRecommendation.dto.RecommendationDTO;
+import edu.neu.curriculumRecommendation.vo.response.CacheStatsVO;
+import edu.neu.curriculumRecommendation.vo.response.DegreeAuditResponseVO;
+import edu.neu.curriculumRecommendation.vo.response.PipelineStageStatsVO;
 import edu.neu.curriculumRecommendation.vo.response.RecommendationResponseVO;
 
 import java.util.List;
@@ -28,6 +31,16 @@ public interface RecommendationService {
      */
     List<RecommendationDTO> generateRecommendations(Long studentId, Integer limit);
 
+    /**
+     * Generate recommended courses for a student with a limit
+     *
+     * @param studentId student id
+     * @param limit     max number of recommendations
+     * @param explain   whether to render reason text
+     * @return list of recommendations
+     */
+    List<RecommendationDTO> generateRecommendations(Long studentId, Integer limit, boolean explain);
+
     /**
      * Generate recommendations based on degree requirements (prioritize mandatory courses)
      *
@@ -37,6 +50,16 @@ public interface RecommendationService {
      */
     List<RecommendationResponseVO> generateByDegreeRequirements(Long studentId, Integer limit);
 
+    /**
+     * Generate recommendations based on degree requirements
+     *
+     * @param studentId student id
+     * @param limit     max number of recommendations
+     * @param explain   whether to render reason text and prerequisite chains
+     * @return list of recommendation responses
+     */
+    List<RecommendationResponseVO> generateByDegreeRequirements(Long studentId, Integer limit, boolean explain);
+
     /**
      * Generate recommendations based on course popularity (enrollment count + average grade)
      *
@@ -46,6 +69,60 @@ public interface RecommendationService {
      */
     List<RecommendationResponseVO> generateByPopular(Long studentId, Integer limit);
 
+    /**
+     * Generate recommendations based on course popularity
+     *
+     * @param studentId student id
+     * @param limit     max number of recommendations
+     * @param explain   whether to render reason text and prerequisite chains
+     * @return list of recommendation responses
+     */
+    List<RecommendationResponseVO> generateByPopular(Long studentId, Integer limit, boolean explain);
+
+    /**
+     * Generate one ranked list blending personalized, degree-requirement and popularity scores
+     *
+     * @param studentId student id
+     * @param limit     max number of recommendations
+     * @param explain   whether to render reason text and prerequisite chains
+     * @return list of recommendation responses with per-strategy score components
+     */
+    List<RecommendationResponseVO> generateBlended(Long studentId, Integer limit, boolean explain);
+
+    /**
+     * Audit the student's progress toward their major and rank the next requirement courses
+     *
+     * @param studentId student id
+     * @param limit     max number of next courses
+     * @param explain   whether to render reason text and prerequisite chains
+     * @return remaining credits per requirement type with ranked next courses
+     */
+    DegreeAuditResponseVO getDegreeAudit(Long studentId, Integer limit, boolean explain);
+
+    /**
+     * Generate recommendations from courses often completed together with the student's completed courses
+     *
+     * @param studentId student id
+     * @param limit     max number of recommendations
+     * @param explain   whether to render reason text and prerequisite chains
+     * @return list of recommendation responses
+     */
+    List<RecommendationResponseVO> generateByCoEnrollment(Long studentId, Integer limit, boolean explain);
+
+    /**
+     * Get hit/miss/eviction statistics of the recommendation result cache
+     *
+     * @return cache statistics
+     */
+    CacheStatsVO getCacheStats();
+
+    /**
+     * Get cumulative per-stage timings of the recommendation pipeline
+     *
+     * @return stage timings per strategy
+     */
+    List<PipelineStageStatsVO> getPipelineStats();
+
     /**
      * Save a recommendation record
      *
@@ -54,6 +131,14 @@ public interface RecommendationService {
      */
     RecommendationDTO saveRecommendation(RecommendationDTO recommendationDTO);
 
+    /**
+     * Save recommendation records in one transaction with a single batched insert
+     *
+     * @param recommendationDTOs recommendation dtos
+     * @return saved recommendation dtos with ids, in input order
+     */
+    List<RecommendationDTO> saveRecommendations(List<RecommendationDTO> recommendationDTOs);
+
     /**
      * Get recommendation history for a student
      *
@@ -2,12 +2,14 @@ package edu.neu.curriculumRecommendation.service.impl;
 
 import edu.neu.curriculumRecommendation.dto.CourseDTO;
 import edu.neu.curriculumRecommendation.entity.Course;
+import edu.neu.curriculumRecommendation.event.CatalogChangedEvent;
 import edu.neu.curriculumRecommendation.exception.ResourceNotFoundException;
 import edu.neu.curriculumRecommendation.mapper.converter.CourseConverter;
 import edu.neu.curriculumRecommendation.mapper.repository.CourseRepository;
 import edu.neu.curriculumRecommendation.mapper.repository.EnrollmentRepository;
 import edu.neu.curriculumRecommendation.service.CourseService;
 import edu.neu.curriculumRecommendation.validator.CourseValidator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,15 +27,18 @@ public class CourseServiceImpl implements CourseService {
     private final CourseConverter courseConverter;
     private final CourseValidator validator;
     private final EnrollmentRepository enrollmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CourseServiceImpl(CourseRepository courseRepository,
                              CourseConverter courseConverter,
                              CourseValidator validator,
-                             EnrollmentRepository enrollmentRepository) {
+                             EnrollmentRepository enrollmentRepository,
+                             ApplicationEventPublisher eventPublisher) {
         this.courseRepository = courseRepository;
         this.courseConverter = courseConverter;
         this.validator = validator;
         this.enrollmentRepository = enrollmentRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     private Integer calculateCurrentEnrollment(Long courseId) {
@@ -51,6 +56,7 @@ public class CourseServiceImpl implements CourseService {
 
         Course course = courseConverter.dtoToEntity(courseDTO);
         Course savedCourse = courseRepository.save(course);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Scope.COURSES));
         return courseConverter.entityToDto(savedCourse);
     }
 
@@ -73,6 +79,7 @@ public class CourseServiceImpl implements CourseService {
         course.setIsActive(courseDTO.getIsActive());
 
         Course updatedCourse = courseRepository.save(course);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Scope.COURSES));
         return courseConverter.entityToDto(updatedCourse);
     }
 
@@ -170,6 +177,7 @@ public class CourseServiceImpl implements CourseService {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Course not found with id: " + id));
         courseRepository.delete(course);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogChangedEvent.Scope.COURSES));
     }
 }
 
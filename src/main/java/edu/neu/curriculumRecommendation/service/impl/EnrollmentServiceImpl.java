@@ -4,6 +4,7 @@ import edu.neu.curriculumRecommendation.dto.EnrollmentDTO;
 import edu.neu.curriculumRecommendation.entity.Course;
 import edu.neu.curriculumRecommendation.entity.Enrollment;
 import edu.neu.curriculumRecommendation.entity.Student;
+import edu.neu.curriculumRecommendation.event.EnrollmentChangedEvent;
 import edu.neu.curriculumRecommendation.exception.DuplicateResourceException;
 import edu.neu.curriculumRecommendation.exception.ResourceNotFoundException;
 import edu.neu.curriculumRecommendation.exception.ValidationException;
@@ -13,6 +14,7 @@ import edu.neu.curriculumRecommendation.mapper.repository.EnrollmentRepository;
 import edu.neu.curriculumRecommendation.mapper.repository.StudentRepository;
 import edu.neu.curriculumRecommendation.service.EnrollmentService;
 import edu.neu.curriculumRecommendation.util.GradeUtil;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,15 +28,18 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     private final EnrollmentConverter enrollmentConverter;
     private final StudentRepository studentRepository;
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public EnrollmentServiceImpl(EnrollmentRepository enrollmentRepository,
                                  EnrollmentConverter enrollmentConverter,
                                  StudentRepository studentRepository,
-                                 CourseRepository courseRepository) {
+                                 CourseRepository courseRepository,
+                                 ApplicationEventPublisher eventPublisher) {
         this.enrollmentRepository = enrollmentRepository;
         this.enrollmentConverter = enrollmentConverter;
         this.studentRepository = studentRepository;
         this.courseRepository = courseRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -74,6 +79,8 @@ public class EnrollmentServiceImpl implements EnrollmentService {
             recalculateStudentGPA(student.getId());
         }
 
+        eventPublisher.publishEvent(new EnrollmentChangedEvent(student.getId(), course.getId(),
+                null, null, saved.getStatus(), saved.getGrade()));
         return enrollmentConverter.entityToDto(saved);
     }
 
@@ -102,6 +109,8 @@ public class EnrollmentServiceImpl implements EnrollmentService {
             recalculateStudentGPA(updated.getStudent().getId());
         }
 
+        eventPublisher.publishEvent(new EnrollmentChangedEvent(updated.getStudent().getId(), updated.getCourse().getId(),
+                oldStatus, oldGrade, updated.getStatus(), updated.getGrade()));
         return enrollmentConverter.entityToDto(updated);
     }
 
@@ -130,8 +139,12 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         Enrollment enrollment = enrollmentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Enrollment not found with id: " + id));
         Long studentId = enrollment.getStudent().getId();
+        Long courseId = enrollment.getCourse().getId();
+        String oldStatus = enrollment.getStatus();
+        String oldGrade = enrollment.getGrade();
         enrollmentRepository.delete(enrollment);
         recalculateStudentGPA(studentId);
+        eventPublisher.publishEvent(new EnrollmentChangedEvent(studentId, courseId, oldStatus, oldGrade, null, null));
     }
 
     @Override
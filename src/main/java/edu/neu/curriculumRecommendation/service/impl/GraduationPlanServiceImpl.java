@@ -0,0 +1,224 @@
+package edu.neu.curriculumRecommendation.service.impl;
+
+import edu.neu.curriculumRecommendation.dto.EnrollmentDTO;
+import edu.neu.curriculumRecommendation.engine.CourseCatalogSnapshot;
+import edu.neu.curriculumRecommendation.engine.CriticalPathEngine;
+import edu.neu.curriculumRecommendation.engine.DegreeAuditEngine;
+import edu.neu.curriculumRecommendation.engine.GraduationPlanner;
+import edu.neu.curriculumRecommendation.engine.RecommendationContext;
+import edu.neu.curriculumRecommendation.engine.RecommendationPipeline;
+import edu.neu.curriculumRecommendation.entity.Course;
+import edu.neu.curriculumRecommendation.event.EnrollmentChangedEvent;
+import edu.neu.curriculumRecommendation.exception.ValidationException;
+import edu.neu.curriculumRecommendation.mapper.repository.EnrollmentJdbcRepository;
+import edu.neu.curriculumRecommendation.mapper.repository.EnrollmentRepository;
+import edu.neu.curriculumRecommendation.service.GraduationPlanService;
+import edu.neu.curriculumRecommendation.vo.response.CriticalPathResponseVO;
+import edu.neu.curriculumRecommendation.vo.response.GraduationPlanResponseVO;
+import edu.neu.curriculumRecommendation.vo.response.PlannedCourseVO;
+import edu.neu.curriculumRecommendation.vo.response.PlannedTermVO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Graduation Plan Service Implementation
+ * Plans with the cached prerequisite graph, eligibility frontier and compiled program of the student's major;
+ * saved plans are written as PLANNED enrollments in one JDBC batch.
+ */
+@Service
+public class GraduationPlanServiceImpl implements GraduationPlanService {
+
+    private static final Logger log = LoggerFactory.getLogger(GraduationPlanServiceImpl.class);
+
+    private static final String STATUS_PLANNED = "PLANNED";
+    private static final String STATUS_IN_PROGRESS = "IN_PROGRESS";
+
+    private final RecommendationPipeline recommendationPipeline;
+    private final GraduationPlanner graduationPlanner;
+    private final CriticalPathEngine criticalPathEngine;
+    private final DegreeAuditEngine degreeAuditEngine;
+    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentJdbcRepository enrollmentJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int defaultMaxCreditsPerTerm;
+
+    public GraduationPlanServiceImpl(RecommendationPipeline recommendationPipeline,
+                                     GraduationPlanner graduationPlanner,
+                                     CriticalPathEngine criticalPathEngine,
+                                     DegreeAuditEngine degreeAuditEngine,
+                                     EnrollmentRepository enrollmentRepository,
+                                     EnrollmentJdbcRepository enrollmentJdbcRepository,
+                                     ApplicationEventPublisher eventPublisher,
+                                     @Value("${recommendation.planner.max-credits-per-term:16}") int defaultMaxCreditsPerTerm) {
+        this.recommendationPipeline = recommendationPipeline;
+        this.graduationPlanner = graduationPlanner;
+        this.criticalPathEngine = criticalPathEngine;
+        this.degreeAuditEngine = degreeAuditEngine;
+        this.enrollmentRepository = enrollmentRepository;
+        this.enrollmentJdbcRepository = enrollmentJdbcRepository;
+        this.eventPublisher = eventPublisher;
+        this.defaultMaxCreditsPerTerm = defaultMaxCreditsPerTerm;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public GraduationPlanResponseVO generatePlan(Long studentId, Integer maxCreditsPerTerm, boolean includeSummer) {
+        int cap = resolveMaxCredits(maxCreditsPerTerm);
+        RecommendationContext context = recommendationPipeline.createContext(studentId);
+        return toResponse(context, plan(context, cap, includeSummer), cap, null);
+    }
+
+    @Override
+    @Transactional
+    public GraduationPlanResponseVO savePlan(Long studentId, Integer maxCreditsPerTerm, boolean includeSummer) {
+        int cap = resolveMaxCredits(maxCreditsPerTerm);
+        RecommendationContext context = recommendationPipeline.createContext(studentId);
+        GraduationPlanner.Plan plan = plan(context, cap, includeSummer);
+
+        List<EnrollmentDTO> enrollments = new ArrayList<>();
+        for (GraduationPlanner.Term term : plan.getTerms()) {
+            for (GraduationPlanner.PlannedCourse course : term.getCourses()) {
+                EnrollmentDTO dto = new EnrollmentDTO();
+                dto.setStudentId(studentId);
+                dto.setCourseId(course.getCourseId());
+                dto.setSemester(term.getSemester());
+                dto.setYear(term.getYear());
+                dto.setStatus(STATUS_PLANNED);
+                enrollments.add(dto);
+            }
+        }
+
+        List<Long> replaced = enrollmentRepository.findCourseIdsByStudentIdAndStatus(studentId, STATUS_PLANNED);
+        enrollmentJdbcRepository.deleteByStudentIdAndStatus(studentId, STATUS_PLANNED);
+        int saved = enrollmentJdbcRepository.insertAll(enrollments);
+        for (Long courseId : replaced) {
+            eventPublisher.publishEvent(new EnrollmentChangedEvent(studentId, courseId,
+                    STATUS_PLANNED, null, null, null));
+        }
+        for (EnrollmentDTO dto : enrollments) {
+            eventPublisher.publishEvent(new EnrollmentChangedEvent(studentId, dto.getCourseId(),
+                    null, null, STATUS_PLANNED, null));
+        }
+        log.info("Saved graduation plan of student {}: {} planned enrollments replacing {}",
+                studentId, saved, replaced.size());
+        return toResponse(context, plan, cap, saved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CriticalPathResponseVO getCriticalPath(Long studentId, Integer maxCreditsPerTerm) {
+        int cap = resolveMaxCredits(maxCreditsPerTerm);
+        RecommendationContext context = recommendationPipeline.createContext(studentId);
+        CriticalPathEngine.ProgramPaths paths = criticalPathEngine.program(context);
+        CriticalPathEngine.Remaining remaining = context.getCriticalPath();
+        int remainingCredits = degreeAuditEngine.audit(context).getRemainingCredits();
+        int creditTerms = (remainingCredits + cap - 1) / cap;
+        return CriticalPathResponseVO.builder()
+                .studentId(studentId)
+                .major(context.getStudent().getMajor())
+                .programCriticalPathLength(paths.getLength())
+                .programCriticalPath(toCourses(context, paths.getCriticalPath()))
+                .remainingCriticalPathLength(remaining.getLength())
+                .remainingCriticalPath(toCourses(context, remaining.getPath()))
+                .remainingCredits(remainingCredits)
+                .maxCreditsPerTerm(cap)
+                .minimumTermsRemaining(Math.max(remaining.getLength(), creditTerms))
+                .build();
+    }
+
+    private GraduationPlanner.Plan plan(RecommendationContext context, int cap, boolean includeSummer) {
+        List<Long> inProgress = enrollmentRepository.findCourseIdsByStudentIdAndStatus(
+                context.getStudent().getId(), STATUS_IN_PROGRESS);
+        return graduationPlanner.plan(context, inProgress, cap, includeSummer);
+    }
+
+    private int resolveMaxCredits(Integer maxCreditsPerTerm) {
+        if (maxCreditsPerTerm == null) {
+            return defaultMaxCreditsPerTerm;
+        }
+        if (maxCreditsPerTerm <= 0) {
+            throw new ValidationException("maxCreditsPerTerm must be positive");
+        }
+        return maxCreditsPerTerm;
+    }
+
+    private GraduationPlanResponseVO toResponse(RecommendationContext context, GraduationPlanner.Plan plan,
+                                                int cap, Integer saved) {
+        CourseCatalogSnapshot catalog = context.getCatalog();
+        List<PlannedTermVO> terms = new ArrayList<>(plan.getTerms().size());
+        int plannedCredits = 0;
+        for (GraduationPlanner.Term term : plan.getTerms()) {
+            List<PlannedCourseVO> courses = new ArrayList<>(term.getCourses().size());
+            for (GraduationPlanner.PlannedCourse course : term.getCourses()) {
+                courses.add(toCourse(catalog, course));
+            }
+            plannedCredits += term.getCredits();
+            terms.add(PlannedTermVO.builder()
+                    .semester(term.getSemester())
+                    .year(term.getYear())
+                    .credits(term.getCredits())
+                    .courses(courses)
+                    .build());
+        }
+        List<PlannedCourseVO> unscheduled = new ArrayList<>(plan.getUnscheduled().size());
+        for (GraduationPlanner.PlannedCourse course : plan.getUnscheduled()) {
+            unscheduled.add(toCourse(catalog, course));
+        }
+        return GraduationPlanResponseVO.builder()
+                .studentId(context.getStudent().getId())
+                .major(context.getStudent().getMajor())
+                .maxCreditsPerTerm(cap)
+                .plannedCredits(plannedCredits)
+                .terms(terms)
+                .unscheduledCourses(unscheduled)
+                .complete(unscheduled.isEmpty())
+                .searchTimedOut(plan.isSearchTimedOut())
+                .savedEnrollments(saved)
+                .build();
+    }
+
+    private List<PlannedCourseVO> toCourses(RecommendationContext context, long[] courseIds) {
+        CourseCatalogSnapshot catalog = context.getCatalog();
+        DegreeAuditEngine.Program program = context.getProgram();
+        List<PlannedCourseVO> courses = new ArrayList<>(courseIds.length);
+        for (long courseId : courseIds) {
+            PlannedCourseVO.PlannedCourseVOBuilder builder = PlannedCourseVO.builder().courseId(courseId);
+            int index = catalog.indexOf(courseId);
+            if (index >= 0) {
+                Course entity = catalog.courseAt(index);
+                builder.courseCode(entity.getCourseCode())
+                        .courseName(entity.getCourseName())
+                        .credits(catalog.creditsAt(index));
+            }
+            DegreeAuditEngine.Requirement requirement = program.requirementFor(courseId);
+            if (requirement != null) {
+                builder.requirementType(requirement.getRequirementType())
+                        .isMandatory(requirement.isMandatory());
+            }
+            courses.add(builder.build());
+        }
+        return courses;
+    }
+
+    private PlannedCourseVO toCourse(CourseCatalogSnapshot catalog, GraduationPlanner.PlannedCourse course) {
+        PlannedCourseVO.PlannedCourseVOBuilder builder = PlannedCourseVO.builder()
+                .courseId(course.getCourseId())
+                .credits(course.getCredits());
+        if (course.getCatalogIndex() >= 0) {
+            Course entity = catalog.courseAt(course.getCatalogIndex());
+            builder.courseCode(entity.getCourseCode()).courseName(entity.getCourseName());
+        }
+        if (course.getRequirement() != null) {
+            builder.requirementType(course.getRequirement().getRequirementType())
+                    .isMandatory(course.getRequirement().isMandatory());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,314 @@
+package edu.neu.curriculumRecommendation.service.impl;
+
+import edu.neu.curriculumRecommendation.engine.BitSets;
+import edu.neu.curriculumRecommendation.engine.CatalogSnapshotHolder;
+import edu.neu.curriculumRecommendation.engine.CatalogVersion;
+import edu.neu.curriculumRecommendation.engine.CourseCatalogSnapshot;
+import edu.neu.curriculumRecommendation.engine.PrerequisiteGraph;
+import edu.neu.curriculumRecommendation.engine.RecommendationContext;
+import edu.neu.curriculumRecommendation.engine.RecommendationPipeline;
+import edu.neu.curriculumRecommendation.engine.UnlockIndex;
+import edu.neu.curriculumRecommendation.entity.Course;
+import edu.neu.curriculumRecommendation.entity.Prerequisite;
+import edu.neu.curriculumRecommendation.event.PrerequisiteChangedEvent;
+import edu.neu.curriculumRecommendation.exception.DuplicateResourceException;
+import edu.neu.curriculumRecommendation.exception.ResourceNotFoundException;
+import edu.neu.curriculumRecommendation.exception.ValidationException;
+import edu.neu.curriculumRecommendation.mapper.repository.CourseRepository;
+import edu.neu.curriculumRecommendation.mapper.repository.PrerequisiteRepository;
+import edu.neu.curriculumRecommendation.service.PrerequisiteService;
+import edu.neu.curriculumRecommendation.vo.response.PrerequisiteCourseVO;
+import edu.neu.curriculumRecommendation.vo.response.UnlocksResponseVO;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Prerequisite Service Implementation
+ * Chains are read from the published catalog snapshot once there is one; otherwise from one recursive
+ * query over the reachable edges, so a cold lookup costs a single statement instead of loading every edge.
+ * While the published snapshot trails a catalog write, chains come from the prerequisite graph, which
+ * applies validated edge writes immediately, so a read after a write never returns the old chain.
+ * Each edge write is checked against the in-memory graph first, then committed in its own transaction that
+ * holds the catalog revision row lock and checks again against the committed edges, so concurrent writes
+ * from any instance are validated one after another. The graph lock is not held during the transaction.
+ */
+@Service
+public class PrerequisiteServiceImpl implements PrerequisiteService {
+
+    private final PrerequisiteRepository prerequisiteRepository;
+    private final CourseRepository courseRepository;
+    private final PrerequisiteGraph prerequisiteGraph;
+    private final UnlockIndex unlockIndex;
+    private final RecommendationPipeline recommendationPipeline;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final CatalogVersion catalogVersion;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PrerequisiteServiceImpl(PrerequisiteRepository prerequisiteRepository,
+                                   CourseRepository courseRepository,
+                                   PrerequisiteGraph prerequisiteGraph,
+                                   UnlockIndex unlockIndex,
+                                   RecommendationPipeline recommendationPipeline,
+                                   CatalogSnapshotHolder catalogSnapshotHolder,
+                                   CatalogVersion catalogVersion,
+                                   TransactionTemplate transactionTemplate,
+                                   ApplicationEventPublisher eventPublisher) {
+        this.prerequisiteRepository = prerequisiteRepository;
+        this.courseRepository = courseRepository;
+        this.prerequisiteGraph = prerequisiteGraph;
+        this.unlockIndex = unlockIndex;
+        this.recommendationPipeline = recommendationPipeline;
+        this.catalogSnapshotHolder = catalogSnapshotHolder;
+        this.catalogVersion = catalogVersion;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public List<PrerequisiteCourseVO> getPrerequisites(Long courseId) {
+        if (!catalogSnapshotHolder.isLoaded()) {
+            if (!courseRepository.existsById(courseId)) {
+                throw new ResourceNotFoundException("Course not found with id: " + courseId);
+            }
+            return queryChains(List.of(courseId)).getOrDefault(courseId, new ArrayList<>());
+        }
+        CatalogSnapshotHolder.Snapshot snapshot = catalogSnapshotHolder.current();
+        if (snapshot.getCourses().indexOf(courseId) < 0) {
+            throw new ResourceNotFoundException("Course not found with id: " + courseId);
+        }
+        return chainFromGraph(snapshot.getCourses(), graphOf(snapshot), courseId);
+    }
+
+    @Override
+    public Map<Long, List<PrerequisiteCourseVO>> getPrerequisites(Collection<Long> courseIds) {
+        if (courseIds.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+        if (!catalogSnapshotHolder.isLoaded()) {
+            Set<Long> known = new HashSet<>(courseRepository.findExistingIds(courseIds));
+            Map<Long, List<PrerequisiteCourseVO>> queried = queryChains(courseIds);
+            Map<Long, List<PrerequisiteCourseVO>> chains = new LinkedHashMap<>();
+            for (Long courseId : courseIds) {
+                if (known.contains(courseId)) {
+                    chains.put(courseId, queried.getOrDefault(courseId, new ArrayList<>()));
+                }
+            }
+            return chains;
+        }
+        CatalogSnapshotHolder.Snapshot snapshot = catalogSnapshotHolder.current();
+        PrerequisiteGraph.Snapshot graph = graphOf(snapshot);
+        Map<Long, List<PrerequisiteCourseVO>> chains = new LinkedHashMap<>();
+        for (Long courseId : courseIds) {
+            if (snapshot.getCourses().indexOf(courseId) >= 0) {
+                chains.put(courseId, chainFromGraph(snapshot.getCourses(), graph, courseId));
+            }
+        }
+        return chains;
+    }
+
+    @Override
+    public long getCatalogVersion() {
+        return catalogSnapshotHolder.current().getVersion();
+    }
+
+    @Override
+    public UnlocksResponseVO getUnlocks(Long courseId, Long studentId) {
+        PrerequisiteGraph.Snapshot graph;
+        CourseCatalogSnapshot catalog;
+        long[] completed;
+        if (studentId != null) {
+            RecommendationContext context = recommendationPipeline.createContext(studentId);
+            graph = context.getGraph();
+            catalog = context.getCatalog();
+            completed = context.getCompleted();
+        } else {
+            CatalogSnapshotHolder.Snapshot snapshot = catalogSnapshotHolder.current();
+            graph = snapshot.getGraph();
+            catalog = snapshot.getCourses();
+            completed = BitSets.create(graph.size());
+        }
+        int index = graph.indexOf(courseId);
+        int courseIndex = catalog.indexOf(courseId);
+        if (index < 0 || courseIndex < 0) {
+            throw new ResourceNotFoundException("Course not found with id: " + courseId);
+        }
+
+        UnlockIndex.Snapshot unlocks = unlockIndex.of(graph);
+        // A descendant is directly unlocked when this course is its only missing prerequisite
+        long[] withCourse = completed.clone();
+        BitSets.set(withCourse, index);
+        List<PrerequisiteCourseVO> direct = new ArrayList<>();
+        List<PrerequisiteCourseVO> all = new ArrayList<>();
+        long[] descendants = unlocks.descendants(index);
+        for (int d = BitSets.nextSetBit(descendants, 0); d >= 0; d = BitSets.nextSetBit(descendants, d + 1)) {
+            int dependentIndex = catalog.indexOf(graph.courseIdAt(d));
+            if (dependentIndex < 0) {
+                continue;
+            }
+            boolean isCompleted = BitSets.get(completed, d);
+            PrerequisiteCourseVO unlocked = toResponse(catalog.courseAt(dependentIndex), graph.levelOf(d, index));
+            unlocked.setIsCompleted(isCompleted);
+            all.add(unlocked);
+            if (!isCompleted && graph.isSatisfied(d, withCourse)) {
+                direct.add(unlocked);
+            }
+        }
+        all.sort(Comparator.comparing(PrerequisiteCourseVO::getLevel)
+                .thenComparing(PrerequisiteCourseVO::getCourseId));
+        direct.sort(Comparator.comparing(PrerequisiteCourseVO::getCourseId));
+
+        Course course = catalog.courseAt(courseIndex);
+        return UnlocksResponseVO.builder()
+                .courseId(course.getId())
+                .courseCode(course.getCourseCode())
+                .courseName(course.getCourseName())
+                .unlockCount(unlocks.unlockCount(index))
+                .unlockWeight(unlocks.unlockWeight(index, completed))
+                .directlyUnlocked(direct)
+                .unlockedCourses(all)
+                .build();
+    }
+
+    @Override
+    public PrerequisiteCourseVO addPrerequisite(Long courseId, Long prerequisiteCourseId) {
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found with id: " + courseId));
+        Course prerequisiteCourse = courseRepository.findById(prerequisiteCourseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found with id: " + prerequisiteCourseId));
+
+        prerequisiteGraph.addEdge(courseId, prerequisiteCourseId, () -> transactionTemplate.executeWithoutResult(status -> {
+            catalogVersion.lockForWrite();
+            if (prerequisiteRepository.existsByCourseIdAndPrerequisiteCourseId(courseId, prerequisiteCourseId)) {
+                throw duplicateEdge(courseId, prerequisiteCourseId);
+            }
+            // Edges committed by another instance are not in this instance's graph yet
+            if (prerequisiteRepository.requiresTransitively(prerequisiteCourseId, courseId)) {
+                throw new ValidationException("Prerequisite would create a cycle: course " + prerequisiteCourseId
+                        + " already requires course " + courseId);
+            }
+            Prerequisite prerequisite = new Prerequisite();
+            prerequisite.setCourse(course);
+            prerequisite.setPrerequisiteCourse(prerequisiteCourse);
+            try {
+                prerequisiteRepository.save(prerequisite);
+            } catch (DataIntegrityViolationException ex) {
+                // Unique (course_id, prerequisite_course_id): inserted without the revision lock since the check
+                throw duplicateEdge(courseId, prerequisiteCourseId);
+            }
+            // Published inside the transaction so the catalog version is incremented before it commits
+            eventPublisher.publishEvent(new PrerequisiteChangedEvent(courseId, prerequisiteCourseId, true));
+        }));
+        return toResponse(prerequisiteCourse, 1);
+    }
+
+    @Override
+    public void removePrerequisite(Long courseId, Long prerequisiteCourseId) {
+        // Looked up under the revision lock, so of two concurrent removes only the first finds the edge
+        prerequisiteGraph.removeEdge(courseId, prerequisiteCourseId, () -> transactionTemplate.executeWithoutResult(status -> {
+            catalogVersion.lockForWrite();
+            List<Prerequisite> edges = prerequisiteRepository.findByCourseIdAndPrerequisiteCourseId(courseId, prerequisiteCourseId);
+            if (edges.isEmpty()) {
+                throw new ResourceNotFoundException("Course " + courseId + " does not require course " + prerequisiteCourseId);
+            }
+            prerequisiteRepository.deleteAll(edges);
+            eventPublisher.publishEvent(new PrerequisiteChangedEvent(courseId, prerequisiteCourseId, false));
+        }));
+    }
+
+    private DuplicateResourceException duplicateEdge(Long courseId, Long prerequisiteCourseId) {
+        return new DuplicateResourceException("Course " + courseId + " already requires course " + prerequisiteCourseId);
+    }
+
+    /**
+     * Graph of the published snapshot, or the prerequisite graph itself while the snapshot trails a write
+     */
+    private PrerequisiteGraph.Snapshot graphOf(CatalogSnapshotHolder.Snapshot snapshot) {
+        return snapshot.getVersion() < catalogSnapshotHolder.version() ? prerequisiteGraph.snapshot() : snapshot.getGraph();
+    }
+
+    private List<PrerequisiteCourseVO> chainFromGraph(CourseCatalogSnapshot catalog, PrerequisiteGraph.Snapshot graph,
+                                                      Long courseId) {
+        Map<Long, Integer> prerequisites = graph.getAllPrerequisitesWithLevels(courseId);
+        List<PrerequisiteCourseVO> chain = new ArrayList<>(prerequisites.size());
+        for (Map.Entry<Long, Integer> entry : prerequisites.entrySet()) {
+            int index = catalog.indexOf(entry.getKey());
+            if (index >= 0) {
+                chain.add(toResponse(catalog.courseAt(index), entry.getValue()));
+            }
+        }
+        return chain;
+    }
+
+    /**
+     * Chains of all given courses in one round trip; the query returns each chain's edges, levels come from
+     * a breadth-first pass over them
+     */
+    private Map<Long, List<PrerequisiteCourseVO>> queryChains(Collection<Long> courseIds) {
+        // Chain edges of each course by dependent course
+        Map<Long, Map<Long, List<PrerequisiteRepository.ChainEdgeRow>>> edges = new HashMap<>();
+        for (PrerequisiteRepository.ChainEdgeRow row : prerequisiteRepository.findPrerequisiteChainEdges(courseIds)) {
+            edges.computeIfAbsent(row.getCourseId(), id -> new HashMap<>())
+                    .computeIfAbsent(row.getDependentCourseId(), id -> new ArrayList<>())
+                    .add(row);
+        }
+        Map<Long, List<PrerequisiteCourseVO>> chains = new HashMap<>();
+        for (Map.Entry<Long, Map<Long, List<PrerequisiteRepository.ChainEdgeRow>>> chain : edges.entrySet()) {
+            chains.put(chain.getKey(), withLevels(chain.getKey(), chain.getValue()));
+        }
+        return chains;
+    }
+
+    /**
+     * Prerequisites of a course at their shortest level (1 = direct), ordered by level and course id
+     */
+    private List<PrerequisiteCourseVO> withLevels(Long courseId,
+                                                  Map<Long, List<PrerequisiteRepository.ChainEdgeRow>> edgesByDependent) {
+        List<PrerequisiteCourseVO> chain = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        seen.add(courseId);
+        List<Long> frontier = List.of(courseId);
+        for (int level = 1; !frontier.isEmpty(); level++) {
+            List<Long> next = new ArrayList<>();
+            for (Long dependentId : frontier) {
+                for (PrerequisiteRepository.ChainEdgeRow row : edgesByDependent.getOrDefault(dependentId, List.of())) {
+                    if (seen.add(row.getPrerequisiteCourseId())) {
+                        next.add(row.getPrerequisiteCourseId());
+                        chain.add(PrerequisiteCourseVO.builder()
+                                .courseId(row.getPrerequisiteCourseId())
+                                .courseCode(row.getCourseCode())
+                                .courseName(row.getCourseName())
+                                .credits(row.getCredits())
+                                .level(level)
+                                .build());
+                    }
+                }
+            }
+            frontier = next;
+        }
+        chain.sort(Comparator.comparing(PrerequisiteCourseVO::getLevel).thenComparing(PrerequisiteCourseVO::getCourseId));
+        return chain;
+    }
+
+    private PrerequisiteCourseVO toResponse(Course course, int level) {
+        return PrerequisiteCourseVO.builder()
+                .courseId(course.getId())
+                .courseCode(course.getCourseCode())
+                .courseName(course.getCourseName())
+                .credits(course.getCredits())
+                .level(level)
+                .build();
+    }
+}
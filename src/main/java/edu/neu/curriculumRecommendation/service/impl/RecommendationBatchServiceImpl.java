@@ -0,0 +1,256 @@
+package edu.neu.curriculumRecommendation.service.impl;
+
+import edu.neu.curriculumRecommendation.dto.RecommendationDTO;
+import edu.neu.curriculumRecommendation.engine.BitSets;
+import edu.neu.curriculumRecommendation.engine.CareerTagIndex;
+import edu.neu.curriculumRecommendation.engine.CatalogSnapshotHolder;
+import edu.neu.curriculumRecommendation.engine.PrerequisiteGraph;
+import edu.neu.curriculumRecommendation.engine.RecommendationContext;
+import edu.neu.curriculumRecommendation.engine.RecommendationPipeline;
+import edu.neu.curriculumRecommendation.engine.RecommendationStrategy;
+import edu.neu.curriculumRecommendation.engine.strategy.PersonalizedStrategy;
+import edu.neu.curriculumRecommendation.entity.Student;
+import edu.neu.curriculumRecommendation.exception.ResourceNotFoundException;
+import edu.neu.curriculumRecommendation.exception.ValidationException;
+import edu.neu.curriculumRecommendation.mapper.repository.EnrollmentRepository;
+import edu.neu.curriculumRecommendation.mapper.repository.RecommendationJdbcRepository;
+import edu.neu.curriculumRecommendation.mapper.repository.StudentRepository;
+import edu.neu.curriculumRecommendation.service.RecommendationBatchService;
+import edu.neu.curriculumRecommendation.vo.request.BatchRecommendationRequestVO;
+import edu.neu.curriculumRecommendation.vo.response.BatchJobResponseVO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Recommendation Batch Service Implementation
+ * Loads the catalog, prerequisite closure and career tag index once per job, reads every student's
+ * completed courses in a single query, scores students in parallel on the scoring pool and writes
+ * the results chunk by chunk with JDBC batching.
+ */
+@Service
+public class RecommendationBatchServiceImpl implements RecommendationBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecommendationBatchServiceImpl.class);
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    // Finished jobs kept for progress queries
+    private static final int MAX_RETAINED_JOBS = 100;
+
+    private final StudentRepository studentRepository;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final EnrollmentRepository enrollmentRepository;
+    private final RecommendationJdbcRepository recommendationJdbcRepository;
+    private final CareerTagIndex careerTagIndex;
+    private final RecommendationPipeline recommendationPipeline;
+    private final ForkJoinPool scoringPool;
+    private final TaskExecutor batchExecutor;
+    private final int chunkSize;
+
+    private final Map<String, BatchJob> jobs = new LinkedHashMap<>();
+
+    public RecommendationBatchServiceImpl(StudentRepository studentRepository,
+                                          CatalogSnapshotHolder catalogSnapshotHolder,
+                                          EnrollmentRepository enrollmentRepository,
+                                          RecommendationJdbcRepository recommendationJdbcRepository,
+                                          CareerTagIndex careerTagIndex,
+                                          RecommendationPipeline recommendationPipeline,
+                                          @Qualifier("recommendationScoringPool") ForkJoinPool scoringPool,
+                                          @Qualifier("recommendationBatchExecutor") TaskExecutor batchExecutor,
+                                          @Value("${recommendation.batch.chunk-size:200}") int chunkSize) {
+        this.studentRepository = studentRepository;
+        this.catalogSnapshotHolder = catalogSnapshotHolder;
+        this.enrollmentRepository = enrollmentRepository;
+        this.recommendationJdbcRepository = recommendationJdbcRepository;
+        this.careerTagIndex = careerTagIndex;
+        this.recommendationPipeline = recommendationPipeline;
+        this.scoringPool = scoringPool;
+        this.batchExecutor = batchExecutor;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Override
+    public BatchJobResponseVO submit(BatchRecommendationRequestVO request) {
+        boolean byMajor = request.getMajor() != null && !request.getMajor().isBlank();
+        boolean byIds = request.getStudentIds() != null && !request.getStudentIds().isEmpty();
+        if (!byMajor && !byIds) {
+            throw new ValidationException("Either major or studentIds is required");
+        }
+        int limit = request.getLimit() == null || request.getLimit() <= 0 ? DEFAULT_LIMIT : request.getLimit();
+
+        BatchJob job = new BatchJob(UUID.randomUUID().toString(), byMajor ? request.getMajor().trim() : null);
+        synchronized (jobs) {
+            retainRecentJobs();
+            jobs.put(job.id, job);
+        }
+        List<Long> studentIds = byMajor ? null : List.copyOf(request.getStudentIds());
+        batchExecutor.execute(() -> run(job, studentIds, limit));
+        return job.toResponse();
+    }
+
+    @Override
+    public BatchJobResponseVO getJob(String jobId) {
+        BatchJob job;
+        synchronized (jobs) {
+            job = jobs.get(jobId);
+        }
+        if (job == null) {
+            throw new ResourceNotFoundException("Batch job not found with id: " + jobId);
+        }
+        return job.toResponse();
+    }
+
+    private void run(BatchJob job, List<Long> studentIds, int limit) {
+        job.start();
+        try {
+            // Shared, read-only inputs loaded once for the whole cohort
+            CatalogSnapshotHolder.Snapshot catalogSnapshot = catalogSnapshotHolder.latest();
+            PrerequisiteGraph.Snapshot graph = catalogSnapshot.getGraph();
+            CareerTagIndex.Snapshot careerTags = careerTagIndex.snapshot();
+            RecommendationStrategy strategy = recommendationPipeline.strategy(PersonalizedStrategy.NAME);
+
+            List<Student> students = job.major != null
+                    ? studentRepository.findByMajor(job.major)
+                    : studentRepository.findAllById(studentIds);
+            job.totalStudents = students.size();
+
+            Map<Long, long[]> completedByStudent = loadCompletedCourses(job.major, students, graph);
+            long[] nothingCompleted = BitSets.create(graph.size());
+
+            for (int from = 0; from < students.size(); from += chunkSize) {
+                List<Student> chunk = students.subList(from, Math.min(students.size(), from + chunkSize));
+                List<RecommendationDTO> results = scoringPool.submit(() -> chunk.parallelStream()
+                        .flatMap(student -> {
+                            try {
+                                long[] completed = completedByStudent.getOrDefault(student.getId(), nothingCompleted);
+                                RecommendationContext context = recommendationPipeline.createContext(
+                                        student, catalogSnapshot, completed, careerTags);
+                                List<RecommendationDTO> recommendations = recommendationPipeline.renderDtos(
+                                        strategy, recommendationPipeline.rank(strategy, context, limit), context, true);
+                                job.processed.incrementAndGet();
+                                return recommendations.stream();
+                            } catch (RuntimeException ex) {
+                                log.warn("Batch job {} failed for student {}", job.id, student.getId(), ex);
+                                job.failed.incrementAndGet();
+                                return Stream.<RecommendationDTO>empty();
+                            }
+                        })
+                        .collect(Collectors.toList())).join();
+                job.written.addAndGet(recommendationJdbcRepository.batchInsert(results));
+            }
+            job.finish("COMPLETED", null);
+            log.info("Batch job {} finished: {} students, {} recommendations in {} ms",
+                    job.id, job.processed.get(), job.written.get(), job.elapsedMillis());
+        } catch (RuntimeException ex) {
+            log.error("Batch job {} failed", job.id, ex);
+            job.finish("FAILED", ex.getMessage());
+        }
+    }
+
+    /**
+     * Completed courses of every student in the cohort from a single query, as bitsets over the graph index
+     */
+    private Map<Long, long[]> loadCompletedCourses(String major, List<Student> students, PrerequisiteGraph.Snapshot graph) {
+        Map<Long, long[]> completed = new HashMap<>(students.size() * 2);
+        if (students.isEmpty()) {
+            return completed;
+        }
+        List<Object[]> pairs = major != null
+                ? enrollmentRepository.findCompletedPairsByMajor(major)
+                : enrollmentRepository.findCompletedPairsByStudentIds(
+                        students.stream().map(Student::getId).collect(Collectors.toList()));
+        for (Object[] pair : pairs) {
+            int index = graph.indexOf((Long) pair[1]);
+            if (index >= 0) {
+                BitSets.set(completed.computeIfAbsent((Long) pair[0], id -> BitSets.create(graph.size())), index);
+            }
+        }
+        return completed;
+    }
+
+    private void retainRecentJobs() {
+        Iterator<BatchJob> it = jobs.values().iterator();
+        while (jobs.size() >= MAX_RETAINED_JOBS && it.hasNext()) {
+            if (it.next().finishedAt != null) {
+                it.remove();
+            }
+        }
+    }
+
+    private static final class BatchJob {
+
+        private final String id;
+        private final String major;
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger written = new AtomicInteger();
+        private volatile String status = "QUEUED";
+        private volatile int totalStudents;
+        private volatile String error;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile long startNanos;
+        private volatile long endNanos;
+
+        private BatchJob(String id, String major) {
+            this.id = id;
+            this.major = major;
+        }
+
+        private void start() {
+            startNanos = System.nanoTime();
+            startedAt = LocalDateTime.now();
+            status = "RUNNING";
+        }
+
+        private void finish(String finalStatus, String message) {
+            endNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+            error = message;
+            status = finalStatus;
+        }
+
+        private long elapsedMillis() {
+            if (startedAt == null) {
+                return 0L;
+            }
+            long end = finishedAt != null ? endNanos : System.nanoTime();
+            return (end - startNanos) / 1_000_000;
+        }
+
+        private BatchJobResponseVO toResponse() {
+            long elapsed = elapsedMillis();
+            int done = processed.get();
+            return BatchJobResponseVO.builder()
+                    .jobId(id)
+                    .status(status)
+                    .major(major)
+                    .totalStudents(totalStudents)
+                    .processedStudents(done)
+                    .failedStudents(failed.get())
+                    .recommendationsWritten(written.get())
+                    .throughput(elapsed > 0 ? done * 1000.0 / elapsed : 0.0)
+                    .error(error)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package edu.neu.curriculumRecommendation.service.impl;
+
+import edu.neu.curriculumRecommendation.dto.RecommendationDTO;
+import edu.neu.curriculumRecommendation.engine.BitSets;
+import edu.neu.curriculumRecommendation.engine.CareerTagIndex;
+import edu.neu.curriculumRecommendation.engine.CatalogSnapshotHolder;
+import edu.neu.curriculumRecommendation.engine.PrerequisiteGraph;
+import edu.neu.curriculumRecommendation.engine.RecommendationContext;
+import edu.neu.curriculumRecommendation.engine.RecommendationPipeline;
+import edu.neu.curriculumRecommendation.engine.RecommendationStrategy;
+import edu.neu.curriculumRecommendation.engine.strategy.PersonalizedStrategy;
+import edu.neu.curriculumRecommendation.entity.PrecomputedRecommendation;
+import edu.neu.curriculumRecommendation.entity.Student;
+import edu.neu.curriculumRecommendation.event.CatalogChangedEvent;
+import edu.neu.curriculumRecommendation.event.EnrollmentChangedEvent;
+import edu.neu.curriculumRecommendation.event.StudentProfileChangedEvent;
+import edu.neu.curriculumRecommendation.mapper.repository.EnrollmentRepository;
+import edu.neu.curriculumRecommendation.mapper.repository.PrecomputedRecommendationJdbcRepository;
+import edu.neu.curriculumRecommendation.mapper.repository.PrecomputedRecommendationRepository;
+import edu.neu.curriculumRecommendation.mapper.repository.StudentRepository;
+import edu.neu.curriculumRecommendation.service.RecommendationPrecomputeService;
+import edu.neu.curriculumRecommendation.vo.response.PrecomputeStatusVO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Recommendation Precompute Service Implementation
+ * A scheduled, throttled background run computes the personalized recommendations of every active student
+ * chunk by chunk and replaces their rows in precomputed_recommendations, tagged with the catalog version.
+ * Rows are served while their catalog version is current and they are younger than the max age. The catalog
+ * version is stored in the database, so rows stay valid across restarts and for every instance; a catalog
+ * change makes all of them stale and starts another run.
+ * A student's rows are dropped as soon as their enrollments or profile change. A chunk skips students changed
+ * after it was read, and checks again after its replace: a change recorded in between deletes the rows just
+ * written, so rows computed from old data never outlive the change.
+ */
+@Service
+public class RecommendationPrecomputeServiceImpl implements RecommendationPrecomputeService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecommendationPrecomputeServiceImpl.class);
+
+    private final StudentRepository studentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final PrecomputedRecommendationRepository precomputedRepository;
+    private final PrecomputedRecommendationJdbcRepository precomputedJdbcRepository;
+    private final CatalogSnapshotHolder catalogSnapshotHolder;
+    private final CareerTagIndex careerTagIndex;
+    private final RecommendationPipeline recommendationPipeline;
+    private final TaskExecutor batchExecutor;
+
+    private final boolean enabled;
+    private final int limit;
+    private final int chunkSize;
+    private final int maxStudentsPerSecond;
+    private final Duration maxAge;
+    private final int activeYears;
+    private final boolean rerunOnCatalogChange;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    // Set by a catalog change; the run started next computes rows for the new version
+    private final AtomicBoolean rerunRequested = new AtomicBoolean();
+    // Students changed during the current run and when, so rows computed from older data are not kept
+    private final Map<Long, Long> changedDuringRun = new ConcurrentHashMap<>();
+
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger written = new AtomicInteger();
+    private final LongAdder servedPrecomputed = new LongAdder();
+    private final LongAdder servedLive = new LongAdder();
+    private volatile String status = "IDLE";
+    private volatile int totalStudents;
+    private volatile String error;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile long startNanos;
+    private volatile long endNanos;
+
+    public RecommendationPrecomputeServiceImpl(StudentRepository studentRepository,
+                                               EnrollmentRepository enrollmentRepository,
+                                               PrecomputedRecommendationRepository precomputedRepository,
+                                               PrecomputedRecommendationJdbcRepository precomputedJdbcRepository,
+                                               CatalogSnapshotHolder catalogSnapshotHolder,
+                                               CareerTagIndex careerTagIndex,
+                                               RecommendationPipeline recommendationPipeline,
+                                               @Qualifier("recommendationBatchExecutor") TaskExecutor batchExecutor,
+                                               @Value("${recommendation.precompute.enabled:true}") boolean enabled,
+                                               @Value("${recommendation.precompute.limit:20}") int limit,
+                                               @Value("${recommendation.precompute.chunk-size:100}") int chunkSize,
+                                               @Value("${recommendation.precompute.max-students-per-second:50}") int maxStudentsPerSecond,
+                                               @Value("${recommendation.precompute.max-age-minutes:1440}") long maxAgeMinutes,
+                                               @Value("${recommendation.precompute.active-years:6}") int activeYears,
+                                               @Value("${recommendation.precompute.rerun-on-catalog-change:true}") boolean rerunOnCatalogChange) {
+        this.studentRepository = studentRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.precomputedRepository = precomputedRepository;
+        this.precomputedJdbcRepository = precomputedJdbcRepository;
+        this.catalogSnapshotHolder = catalogSnapshotHolder;
+        this.careerTagIndex = careerTagIndex;
+        this.recommendationPipeline = recommendationPipeline;
+        this.batchExecutor = batchExecutor;
+        this.enabled = enabled;
+        this.limit = Math.max(1, limit);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxStudentsPerSecond = maxStudentsPerSecond;
+        this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+        this.activeYears = activeYears;
+        this.rerunOnCatalogChange = rerunOnCatalogChange;
+    }
+
+    /**
+     * Scheduled run; the work itself is handed to the batch executor so the scheduler thread stays free
+     */
+    @Scheduled(cron = "${recommendation.precompute.cron:0 0 3 * * *}")
+    public void scheduledRun() {
+        if (enabled) {
+            trigger();
+        }
+    }
+
+    @Override
+    public PrecomputeStatusVO trigger() {
+        if (running.compareAndSet(false, true)) {
+            status = "RUNNING";
+            try {
+                batchExecutor.execute(this::run);
+            } catch (TaskRejectedException ex) {
+                running.set(false);
+                status = "IDLE";
+                throw ex;
+            }
+        }
+        return getStatus();
+    }
+
+    @Override
+    public PrecomputeStatusVO getStatus() {
+        long version = catalogSnapshotHolder.version();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = now.minus(maxAge);
+        LocalDateTime oldest = precomputedRepository.findOldestFreshComputedAt(version, since);
+        long elapsed = elapsedMillis();
+        int done = processed.get();
+        return PrecomputeStatusVO.builder()
+                .status(status)
+                .catalogVersion(version)
+                .totalStudents(totalStudents)
+                .processedStudents(done)
+                .skippedStudents(skipped.get())
+                .failedStudents(failed.get())
+                .recommendationsWritten(written.get())
+                .throughput(elapsed > 0 ? done * 1000.0 / elapsed : 0.0)
+                .error(error)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .freshStudents(precomputedRepository.countFreshStudents(version, since))
+                .oldestComputedAt(oldest)
+                .lagSeconds(oldest != null ? Duration.between(oldest, now).getSeconds() : null)
+                .servedPrecomputed(servedPrecomputed.sum())
+                .servedLive(servedLive.sum())
+                .build();
+    }
+
+    @Override
+    public List<RecommendationDTO> findFresh(Long studentId, int limit, boolean explain) {
+        if (!enabled || limit > this.limit) {
+            servedLive.increment();
+            return null;
+        }
+        List<PrecomputedRecommendation> rows = precomputedRepository.findByStudentIdOrderByRankPositionAsc(studentId);
+        if (rows.isEmpty()
+                || rows.get(0).getCatalogVersion() != catalogSnapshotHolder.version()
+                || rows.get(0).getComputedAt().isBefore(LocalDateTime.now().minus(maxAge))) {
+            servedLive.increment();
+            return null;
+        }
+        servedPrecomputed.increment();
+        List<RecommendationDTO> recommendations = new ArrayList<>(Math.min(limit, rows.size()));
+        for (PrecomputedRecommendation row : rows.subList(0, Math.min(limit, rows.size()))) {
+            recommendations.add(RecommendationDTO.builder()
+                    .studentId(row.getStudentId())
+                    .courseId(row.getCourseId())
+                    .courseCode(row.getCourseCode())
+                    .courseName(row.getCourseName())
+                    .matchScore(row.getMatchScore())
+                    .reason(explain ? row.getReason() : null)
+                    .recommendedAt(row.getComputedAt())
+                    .status("PENDING")
+                    .build());
+        }
+        return recommendations;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        dropStudent(event.getStudentId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentProfileChanged(StudentProfileChangedEvent event) {
+        dropStudent(event.getStudentId());
+    }
+
+    /**
+     * Every row is tagged with the previous catalog version now; compute them again
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (enabled && rerunOnCatalogChange) {
+            rerunRequested.set(true);
+            rerunIfRequested();
+        }
+    }
+
+    private void dropStudent(Long studentId) {
+        if (!enabled || studentId == null) {
+            return;
+        }
+        // Recorded before the delete: a chunk that writes after the delete sees the record and deletes again
+        if (running.get()) {
+            changedDuringRun.put(studentId, System.nanoTime());
+        }
+        precomputedJdbcRepository.deleteByStudentId(studentId);
+    }
+
+    /**
+     * Start the requested rerun once no run is active; a running one aborts on the version change first
+     */
+    private void rerunIfRequested() {
+        if (!running.get() && rerunRequested.getAndSet(false)) {
+            try {
+                trigger();
+            } catch (TaskRejectedException ex) {
+                log.warn("Recommendation precompute rerun rejected: {}", ex.getMessage());
+            }
+        }
+    }
+
+    private void run() {
+        processed.set(0);
+        skipped.set(0);
+        failed.set(0);
+        written.set(0);
+        changedDuringRun.clear();
+        error = null;
+        finishedAt = null;
+        startNanos = System.nanoTime();
+        startedAt = LocalDateTime.now();
+        try {
+            // Rows are tagged with the version of the snapshot they are computed from
+            CatalogSnapshotHolder.Snapshot catalogSnapshot = catalogSnapshotHolder.latest();
+            long version = catalogSnapshot.getVersion();
+            CareerTagIndex.Snapshot careerTags = careerTagIndex.snapshot();
+            RecommendationStrategy strategy = recommendationPipeline.strategy(PersonalizedStrategy.NAME);
+
+            List<Long> studentIds = studentRepository.findActiveIds(LocalDate.now().getYear() - activeYears);
+            totalStudents = studentIds.size();
+
+            for (int from = 0; from < studentIds.size(); from += chunkSize) {
+                if (catalogSnapshotHolder.version() != version) {
+                    // Everything written so far is stale; the next run starts over
+                    finish("ABORTED", "Catalog changed during the run");
+                    return;
+                }
+                long chunkStart = System.nanoTime();
+                List<Long> chunkIds = studentIds.subList(from, Math.min(studentIds.size(), from + chunkSize));
+                writeChunk(chunkIds, chunkStart, catalogSnapshot, careerTags, strategy);
+                throttle(from + chunkIds.size());
+            }
+            finish("COMPLETED", null);
+            log.info("Recommendation precompute finished: {} students, {} skipped, {} failed, {} rows in {} ms",
+                    processed.get(), skipped.get(), failed.get(), written.get(), elapsedMillis());
+        } catch (RuntimeException ex) {
+            log.error("Recommendation precompute failed", ex);
+            finish("FAILED", ex.getMessage());
+        } finally {
+            running.set(false);
+            rerunIfRequested();
+        }
+    }
+
+    private void writeChunk(List<Long> chunkIds, long chunkStart, CatalogSnapshotHolder.Snapshot catalogSnapshot,
+                            CareerTagIndex.Snapshot careerTags, RecommendationStrategy strategy) {
+        PrerequisiteGraph.Snapshot graph = catalogSnapshot.getGraph();
+        List<Student> students = studentRepository.findAllById(chunkIds);
+        Map<Long, long[]> completedByStudent = new HashMap<>(students.size() * 2);
+        for (Object[] pair : enrollmentRepository.findCompletedPairsByStudentIds(chunkIds)) {
+            int index = graph.indexOf((Long) pair[1]);
+            if (index >= 0) {
+                BitSets.set(completedByStudent.computeIfAbsent((Long) pair[0], id -> BitSets.create(graph.size())), index);
+            }
+        }
+        long[] nothingCompleted = BitSets.create(graph.size());
+
+        List<Long> computedIds = new ArrayList<>(students.size());
+        List<RecommendationDTO> rows = new ArrayList<>(students.size() * limit);
+        for (Student student : students) {
+            try {
+                RecommendationContext context = recommendationPipeline.createContext(student, catalogSnapshot,
+                        completedByStudent.getOrDefault(student.getId(), nothingCompleted), careerTags);
+                List<RecommendationDTO> recommendations = recommendationPipeline.renderDtos(
+                        strategy, recommendationPipeline.rank(strategy, context, limit), context, true);
+                computedIds.add(student.getId());
+                rows.addAll(recommendations);
+            } catch (RuntimeException ex) {
+                log.warn("Recommendation precompute failed for student {}", student.getId(), ex);
+                failed.incrementAndGet();
+            }
+        }
+
+        // Students changed after the chunk was read keep no rows and are served live
+        List<Long> keptIds = new ArrayList<>(computedIds.size());
+        for (Long studentId : computedIds) {
+            if (changedSince(studentId, chunkStart)) {
+                skipped.incrementAndGet();
+            } else {
+                keptIds.add(studentId);
+            }
+        }
+        if (keptIds.size() < computedIds.size()) {
+            Set<Long> kept = new HashSet<>(keptIds);
+            rows.removeIf(row -> !kept.contains(row.getStudentId()));
+        }
+        written.addAndGet(precomputedJdbcRepository.replace(keptIds, rows,
+                catalogSnapshot.getVersion(), LocalDateTime.now()));
+
+        // A change recorded while the replace ran may have deleted before it wrote
+        int kept = keptIds.size();
+        for (Long studentId : keptIds) {
+            if (changedSince(studentId, chunkStart)) {
+                precomputedJdbcRepository.deleteByStudentId(studentId);
+                skipped.incrementAndGet();
+                kept--;
+            }
+        }
+        processed.addAndGet(kept);
+    }
+
+    private boolean changedSince(Long studentId, long nanos) {
+        Long changedAt = changedDuringRun.get(studentId);
+        return changedAt != null && changedAt - nanos >= 0;
+    }
+
+    /**
+     * Sleep until the run is back under max-students-per-second
+     */
+    private void throttle(int studentsDone) {
+        if (maxStudentsPerSecond <= 0) {
+            return;
+        }
+        long expectedNanos = studentsDone * 1_000_000_000L / maxStudentsPerSecond;
+        long aheadNanos = expectedNanos - (System.nanoTime() - startNanos);
+        if (aheadNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(aheadNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Recommendation precompute interrupted", e);
+            }
+        }
+    }
+
+    private void finish(String finalStatus, String message) {
+        endNanos = System.nanoTime();
+        finishedAt = LocalDateTime.now();
+        error = message;
+        status = finalStatus;
+        changedDuringRun.clear();
+        running.set(false);
+    }
+
+    private long elapsedMillis() {
+        if (startedAt == null) {
+            return 0L;
+        }
+        long end = finishedAt != null ? endNanos : System.nanoTime();
+        return (end - startNanos) / 1_000_000;
+    }
+}
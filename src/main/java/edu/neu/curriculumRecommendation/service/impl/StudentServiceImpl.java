@@ -3,12 +3,14 @@ package edu.neu.curriculumRecommendation.service.impl;
 import edu.neu.curriculumRecommendation.dto.StudentDTO;
 import edu.neu.curriculumRecommendation.entity.Student;
 import edu.neu.curriculumRecommendation.entity.User;
+import edu.neu.curriculumRecommendation.event.StudentProfileChangedEvent;
 import edu.neu.curriculumRecommendation.exception.ResourceNotFoundException;
 import edu.neu.curriculumRecommendation.mapper.converter.StudentConverter;
 import edu.neu.curriculumRecommendation.mapper.repository.StudentRepository;
 import edu.neu.curriculumRecommendation.mapper.repository.UserRepository;
 import edu.neu.curriculumRecommendation.service.StudentService;
 import edu.neu.curriculumRecommendation.validator.StudentValidator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,15 +27,18 @@ public class StudentServiceImpl implements StudentService {
     private final StudentConverter studentConverter;
     private final UserRepository userRepository;
     private final StudentValidator validator;
+    private final ApplicationEventPublisher eventPublisher;
 
     public StudentServiceImpl(StudentRepository studentRepository,
                               StudentConverter studentConverter,
                               UserRepository userRepository,
-                              StudentValidator validator) {
+                              StudentValidator validator,
+                              ApplicationEventPublisher eventPublisher) {
         this.studentRepository = studentRepository;
         this.studentConverter = studentConverter;
         this.userRepository = userRepository;
         this.validator = validator;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -72,6 +77,7 @@ public class StudentServiceImpl implements StudentService {
         student.setCareerInterests(studentDTO.getCareerInterests());
 
         Student updatedStudent = studentRepository.save(student);
+        eventPublisher.publishEvent(new StudentProfileChangedEvent(id));
         return studentConverter.entityToDto(updatedStudent);
     }
 
@@ -118,6 +124,7 @@ public class StudentServiceImpl implements StudentService {
         Student student = studentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + id));
         studentRepository.delete(student);
+        eventPublisher.publishEvent(new StudentProfileChangedEvent(id));
     }
 }
 
@@ -0,0 +1,28 @@
+package edu.neu.curriculumRecommendation.vo.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Batch Recommendation Request VO
+ * Either a major (whole cohort) or an explicit list of student ids
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchRecommendationRequestVO {
+
+    // Optional: all students of this major
+    private String major;
+
+    // Optional: explicit students, used when no major is given
+    private List<Long> studentIds;
+
+    // Optional: recommendations per student, defaults to 10
+    private Integer limit;
+}
@@ -0,0 +1,18 @@
+package edu.neu.curriculumRecommendation.vo.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotNull;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PrerequisiteRequestVO {
+
+    @NotNull(message = "Prerequisite course ID is required")
+    private Long prerequisiteCourseId;
+}
@@ -0,0 +1,42 @@
+package edu.neu.curriculumRecommendation.vo.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Batch Job Response VO
+ * Progress and throughput of a cohort recommendation job
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchJobResponseVO {
+
+    private String jobId;
+
+    private String status; // QUEUED, RUNNING, COMPLETED, FAILED
+
+    private String major;
+
+    private Integer totalStudents;
+
+    private Integer processedStudents;
+
+    private Integer failedStudents;
+
+    private Integer recommendationsWritten;
+
+    // Students processed per second
+    private Double throughput;
+
+    private String error;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,40 @@
+package edu.neu.curriculumRecommendation.vo.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cache Stats VO
+ * Hit/miss/eviction counters of the recommendation result cache
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsVO {
+
+    private Integer size;
+
+    private Integer maxSize;
+
+    private Long hits;
+
+    private Long misses;
+
+    // 0.0 - 1.0
+    private Double hitRate;
+
+    // Entries dropped because of size or TTL
+    private Long evictions;
+
+    // Student or global invalidations caused by data changes
+    private Long invalidations;
+
+    // Requests answered by an identical in-flight computation
+    private Long coalesced;
+
+    // Coalesced requests that stopped waiting and computed on their own
+    private Long coalescingTimeouts;
+}
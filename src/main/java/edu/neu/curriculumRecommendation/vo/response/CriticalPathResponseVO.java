@@ -0,0 +1,40 @@
+package edu.neu.curriculumRecommendation.vo.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Critical Path Response VO
+ * Longest prerequisite chain of the student's program and of what remains of it, with the fewest terms left
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CriticalPathResponseVO {
+
+    private Long studentId;
+
+    private String major;
+
+    // Longest chain through the program counted from no completed courses, prerequisites first
+    private Integer programCriticalPathLength;
+
+    private List<PlannedCourseVO> programCriticalPath;
+
+    // Longest chain of courses the student has not completed
+    private Integer remainingCriticalPathLength;
+
+    private List<PlannedCourseVO> remainingCriticalPath;
+
+    private Integer remainingCredits;
+
+    private Integer maxCreditsPerTerm;
+
+    // Larger of the remaining chain length and the remaining credits over the credit cap
+    private Integer minimumTermsRemaining;
+}
@@ -0,0 +1,31 @@
+package edu.neu.curriculumRecommendation.vo.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Degree Audit Response VO
+ * Remaining credits per requirement type with the ranked next requirement courses
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DegreeAuditResponseVO {
+
+    private Long studentId;
+
+    private String major;
+
+    private Integer creditsRequired;
+
+    private Integer creditsRemaining;
+
+    private List<RequirementGroupProgressVO> requirementGroups;
+
+    private List<RecommendationResponseVO> nextCourses;
+}
@@ -0,0 +1,40 @@
+package edu.neu.curriculumRecommendation.vo.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Graduation Plan Response VO
+ * Remaining requirements laid out over future terms, plus the courses that could not be placed
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GraduationPlanResponseVO {
+
+    private Long studentId;
+
+    private String major;
+
+    private Integer maxCreditsPerTerm;
+
+    private Integer plannedCredits;
+
+    private List<PlannedTermVO> terms;
+
+    private List<PlannedCourseVO> unscheduledCourses;
+
+    // True when every remaining requirement is placed
+    private Boolean complete;
+
+    // True when the search budget ran out and later terms were filled greedily
+    private Boolean searchTimedOut;
+
+    // PLANNED enrollments written; null for a preview
+    private Integer savedEnrollments;
+}
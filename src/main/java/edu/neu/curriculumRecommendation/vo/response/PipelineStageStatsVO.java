@@ -0,0 +1,27 @@
+package edu.neu.curriculumRecommendation.vo.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pipeline Stage Stats VO
+ * Cumulative time spent in one stage of one recommendation strategy
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PipelineStageStatsVO {
+
+    private String strategy;
+
+    private String stage; // context, candidates, score, rank, render
+
+    private Long invocations;
+
+    private Double totalMillis;
+
+    private Double averageMillis;
+}
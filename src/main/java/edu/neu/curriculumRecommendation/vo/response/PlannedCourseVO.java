@@ -0,0 +1,29 @@
+package edu.neu.curriculumRecommendation.vo.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Planned Course VO
+ * One course of a graduation plan; requirementType is null for a prerequisite outside the program
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlannedCourseVO {
+
+    private Long courseId;
+
+    private String courseCode;
+
+    private String courseName;
+
+    private Integer credits;
+
+    private String requirementType;
+
+    private Boolean isMandatory;
+}
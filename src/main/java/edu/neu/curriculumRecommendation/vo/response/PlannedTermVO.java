@@ -0,0 +1,27 @@
+package edu.neu.curriculumRecommendation.vo.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Planned Term VO
+ * Courses of one future term of a graduation plan
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlannedTermVO {
+
+    private String semester;
+
+    private Integer year;
+
+    private Integer credits;
+
+    private List<PlannedCourseVO> courses;
+}
@@ -0,0 +1,56 @@
+package edu.neu.curriculumRecommendation.vo.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Precompute Status VO
+ * Progress of the recommendation precompute job and freshness of the precomputed rows
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PrecomputeStatusVO {
+
+    private String status; // IDLE, RUNNING, COMPLETED, ABORTED, FAILED
+
+    // Catalog version fresh rows must be tagged with
+    private Long catalogVersion;
+
+    private Integer totalStudents;
+
+    private Integer processedStudents;
+
+    // Students whose data changed while their chunk was computed; served live until the next run
+    private Integer skippedStudents;
+
+    private Integer failedStudents;
+
+    private Integer recommendationsWritten;
+
+    // Students processed per second in the current or last run
+    private Double throughput;
+
+    private String error;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    // Students with rows at the current catalog version and within the max age
+    private Long freshStudents;
+
+    private LocalDateTime oldestComputedAt;
+
+    // Age of the oldest fresh row
+    private Long lagSeconds;
+
+    private Long servedPrecomputed;
+
+    private Long servedLive;
+}
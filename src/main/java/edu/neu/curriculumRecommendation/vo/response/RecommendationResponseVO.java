@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -59,5 +60,8 @@ public class RecommendationResponseVO {
 
     // Whether all prerequisite requirements are satisfied
     private Boolean allPrerequisitesMet;
+
+    // Blended recommendations only: strategy name to its 0.0 - 100.0 score
+    private Map<String, Double> scoreComponents;
 }
 
@@ -0,0 +1,27 @@
+package edu.neu.curriculumRecommendation.vo.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Requirement Group Progress VO
+ * Credits earned and remaining for one requirement type of a major
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RequirementGroupProgressVO {
+
+    private String requirementType; // Core, Foundation, Elective...
+
+    private Integer creditsRequired;
+
+    private Integer creditsEarned;
+
+    private Integer creditsRemaining;
+
+    private Integer mandatoryCoursesRemaining;
+}
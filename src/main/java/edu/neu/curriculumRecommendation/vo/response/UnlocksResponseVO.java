@@ -0,0 +1,37 @@
+package edu.neu.curriculumRecommendation.vo.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Unlocks Response VO
+ * Courses that require a course, directly or transitively
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UnlocksResponseVO {
+
+    private Long courseId;
+
+    private String courseCode;
+
+    private String courseName;
+
+    // Number of courses requiring this course
+    private Integer unlockCount;
+
+    // Courses requiring this course that the student has not completed; equals unlockCount without a student
+    private Integer unlockWeight;
+
+    // Courses that become eligible once this course is completed
+    private List<PrerequisiteCourseVO> directlyUnlocked;
+
+    // Every course requiring this course; level = how many prerequisite steps it lies downstream
+    private List<PrerequisiteCourseVO> unlockedCourses;
+}
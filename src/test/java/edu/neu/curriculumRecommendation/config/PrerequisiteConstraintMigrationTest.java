@@ -0,0 +1,102 @@
+package edu.neu.curriculumRecommendation.config;
+
+import edu.neu.curriculumRecommendation.entity.Course;
+import edu.neu.curriculumRecommendation.mapper.repository.CourseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for PrerequisiteConstraintMigration on a prerequisites table created without the unique constraint,
+ * on H2 in PostgreSQL mode. Not transactional, since the migration commits its own DDL.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migration;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=YEAR,VALUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PrerequisiteConstraintMigration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class PrerequisiteConstraintMigrationTest {
+
+    @Autowired
+    private PrerequisiteConstraintMigration migration;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM prerequisites");
+        courseRepository.deleteAll();
+    }
+
+    @Test
+    public void duplicatesAreRemovedBeforeConstraintIsAdded() {
+        jdbcTemplate.execute("ALTER TABLE prerequisites DROP CONSTRAINT " + PrerequisiteConstraintMigration.CONSTRAINT_NAME);
+        Long first = course("CS1");
+        Long second = course("CS2");
+        Long third = course("CS3");
+        require(second, first);
+        require(second, first);
+        require(third, second);
+        require(second, first);
+
+        migration.migrate();
+
+        assertEquals(2, count("SELECT COUNT(*) FROM prerequisites"));
+        assertEquals(1, count("SELECT COUNT(*) FROM prerequisites WHERE course_id = " + second
+                + " AND id = (SELECT MIN(id) FROM prerequisites)"));
+        assertThrows(DataIntegrityViolationException.class, () -> require(second, first));
+    }
+
+    @Test
+    public void existingConstraintIsLeftAlone() {
+        Long first = course("CS1");
+        Long second = course("CS2");
+        require(second, first);
+
+        migration.migrate();
+
+        assertEquals(1, count("SELECT COUNT(*) FROM prerequisites"));
+        assertEquals(1, count("SELECT COUNT(*) FROM information_schema.table_constraints"
+                + " WHERE constraint_name = '" + PrerequisiteConstraintMigration.CONSTRAINT_NAME + "'"));
+    }
+
+    private Long course(String code) {
+        Course course = new Course();
+        course.setCourseCode(code);
+        course.setCourseName("Course " + code);
+        course.setCredits(4);
+        course.setDifficulty("Beginner");
+        course.setIsActive(true);
+        return courseRepository.save(course).getId();
+    }
+
+    private void require(Long courseId, Long prerequisiteCourseId) {
+        jdbcTemplate.update("INSERT INTO prerequisites (course_id, prerequisite_course_id, created_at)"
+                + " VALUES (?, ?, CURRENT_TIMESTAMP)", courseId, prerequisiteCourseId);
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+}
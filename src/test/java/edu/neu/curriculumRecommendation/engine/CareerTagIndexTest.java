@@ -0,0 +1,104 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.mapper.repository.CourseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for CareerTagIndex
+ */
+public class CareerTagIndexTest {
+
+    // {course id, career tags, description}
+    private final List<Object[]> sources = new ArrayList<>();
+
+    private CareerTagIndex careerTagIndex;
+
+    @BeforeEach
+    public void setUp() {
+        sources.add(new Object[]{1L, "Machine Learning, Data Science", "Ignored while tags are set"});
+        sources.add(new Object[]{2L, "Java, C++", null});
+        sources.add(new Object[]{3L, null, "Intro to machine learning for data engineers"});
+        sources.add(new Object[]{4L, "", "Javascript front ends"});
+        sources.add(new Object[]{5L, null, null});
+        CourseRepository courseRepository = mock(CourseRepository.class);
+        when(courseRepository.findCareerTagSources()).thenAnswer(invocation -> List.copyOf(sources));
+        careerTagIndex = new CareerTagIndex(courseRepository);
+    }
+
+    @Test
+    public void normalizeKeywordsSplitsOnCommasAndCollapsesWords() {
+        assertEquals(List.of("machine learning", "c++", "data science"),
+                CareerTagIndex.normalizeKeywords(" Machine   LEARNING ,C++,, data-science "));
+        assertTrue(CareerTagIndex.normalizeKeywords(null).isEmpty());
+        assertTrue(CareerTagIndex.normalizeKeywords(" , ").isEmpty());
+    }
+
+    @Test
+    public void interestsMatchWholeWordsAndPhrases() {
+        CareerTagIndex.Snapshot index = careerTagIndex.snapshot();
+
+        assertArrayEquals(new int[]{1, 0, 1, 0, 0}, matches(index, "machine learning"));
+        // Inside a description any phrase of up to three words matches
+        assertArrayEquals(new int[]{0, 0, 1, 0, 0}, matches(index, "data engineers"));
+        // A tag is indexed by its words and as a whole
+        assertArrayEquals(new int[]{2, 0, 0, 0, 0}, matches(index, "science, data science"));
+        // "java" is not a substring match of "javascript"
+        assertArrayEquals(new int[]{0, 1, 0, 0, 0}, matches(index, "java"));
+        assertArrayEquals(new int[]{0, 1, 0, 0, 0}, matches(index, "c++, c++"));
+        assertArrayEquals(new int[]{0, 0, 0, 0, 0}, matches(index, "learn, robotics"));
+    }
+
+    @Test
+    public void unknownKeywordsAreDropped() {
+        CareerTagIndex.Snapshot index = careerTagIndex.snapshot();
+
+        assertEquals(0, index.tokenize("robotics, quantum").length);
+        assertEquals(0, index.tokenize(null).length);
+        assertEquals(-1, index.indexOf(6L));
+    }
+
+    @Test
+    public void indexInvalidatedDuringBuildIsNotPublished() {
+        CourseRepository courseRepository = mock(CourseRepository.class);
+        CareerTagIndex index = new CareerTagIndex(courseRepository);
+        when(courseRepository.findCareerTagSources()).thenAnswer(invocation -> {
+            List<Object[]> loaded = List.copyOf(sources);
+            if (loaded.get(4)[1] == null) {
+                // A course is retagged and its change event lands while the old rows are being indexed
+                sources.set(4, new Object[]{5L, "Robotics", null});
+                index.invalidate();
+            }
+            return loaded;
+        });
+
+        CareerTagIndex.Snapshot stale = index.snapshot();
+
+        assertEquals(0, stale.tokenize("robotics").length);
+        CareerTagIndex.Snapshot rebuilt = index.snapshot();
+        assertNotSame(stale, rebuilt);
+        assertEquals(1, rebuilt.tokenize("robotics").length);
+        assertSame(rebuilt, index.snapshot());
+    }
+
+    private static int[] matches(CareerTagIndex.Snapshot index, String interests) {
+        int[] counts = index.countMatches(index.tokenize(interests));
+        int[] byCourse = new int[5];
+        for (long courseId = 1; courseId <= 5; courseId++) {
+            int courseIndex = index.indexOf(courseId);
+            byCourse[(int) courseId - 1] = courseIndex >= 0 ? counts[courseIndex] : 0;
+        }
+        return byCourse;
+    }
+}
@@ -0,0 +1,106 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.mapper.repository.ProgramRequirementRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for CatalogSnapshotHolder
+ */
+public class CatalogSnapshotHolderTest {
+
+    private CourseCatalog courseCatalog;
+    private PrerequisiteGraph prerequisiteGraph;
+    private DegreeAuditEngine degreeAuditEngine;
+    private CatalogVersion catalogVersion;
+    private CatalogSnapshotHolder holder;
+
+    @BeforeEach
+    public void setUp() {
+        courseCatalog = mock(CourseCatalog.class);
+        prerequisiteGraph = mock(PrerequisiteGraph.class);
+        degreeAuditEngine = mock(DegreeAuditEngine.class);
+        ProgramRequirementRepository programRequirementRepository = mock(ProgramRequirementRepository.class);
+        catalogVersion = mock(CatalogVersion.class);
+        when(courseCatalog.snapshot()).thenReturn(CourseCatalogSnapshot.of(List.of()));
+        when(prerequisiteGraph.snapshot()).thenReturn(mock(PrerequisiteGraph.Snapshot.class));
+        when(programRequirementRepository.findDistinctMajors()).thenReturn(List.of());
+        when(catalogVersion.current()).thenReturn(1L);
+        holder = new CatalogSnapshotHolder(courseCatalog, prerequisiteGraph, degreeAuditEngine,
+                programRequirementRepository, catalogVersion, 0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        holder.shutdown();
+    }
+
+    @Test
+    public void currentIsBuiltOnceAndReused() {
+        assertFalse(holder.isLoaded());
+        CatalogSnapshotHolder.Snapshot first = holder.current();
+
+        assertTrue(holder.isLoaded());
+        assertSame(first, holder.current());
+        assertEquals(1L, first.getVersion());
+        verify(prerequisiteGraph, times(1)).snapshot();
+    }
+
+    @Test
+    public void currentTrailsWritesUntilLatestRebuilds() {
+        CatalogSnapshotHolder.Snapshot first = holder.current();
+        when(catalogVersion.current()).thenReturn(2L);
+
+        assertSame(first, holder.current());
+        assertEquals(2L, holder.version());
+        CatalogSnapshotHolder.Snapshot latest = holder.latest();
+        assertNotSame(first, latest);
+        assertEquals(2L, latest.getVersion());
+        assertSame(latest, holder.current());
+    }
+
+    @Test
+    public void newVersionReloadsComponentsBeforeReadingThem() {
+        holder.current();
+        when(catalogVersion.current()).thenReturn(2L);
+
+        holder.latest();
+        holder.latest();
+
+        // Once for the first build and once for version 2, whether or not their listeners already ran
+        InOrder inOrder = inOrder(courseCatalog, prerequisiteGraph, degreeAuditEngine);
+        inOrder.verify(courseCatalog).invalidate();
+        inOrder.verify(prerequisiteGraph).invalidate();
+        inOrder.verify(degreeAuditEngine).invalidate();
+        inOrder.verify(courseCatalog).snapshot();
+        inOrder.verify(prerequisiteGraph).snapshot();
+        inOrder.verify(courseCatalog).invalidate();
+        inOrder.verify(prerequisiteGraph).invalidate();
+        inOrder.verify(degreeAuditEngine).invalidate();
+        inOrder.verify(courseCatalog).snapshot();
+        inOrder.verify(prerequisiteGraph).snapshot();
+        verify(courseCatalog, times(2)).invalidate();
+    }
+
+    @Test
+    public void unknownMajorHasEmptyProgram() {
+        DegreeAuditEngine.Program program = holder.current().program("Unknown");
+
+        assertTrue(program.getRequirements().isEmpty());
+    }
+}
@@ -0,0 +1,76 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.entity.CatalogRevision;
+import edu.neu.curriculumRecommendation.event.CatalogChangedEvent;
+import edu.neu.curriculumRecommendation.mapper.repository.CatalogRevisionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for CatalogVersion
+ */
+public class CatalogVersionTest {
+
+    private static final CatalogChangedEvent COURSES_CHANGED = new CatalogChangedEvent(CatalogChangedEvent.Scope.COURSES);
+
+    private CatalogRevisionRepository catalogRevisionRepository;
+    private CatalogVersion catalogVersion;
+
+    @BeforeEach
+    public void setUp() {
+        catalogRevisionRepository = mock(CatalogRevisionRepository.class);
+        catalogVersion = new CatalogVersion(catalogRevisionRepository);
+    }
+
+    @Test
+    public void storedVersionIsReadOnceAndSurvivesRestarts() {
+        when(catalogRevisionRepository.findById(1L)).thenReturn(Optional.of(new CatalogRevision(1L, 42L)));
+
+        assertEquals(42L, catalogVersion.current());
+        assertEquals(42L, catalogVersion.current());
+        // A second instance, or this one after a restart, reads the same version
+        assertEquals(42L, new CatalogVersion(catalogRevisionRepository).current());
+        verify(catalogRevisionRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    public void writeIncrementsStoredVersionThenRefreshes() {
+        when(catalogRevisionRepository.findById(1L)).thenReturn(Optional.of(new CatalogRevision(1L, 7L)));
+        when(catalogRevisionRepository.increment(1L)).thenReturn(1);
+        catalogVersion.current();
+
+        catalogVersion.onCatalogChanging(COURSES_CHANGED);
+        when(catalogRevisionRepository.findById(1L)).thenReturn(Optional.of(new CatalogRevision(1L, 8L)));
+        catalogVersion.onCatalogChanged(COURSES_CHANGED);
+
+        verify(catalogRevisionRepository).increment(1L);
+        assertEquals(8L, catalogVersion.current());
+    }
+
+    @Test
+    public void missingRowIsCreated() {
+        when(catalogRevisionRepository.findById(1L)).thenReturn(Optional.empty());
+        when(catalogRevisionRepository.saveAndFlush(any(CatalogRevision.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertEquals(1L, catalogVersion.current());
+    }
+
+    @Test
+    public void versionNeverMovesBackwards() {
+        when(catalogRevisionRepository.findById(1L)).thenReturn(Optional.of(new CatalogRevision(1L, 5L)));
+        catalogVersion.current();
+        when(catalogRevisionRepository.findById(1L)).thenReturn(Optional.of(new CatalogRevision(1L, 4L)));
+
+        assertEquals(5L, catalogVersion.refresh());
+    }
+}
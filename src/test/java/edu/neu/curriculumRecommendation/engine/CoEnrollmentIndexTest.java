@@ -0,0 +1,125 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.entity.Course;
+import edu.neu.curriculumRecommendation.event.EnrollmentChangedEvent;
+import edu.neu.curriculumRecommendation.mapper.repository.CourseRepository;
+import edu.neu.curriculumRecommendation.mapper.repository.EnrollmentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for CoEnrollmentIndex
+ */
+public class CoEnrollmentIndexTest {
+
+    private final List<Course> courses = EngineFixtures.courses(1, 2, 3, 4, 5);
+    private final PrerequisiteGraph.Snapshot graph = EngineFixtures.graph(courses).snapshot();
+    private final CourseCatalogSnapshot catalog = CourseCatalogSnapshot.of(courses);
+
+    // Completed (student id, course id) pairs, ordered by student
+    private final List<Object[]> completedPairs = new ArrayList<>();
+
+    private CourseRepository courseRepository;
+    private EnrollmentRepository enrollmentRepository;
+    private final List<CoEnrollmentIndex> indexes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        courseRepository = mock(CourseRepository.class);
+        enrollmentRepository = mock(EnrollmentRepository.class);
+        when(courseRepository.findAllIds()).thenReturn(List.of(1L, 2L, 3L, 4L, 5L));
+        when(enrollmentRepository.findAllCompletedPairs()).thenAnswer(invocation -> List.copyOf(completedPairs));
+        when(enrollmentRepository.findCompletedPairsByStudentIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<?> studentIds = invocation.getArgument(0);
+            return completedPairs.stream().filter(pair -> studentIds.contains(pair[0])).toList();
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        indexes.forEach(CoEnrollmentIndex::shutdown);
+    }
+
+    @Test
+    public void batchedChangesMatchReload() {
+        complete(1L, 1L, 2L);
+        complete(2L, 1L, 3L);
+        CoEnrollmentIndex index = index(10);
+        index.snapshot();
+
+        // Student 1 completes 3, student 2 drops 3, student 3 completes 1 and 2 within one batch
+        completedPairs.add(1, new Object[]{1L, 3L});
+        completedPairs.removeIf(pair -> pair[0].equals(2L) && pair[1].equals(3L));
+        complete(3L, 1L, 2L);
+        index.onEnrollmentChanged(changed(1L, 3L, true));
+        index.onEnrollmentChanged(changed(2L, 3L, false));
+        index.onEnrollmentChanged(changed(3L, 1L, true));
+        index.onEnrollmentChanged(changed(3L, 2L, true));
+        index.applyPending();
+
+        CoEnrollmentIndex.Snapshot reloaded = index(10).snapshot();
+        for (long course = 1; course <= 3; course++) {
+            assertEquals(reloaded.getCompletionCount(course), index.snapshot().getCompletionCount(course));
+            assertEquals(shares(reloaded, course), shares(index.snapshot(), course));
+        }
+        assertEquals(3, index.snapshot().getCompletionCount(1L));
+        assertEquals(Map.of(2L, 2.0 / 3, 3L, 1.0 / 3), shares(index.snapshot(), 1L));
+    }
+
+    @Test
+    public void trimmedRowKeepsFrequentNeighbor() {
+        complete(1L, 1L, 4L, 5L);
+        for (long student = 2; student <= 5; student++) {
+            complete(student, 1L, 2L, 3L);
+        }
+        for (long student = 6; student <= 9; student++) {
+            complete(student, 1L, 2L);
+        }
+
+        Map<Long, Double> shares = shares(index(1).snapshot(), 1L);
+
+        assertEquals(List.of(2L), List.copyOf(shares.keySet()));
+    }
+
+    private CoEnrollmentIndex index(int maxNeighbors) {
+        CoEnrollmentIndex index = new CoEnrollmentIndex(courseRepository, enrollmentRepository, maxNeighbors, 0);
+        indexes.add(index);
+        return index;
+    }
+
+    private void complete(long studentId, long... courseIds) {
+        for (long courseId : courseIds) {
+            completedPairs.add(new Object[]{studentId, courseId});
+        }
+    }
+
+    private static EnrollmentChangedEvent changed(Long studentId, Long courseId, boolean completed) {
+        return completed
+                ? new EnrollmentChangedEvent(studentId, courseId, "ENROLLED", null, "COMPLETED", "A")
+                : new EnrollmentChangedEvent(studentId, courseId, "COMPLETED", "A", "ENROLLED", null);
+    }
+
+    // Share of the source's students who also completed each co-enrolled course, by course id
+    private Map<Long, Double> shares(CoEnrollmentIndex.Snapshot snapshot, long sourceId) {
+        long[] completed = BitSets.create(graph.size());
+        BitSets.set(completed, graph.indexOf(sourceId));
+        CoEnrollmentIndex.Affinity affinity = snapshot.affinity(completed, graph, catalog);
+        Map<Long, Double> shares = new TreeMap<>();
+        for (int candidate : affinity.candidates()) {
+            shares.put(catalog.courseAt(candidate).getId(), affinity.averageShare(candidate));
+        }
+        return shares;
+    }
+}
@@ -0,0 +1,89 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.entity.Course;
+import edu.neu.curriculumRecommendation.mapper.repository.CourseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for CourseCatalog and CourseCatalogSnapshot
+ */
+public class CourseCatalogTest {
+
+    private CourseRepository courseRepository;
+    private CourseCatalog courseCatalog;
+
+    @BeforeEach
+    public void setUp() {
+        courseRepository = mock(CourseRepository.class);
+        courseCatalog = new CourseCatalog(courseRepository);
+    }
+
+    @Test
+    public void snapshotDecodesCourseFields() {
+        Course advanced = EngineFixtures.course(7, 3, "Summer and fall");
+        advanced.setDifficulty(" advanced ");
+        Course inactive = EngineFixtures.course(2, 4, null);
+        inactive.setIsActive(false);
+        inactive.setDifficulty("Expert");
+        Course withoutId = EngineFixtures.course(9, 4, "Fall");
+        withoutId.setId(null);
+
+        CourseCatalogSnapshot catalog = CourseCatalogSnapshot.of(List.of(advanced, inactive, withoutId));
+
+        assertEquals(2, catalog.size());
+        assertEquals(0, catalog.indexOf(2L));
+        assertEquals(1, catalog.indexOf(7L));
+        assertEquals(-1, catalog.indexOf(9L));
+        assertEquals(-1, catalog.indexOf(null));
+        assertEquals(CourseCatalogSnapshot.DIFFICULTY_ADVANCED, catalog.difficultyAt(1));
+        assertEquals(CourseCatalogSnapshot.DIFFICULTY_UNKNOWN, catalog.difficultyAt(0));
+        assertEquals(CourseCatalogSnapshot.TERM_FALL | CourseCatalogSnapshot.TERM_SUMMER, catalog.termsAt(1));
+        assertEquals(0, catalog.termsAt(0));
+        assertEquals(3, catalog.creditsAt(1));
+        assertFalse(catalog.isActive(0));
+        assertTrue(catalog.isActive(1));
+        assertEquals(1, catalog.activeIndices().length);
+        assertEquals(2, catalog.allIndices().length);
+        assertSame(advanced, catalog.courseAt(1));
+    }
+
+    @Test
+    public void snapshotIsLoadedOnceUntilInvalidated() {
+        when(courseRepository.findAll()).thenReturn(EngineFixtures.courses(1, 2));
+
+        CourseCatalogSnapshot first = courseCatalog.snapshot();
+
+        assertSame(first, courseCatalog.snapshot());
+        courseCatalog.invalidate();
+        assertNotSame(first, courseCatalog.snapshot());
+    }
+
+    @Test
+    public void catalogInvalidatedDuringLoadIsNotPublished() {
+        List<Course> courses = new ArrayList<>(EngineFixtures.courses(1, 2));
+        when(courseRepository.findAll()).thenAnswer(invocation -> {
+            List<Course> loaded = List.copyOf(courses);
+            if (loaded.size() == 2) {
+                // A course is created and its change event lands while the old list is being indexed
+                courses.add(EngineFixtures.course(3, 4, null));
+                courseCatalog.invalidate();
+            }
+            return loaded;
+        });
+
+        assertEquals(2, courseCatalog.snapshot().size());
+        assertEquals(3, courseCatalog.snapshot().size());
+    }
+}
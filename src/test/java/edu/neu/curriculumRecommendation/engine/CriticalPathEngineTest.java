@@ -0,0 +1,95 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.entity.Course;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Unit tests for CriticalPathEngine
+ */
+public class CriticalPathEngineTest {
+
+    private List<Course> courses;
+    private PrerequisiteGraph graph;
+    private DegreeAuditEngine.Program program;
+    private CriticalPathEngine engine;
+
+    @BeforeEach
+    public void setUp() {
+        // 1 -> 2 -> 3 -> 4 and 1 -> 5; 6 stands alone. The program requires 4, 5 and 6.
+        courses = EngineFixtures.courses(1, 2, 3, 4, 5, 6);
+        graph = EngineFixtures.graph(courses,
+                new long[]{2, 1}, new long[]{3, 2}, new long[]{4, 3}, new long[]{5, 1});
+        program = EngineFixtures.degreeAuditEngine(
+                EngineFixtures.requirement(courses.get(3), "Core", 4, true),
+                EngineFixtures.requirement(courses.get(4), "Elective", 4, false),
+                EngineFixtures.requirement(courses.get(5), "Elective", 4, false)).program("CS");
+        engine = new CriticalPathEngine();
+    }
+
+    private RecommendationContext context(long version, PrerequisiteGraph.Snapshot graphSnapshot, Long... completed) {
+        CatalogSnapshotHolder.Snapshot snapshot = EngineFixtures.snapshot(version, courses, graphSnapshot, program);
+        return EngineFixtures.context(EngineFixtures.student("CS"), snapshot, engine, completed);
+    }
+
+    @Test
+    public void programPathIsLongestChainToARequirement() {
+        CriticalPathEngine.ProgramPaths paths = engine.program(context(1, graph.snapshot()));
+
+        assertEquals(4, paths.getLength());
+        assertArrayEquals(new long[]{1, 2, 3, 4}, paths.getCriticalPath());
+    }
+
+    @Test
+    public void remainingPathSkipsCompletedCourses() {
+        RecommendationContext context = context(1, graph.snapshot(), 1L, 2L);
+        CriticalPathEngine.Remaining remaining = context.getCriticalPath();
+        PrerequisiteGraph.Snapshot snapshot = context.getGraph();
+
+        assertEquals(2, remaining.getLength());
+        assertArrayEquals(new long[]{3, 4}, remaining.getPath());
+        assertEquals(2, remaining.chainFrom(snapshot.indexOf(3L)));
+        assertEquals(1, remaining.chainFrom(snapshot.indexOf(5L)));
+        assertEquals(1, remaining.chainFrom(snapshot.indexOf(6L)));
+        assertEquals(0, remaining.chainFrom(snapshot.indexOf(1L)));
+    }
+
+    @Test
+    public void everythingCompletedLeavesNoPath() {
+        CriticalPathEngine.Remaining remaining =
+                context(1, graph.snapshot(), 1L, 2L, 3L, 4L, 5L, 6L).getCriticalPath();
+
+        assertEquals(0, remaining.getLength());
+    }
+
+    @Test
+    public void olderSnapshotDoesNotReplaceCachedPaths() {
+        PrerequisiteGraph.Snapshot oldGraph = graph.snapshot();
+        graph.invalidate();
+        PrerequisiteGraph.Snapshot newGraph = graph.snapshot();
+
+        CriticalPathEngine.ProgramPaths newer = engine.program(context(2, newGraph));
+        CriticalPathEngine.ProgramPaths older = engine.program(context(1, oldGraph));
+
+        assertNotSame(newer, older);
+        assertSame(oldGraph, older.getGraph());
+        assertSame(newer, engine.program(context(2, newGraph)));
+    }
+
+    @Test
+    public void studentWithoutMajorReusesEmptyProgram() {
+        program = EngineFixtures.degreeAuditEngine().program(null);
+        RecommendationContext first = context(1, graph.snapshot());
+        RecommendationContext second = context(1, first.getGraph());
+
+        assertSame(engine.program(first), engine.program(second));
+        assertEquals(0, engine.program(first).getLength());
+    }
+}
@@ -0,0 +1,93 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.entity.Course;
+import edu.neu.curriculumRecommendation.entity.ProgramRequirement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for DegreeAuditEngine
+ */
+public class DegreeAuditEngineTest {
+
+    private List<Course> courses;
+    private DegreeAuditEngine engine;
+
+    @BeforeEach
+    public void setUp() {
+        courses = EngineFixtures.courses(1, 2, 3, 4, 5, 6);
+        ProgramRequirement electiveWithoutCredits = EngineFixtures.requirement(courses.get(5), "Elective", 0, false);
+        electiveWithoutCredits.setCreditsRequired(null);
+        engine = EngineFixtures.degreeAuditEngine(
+                EngineFixtures.requirement(courses.get(0), "Core", 4, true),
+                EngineFixtures.requirement(courses.get(1), "Core", 4, true),
+                EngineFixtures.requirement(courses.get(2), "Elective", 4, false),
+                // Second requirement of course 1: the first one wins
+                EngineFixtures.requirement(courses.get(0), "Elective", 4, false),
+                EngineFixtures.requirement(courses.get(3), "Elective", 4, false),
+                EngineFixtures.requirement(courses.get(4), "Elective", 3, false),
+                electiveWithoutCredits);
+    }
+
+    @Test
+    public void groupTargetsSumRequirementCredits() {
+        DegreeAuditEngine.Program program = engine.program("CS");
+
+        assertEquals(6, program.getRequirements().size());
+        assertEquals("Core", program.requirementFor(1L).getRequirementType());
+        assertNull(program.requirementFor(7L));
+
+        List<DegreeAuditEngine.Group> groups = program.getGroups();
+        assertEquals(2, groups.size());
+        assertEquals("Core", groups.get(0).getRequirementType());
+        assertEquals(8, groups.get(0).getTargetCredits());
+        assertEquals(2, groups.get(0).getMandatoryCourses());
+        assertEquals("Elective", groups.get(1).getRequirementType());
+        assertEquals(11, groups.get(1).getTargetCredits());
+        assertEquals(0, groups.get(1).getMandatoryCourses());
+    }
+
+    @Test
+    public void auditEarnsCreditsTowardGroups() {
+        DegreeAuditEngine.Program program = engine.program("CS");
+        PrerequisiteGraph.Snapshot graph = EngineFixtures.graph(courses).snapshot();
+        CatalogSnapshotHolder.Snapshot snapshot = EngineFixtures.snapshot(1, courses, graph, program);
+        RecommendationContext context = EngineFixtures.context(EngineFixtures.student("CS"), snapshot,
+                new CriticalPathEngine(), 1L, 3L, 5L);
+
+        DegreeAuditEngine.Audit audit = engine.audit(context);
+
+        DegreeAuditEngine.GroupProgress core = audit.getGroups().get(0);
+        assertEquals(4, core.getEarnedCredits());
+        assertEquals(4, core.getRemainingCredits());
+        assertEquals(1, core.getMandatoryCoursesRemaining());
+        DegreeAuditEngine.GroupProgress elective = audit.getGroups().get(1);
+        assertEquals(7, elective.getEarnedCredits());
+        assertEquals(4, elective.getRemainingCredits());
+        assertEquals(0, elective.getMandatoryCoursesRemaining());
+        assertEquals(8, audit.getRemainingCredits());
+    }
+
+    @Test
+    public void programIsCompiledOncePerMajor() {
+        DegreeAuditEngine.Program program = engine.program("CS");
+
+        assertSame(program, engine.program(" CS "));
+        engine.invalidate();
+        assertNotSame(program, engine.program("CS"));
+    }
+
+    @Test
+    public void blankMajorHasEmptyProgram() {
+        assertTrue(engine.program(" ").getRequirements().isEmpty());
+        assertTrue(engine.program(null).getGroups().isEmpty());
+    }
+}
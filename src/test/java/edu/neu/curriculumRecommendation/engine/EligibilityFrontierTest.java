@@ -0,0 +1,111 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.event.EnrollmentChangedEvent;
+import edu.neu.curriculumRecommendation.mapper.repository.EnrollmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for EligibilityFrontier
+ */
+public class EligibilityFrontierTest {
+
+    private static final Long STUDENT_ID = 1L;
+
+    private PrerequisiteGraph.Snapshot graph;
+    private EnrollmentRepository enrollmentRepository;
+    private EligibilityFrontier eligibilityFrontier;
+
+    @BeforeEach
+    public void setUp() {
+        // 2 requires 1, 3 requires 2, 4 requires 1; 5 standalone
+        graph = EngineFixtures.graph(EngineFixtures.courses(1, 2, 3, 4, 5),
+                new long[]{2, 1}, new long[]{3, 2}, new long[]{4, 1}).snapshot();
+        enrollmentRepository = mock(EnrollmentRepository.class);
+        when(enrollmentRepository.findCompletedCourseIdsByStudentId(STUDENT_ID)).thenReturn(List.of());
+        eligibilityFrontier = new EligibilityFrontier(enrollmentRepository, 10);
+    }
+
+    @Test
+    public void loadsEligibleFromCompleted() {
+        when(enrollmentRepository.findCompletedCourseIdsByStudentId(STUDENT_ID)).thenReturn(List.of(1L));
+
+        EligibilityFrontier.Frontier frontier = eligibilityFrontier.get(STUDENT_ID, graph);
+
+        assertEquals(List.of(2L, 4L, 5L), courseIds(frontier.getEligible()));
+    }
+
+    @Test
+    public void completeOpensDependents() {
+        eligibilityFrontier.get(STUDENT_ID, graph);
+
+        eligibilityFrontier.onEnrollmentChanged(changed(1L, true));
+        assertFrontier(List.of(1L), List.of(2L, 4L, 5L));
+
+        eligibilityFrontier.onEnrollmentChanged(changed(2L, true));
+        assertFrontier(List.of(1L, 2L), List.of(3L, 4L, 5L));
+    }
+
+    @Test
+    public void uncompleteClosesDescendantsThroughCompletedCourses() {
+        when(enrollmentRepository.findCompletedCourseIdsByStudentId(STUDENT_ID)).thenReturn(List.of(1L, 2L));
+        eligibilityFrontier.get(STUDENT_ID, graph);
+
+        eligibilityFrontier.onEnrollmentChanged(changed(1L, false));
+
+        // 3 is closed through the still completed 2
+        assertFrontier(List.of(2L), List.of(1L, 5L));
+    }
+
+    @Test
+    public void retakenCourseStaysCompleted() {
+        when(enrollmentRepository.findCompletedCourseIdsByStudentId(STUDENT_ID)).thenReturn(List.of(1L));
+        when(enrollmentRepository.existsByStudentIdAndCourseIdAndStatus(STUDENT_ID, 1L, "COMPLETED")).thenReturn(true);
+        eligibilityFrontier.get(STUDENT_ID, graph);
+
+        eligibilityFrontier.onEnrollmentChanged(changed(1L, false));
+
+        assertFrontier(List.of(1L), List.of(2L, 4L, 5L));
+    }
+
+    @Test
+    public void statusMustMatchCompletedExactly() {
+        eligibilityFrontier.get(STUDENT_ID, graph);
+
+        // findCompletedCourseIdsByStudentId would not return it either
+        eligibilityFrontier.onEnrollmentChanged(
+                new EnrollmentChangedEvent(STUDENT_ID, 1L, "ENROLLED", null, "Completed", "A"));
+
+        assertFrontier(List.of(), List.of(1L, 5L));
+    }
+
+    private void assertFrontier(List<Long> completed, List<Long> eligible) {
+        EligibilityFrontier.Frontier frontier = eligibilityFrontier.get(STUDENT_ID, graph);
+        assertEquals(completed, courseIds(frontier.getCompleted()));
+        assertEquals(eligible, courseIds(frontier.getEligible()));
+        // Same as recomputing over the whole catalog
+        assertArrayEquals(graph.eligible(frontier.getCompleted()), frontier.getEligible());
+    }
+
+    private List<Long> courseIds(long[] bits) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = BitSets.nextSetBit(bits, 0); i >= 0; i = BitSets.nextSetBit(bits, i + 1)) {
+            ids.add(graph.courseIdAt(i));
+        }
+        return ids;
+    }
+
+    private static EnrollmentChangedEvent changed(Long courseId, boolean completed) {
+        return completed
+                ? new EnrollmentChangedEvent(STUDENT_ID, courseId, "ENROLLED", null, "COMPLETED", "A")
+                : new EnrollmentChangedEvent(STUDENT_ID, courseId, "COMPLETED", "A", "DROPPED", null);
+    }
+}
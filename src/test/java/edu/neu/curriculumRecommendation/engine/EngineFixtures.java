@@ -0,0 +1,104 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.entity.Course;
+import edu.neu.curriculumRecommendation.entity.ProgramRequirement;
+import edu.neu.curriculumRecommendation.entity.Student;
+import edu.neu.curriculumRecommendation.mapper.repository.CourseRepository;
+import edu.neu.curriculumRecommendation.mapper.repository.PrerequisiteRepository;
+import edu.neu.curriculumRecommendation.mapper.repository.ProgramRequirementRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Small in-memory catalogs for engine tests
+ */
+final class EngineFixtures {
+
+    private EngineFixtures() {
+    }
+
+    static Course course(long id, int credits, String semester) {
+        Course course = new Course();
+        course.setId(id);
+        course.setCourseCode("CS" + id);
+        course.setCourseName("Course " + id);
+        course.setCredits(credits);
+        course.setSemester(semester);
+        course.setDifficulty("Beginner");
+        course.setIsActive(true);
+        return course;
+    }
+
+    static List<Course> courses(long... ids) {
+        List<Course> courses = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            courses.add(course(id, 4, "Fall, Spring"));
+        }
+        return courses;
+    }
+
+    /**
+     * Graph over the given courses; each edge is {course id, prerequisite course id}
+     */
+    static PrerequisiteGraph graph(List<Course> courses, long[]... edges) {
+        CourseRepository courseRepository = mock(CourseRepository.class);
+        PrerequisiteRepository prerequisiteRepository = mock(PrerequisiteRepository.class);
+        List<Long> ids = courses.stream().map(Course::getId).toList();
+        List<Object[]> rows = Arrays.stream(edges)
+                .map(edge -> new Object[]{edge[0], edge[1]})
+                .toList();
+        when(courseRepository.findAllIds()).thenReturn(ids);
+        when(prerequisiteRepository.findAllEdges()).thenReturn(rows);
+        return new PrerequisiteGraph(courseRepository, prerequisiteRepository);
+    }
+
+    static ProgramRequirement requirement(Course course, String type, int credits, boolean mandatory) {
+        ProgramRequirement requirement = new ProgramRequirement();
+        requirement.setMajor("CS");
+        requirement.setCourse(course);
+        requirement.setRequirementType(type);
+        requirement.setCreditsRequired(credits);
+        requirement.setIsMandatory(mandatory);
+        return requirement;
+    }
+
+    static DegreeAuditEngine degreeAuditEngine(ProgramRequirement... requirements) {
+        ProgramRequirementRepository repository = mock(ProgramRequirementRepository.class);
+        when(repository.findByMajor(anyString())).thenReturn(List.of(requirements));
+        return new DegreeAuditEngine(repository);
+    }
+
+    static Student student(String major) {
+        Student student = new Student();
+        student.setId(1L);
+        student.setMajor(major);
+        student.setGpa(3.2);
+        return student;
+    }
+
+    static CatalogSnapshotHolder.Snapshot snapshot(long version, List<Course> courses, PrerequisiteGraph.Snapshot graph,
+                                                   DegreeAuditEngine.Program program) {
+        return new CatalogSnapshotHolder.Snapshot(version, CourseCatalogSnapshot.of(courses), graph,
+                program.getMajor() != null ? Map.of(program.getMajor(), program) : Map.of());
+    }
+
+    /**
+     * Context of a student who completed the given course ids; indices and popularity are not loaded
+     */
+    static RecommendationContext context(Student student, CatalogSnapshotHolder.Snapshot snapshot,
+                                         CriticalPathEngine criticalPathEngine, Long... completedIds) {
+        PrerequisiteGraph.Snapshot graph = snapshot.getGraph();
+        long[] completed = graph.toBitSet(List.of(completedIds));
+        return new RecommendationContext(student, snapshot, completed, graph.eligible(completed),
+                () -> null, () -> null, () -> null,
+                () -> new UnlockIndex().of(graph),
+                criticalPathEngine::remaining);
+    }
+}
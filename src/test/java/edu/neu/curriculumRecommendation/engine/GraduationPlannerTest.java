@@ -0,0 +1,147 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.entity.Course;
+import edu.neu.curriculumRecommendation.entity.ProgramRequirement;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for GraduationPlanner
+ */
+public class GraduationPlannerTest {
+
+    private final GraduationPlanner planner = planner(LocalDate.of(2026, 10, 18));
+
+    @Test
+    public void termsStayWithinCreditCap() {
+        List<Course> courses = EngineFixtures.courses(1, 2, 3, 4, 5);
+        RecommendationContext context = context(courses, new long[0][], requirements(courses));
+
+        GraduationPlanner.Plan plan = planner.plan(context, List.of(), 8, false);
+
+        assertEquals(List.of(8, 8, 4), plan.getTerms().stream().map(GraduationPlanner.Term::getCredits).toList());
+        for (GraduationPlanner.Term term : plan.getTerms()) {
+            assertEquals(term.getCredits(), term.getCourses().stream().mapToInt(GraduationPlanner.PlannedCourse::getCredits).sum());
+        }
+        assertTrue(plan.getUnscheduled().isEmpty());
+        assertFalse(plan.isSearchTimedOut());
+    }
+
+    @Test
+    public void capFillsWithMixedCredits() {
+        List<Course> courses = List.of(
+                EngineFixtures.course(1, 4, null),
+                EngineFixtures.course(2, 3, null),
+                EngineFixtures.course(3, 3, null),
+                EngineFixtures.course(4, 2, null));
+        RecommendationContext context = context(courses, new long[0][], requirements(courses));
+
+        GraduationPlanner.Plan plan = planner.plan(context, List.of(), 8, false);
+
+        // 3 + 3 + 2 fills the cap exactly where the greedy 4 + 3 would leave a credit unused
+        assertEquals(8, plan.getTerms().get(0).getCredits());
+        assertEquals(List.of(2L, 3L, 4L), courseIds(plan.getTerms().get(0)));
+    }
+
+    @Test
+    public void coursesOverCapAreUnscheduled() {
+        List<Course> courses = List.of(EngineFixtures.course(1, 4, null), EngineFixtures.course(2, 12, null));
+        RecommendationContext context = context(courses, new long[0][], requirements(courses));
+
+        GraduationPlanner.Plan plan = planner.plan(context, List.of(), 8, false);
+
+        assertEquals(1, plan.getTerms().size());
+        assertEquals(List.of(1L), courseIds(plan.getTerms().get(0)));
+        assertEquals(2L, plan.getUnscheduled().get(0).getCourseId());
+    }
+
+    @Test
+    public void prerequisitesArePlannedInEarlierTerms() {
+        // 3 requires 2, 2 requires 1; only 3 is a requirement
+        List<Course> courses = EngineFixtures.courses(1, 2, 3);
+        RecommendationContext context = context(courses, new long[][]{{3, 2}, {2, 1}},
+                EngineFixtures.requirement(courses.get(2), "Core", 4, true));
+
+        GraduationPlanner.Plan plan = planner.plan(context, List.of(), 12, false);
+
+        assertEquals(3, plan.getTerms().size());
+        assertEquals(List.of(1L), courseIds(plan.getTerms().get(0)));
+        assertNull(plan.getTerms().get(0).getCourses().get(0).getRequirement());
+        assertEquals(List.of(2L), courseIds(plan.getTerms().get(1)));
+        assertEquals(List.of(3L), courseIds(plan.getTerms().get(2)));
+    }
+
+    @Test
+    public void longerChainsComeFirst() {
+        // 2 requires 1; 3 stands alone. One course fits a term.
+        List<Course> courses = EngineFixtures.courses(1, 2, 3);
+        RecommendationContext context = context(courses, new long[][]{{2, 1}},
+                EngineFixtures.requirement(courses.get(1), "Elective", 4, false),
+                EngineFixtures.requirement(courses.get(2), "Elective", 4, false));
+
+        GraduationPlanner.Plan plan = planner.plan(context, List.of(), 4, false);
+
+        assertEquals(List.of(1L), courseIds(plan.getTerms().get(0)));
+        assertEquals(3, plan.getTerms().size());
+    }
+
+    @Test
+    public void inProgressCoursesCountAsDone() {
+        List<Course> courses = EngineFixtures.courses(1, 2);
+        RecommendationContext context = context(courses, new long[][]{{2, 1}},
+                EngineFixtures.requirement(courses.get(0), "Core", 4, true),
+                EngineFixtures.requirement(courses.get(1), "Core", 4, true));
+
+        GraduationPlanner.Plan plan = planner.plan(context, List.of(1L), 12, false);
+
+        assertEquals(1, plan.getTerms().size());
+        assertEquals(List.of(2L), courseIds(plan.getTerms().get(0)));
+    }
+
+    @Test
+    public void planStartsAfterTheTermUnderWay() {
+        List<Course> courses = List.of(EngineFixtures.course(1, 4, null), EngineFixtures.course(2, 4, null));
+        RecommendationContext context = context(courses, new long[][]{{2, 1}}, requirements(courses));
+
+        // Spring term under way: next is Summer, or Fall without summer terms, never Spring of this year
+        assertTerms(planner(LocalDate.of(2026, 2, 10)).plan(context, List.of(), 4, false), "Fall 2026", "Spring 2027");
+        assertTerms(planner(LocalDate.of(2026, 4, 30)).plan(context, List.of(), 4, true), "Summer 2026", "Fall 2026");
+        assertTerms(planner(LocalDate.of(2026, 6, 1)).plan(context, List.of(), 4, true), "Fall 2026", "Spring 2027");
+        assertTerms(planner(LocalDate.of(2026, 10, 18)).plan(context, List.of(), 4, true), "Spring 2027", "Summer 2027");
+    }
+
+    private static GraduationPlanner planner(LocalDate today) {
+        return new GraduationPlanner(Clock.fixed(today.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC), 12, 50);
+    }
+
+    private static void assertTerms(GraduationPlanner.Plan plan, String... terms) {
+        assertEquals(List.of(terms), plan.getTerms().stream().map(term -> term.getSemester() + " " + term.getYear()).toList());
+    }
+
+    private static ProgramRequirement[] requirements(List<Course> courses) {
+        return courses.stream()
+                .map(course -> EngineFixtures.requirement(course, "Core", course.getCredits(), false))
+                .toArray(ProgramRequirement[]::new);
+    }
+
+    private static RecommendationContext context(List<Course> courses, long[][] edges,
+                                                 ProgramRequirement... requirements) {
+        DegreeAuditEngine.Program program = EngineFixtures.degreeAuditEngine(requirements).program("CS");
+        PrerequisiteGraph.Snapshot graph = EngineFixtures.graph(courses, edges).snapshot();
+        return EngineFixtures.context(EngineFixtures.student("CS"),
+                EngineFixtures.snapshot(1, courses, graph, program), new CriticalPathEngine());
+    }
+
+    private static List<Long> courseIds(GraduationPlanner.Term term) {
+        return term.getCourses().stream().map(GraduationPlanner.PlannedCourse::getCourseId).sorted().toList();
+    }
+}
@@ -0,0 +1,86 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for ParallelScorer
+ */
+public class ParallelScorerTest {
+
+    private ForkJoinPool pool;
+    private final Set<Thread> scoringThreads = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void parallelTopKMatchesSequential() {
+        int[] candidates = IntStream.range(0, 5000).toArray();
+
+        List<Integer> sequential = new ParallelScorer(pool, false, 100, 64)
+                .score(candidates, 25, this::scoreWithTies).toSortedList();
+        assertEquals(Set.of(Thread.currentThread()), scoringThreads);
+        scoringThreads.clear();
+        List<Integer> parallel = new ParallelScorer(pool, true, 100, 64)
+                .score(candidates, 25, this::scoreWithTies).toSortedList();
+
+        // Ties are broken by candidate position however the chunks were scheduled
+        assertEquals(sequential, parallel);
+        assertEquals(25, parallel.size());
+        assertFalse(scoringThreads.contains(Thread.currentThread()));
+    }
+
+    @Test
+    public void listBelowThresholdIsScoredOnCallingThread() {
+        int[] candidates = IntStream.range(0, 99).toArray();
+
+        List<Integer> top = new ParallelScorer(pool, true, 100, 10).score(candidates, 3, this::scoreWithTies)
+                .toSortedList();
+
+        assertEquals(3, top.size());
+        assertEquals(Set.of(Thread.currentThread()), scoringThreads);
+    }
+
+    @Test
+    public void scoringFromPoolTaskStaysOnThatTask() {
+        ParallelScorer scorer = new ParallelScorer(pool, true, 100, 64);
+        int[] candidates = IntStream.range(0, 1000).toArray();
+
+        Thread worker = pool.submit(() -> {
+            scorer.score(candidates, 5, this::scoreWithTies);
+            return Thread.currentThread();
+        }).join();
+
+        assertEquals(Set.of(worker), scoringThreads);
+        assertTrue(scoringThreads.stream().noneMatch(thread -> thread == Thread.currentThread()));
+    }
+
+    /**
+     * Few distinct scores so most of the kept candidates tie with others; multiples of 5 are rejected
+     */
+    private void scoreWithTies(int candidate, long sequence, TopKCollector<Integer> sink) {
+        scoringThreads.add(Thread.currentThread());
+        if (candidate % 5 != 0) {
+            sink.offer(candidate, candidate % 7, sequence);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.event.EnrollmentChangedEvent;
+import edu.neu.curriculumRecommendation.mapper.repository.CourseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for PopularitySnapshotService
+ */
+public class PopularitySnapshotServiceTest {
+
+    private static final Map<String, Double> GRADE_POINTS = Map.of("A", 4.0, "B", 3.0, "C", 2.0, "F", 0.0);
+
+    // Enrollment rows {course id, status, grade}
+    private final List<Object[]> enrollments = new ArrayList<>();
+
+    private PopularitySnapshotService popularity;
+
+    @BeforeEach
+    public void setUp() {
+        CourseRepository courseRepository = mock(CourseRepository.class);
+        when(courseRepository.findCourseGradeTotals()).thenAnswer(invocation -> gradeTotals());
+        popularity = new PopularitySnapshotService(courseRepository);
+    }
+
+    @Test
+    public void incrementalCountersMatchReconcile() {
+        enroll(1L, "COMPLETED", "A");
+        enroll(1L, "COMPLETED", "B");
+        enroll(2L, "COMPLETED", "S");
+        popularity.snapshot();
+
+        // Completed, regraded, dropped, and statuses or grades the queries do not match exactly
+        change(new EnrollmentChangedEvent(1L, 2L, "IN_PROGRESS", null, "COMPLETED", "C"));
+        change(new EnrollmentChangedEvent(2L, 1L, "COMPLETED", "A", "COMPLETED", "B"));
+        change(new EnrollmentChangedEvent(3L, 1L, "COMPLETED", "B", null, null));
+        change(new EnrollmentChangedEvent(4L, 2L, "IN_PROGRESS", null, "completed", "A"));
+        change(new EnrollmentChangedEvent(5L, 2L, "IN_PROGRESS", null, "COMPLETED", " a"));
+        change(new EnrollmentChangedEvent(6L, 3L, null, null, "COMPLETED", "F"));
+
+        PopularitySnapshotService.Snapshot incremental = popularity.snapshot();
+        popularity.reconcile();
+        PopularitySnapshotService.Snapshot reconciled = popularity.snapshot();
+
+        for (long courseId = 1; courseId <= 3; courseId++) {
+            assertEquals(reconciled.getEnrollmentCount(courseId), incremental.getEnrollmentCount(courseId));
+            assertEquals(reconciled.getAverageGrade(courseId), incremental.getAverageGrade(courseId), 1e-9);
+            assertEquals(reconciled.getNormalizedScore(courseId), incremental.getNormalizedScore(courseId), 1e-9);
+        }
+        assertEquals(1L, incremental.getEnrollmentCount(1L));
+        assertEquals(3L, incremental.getEnrollmentCount(2L));
+        assertEquals(2.0, incremental.getAverageGrade(2L), 1e-9);
+    }
+
+    @Test
+    public void eventsBeforeFirstLoadAreReadFromDatabase() {
+        enroll(1L, "COMPLETED", "A");
+        popularity.onEnrollmentChanged(new EnrollmentChangedEvent(1L, 1L, "IN_PROGRESS", null, "COMPLETED", "A"));
+
+        assertEquals(1L, popularity.snapshot().getEnrollmentCount(1L));
+        assertEquals(1.0, popularity.snapshot().getNormalizedScore(1L), 1e-9);
+        assertEquals(0L, popularity.snapshot().getEnrollmentCount(2L));
+    }
+
+    private void enroll(Long courseId, String status, String grade) {
+        enrollments.add(new Object[]{courseId, status, grade});
+    }
+
+    /**
+     * Apply the change to the rows, as committed, then publish it
+     */
+    private void change(EnrollmentChangedEvent event) {
+        if (event.getPreviousStatus() != null) {
+            for (int i = 0; i < enrollments.size(); i++) {
+                Object[] row = enrollments.get(i);
+                if (row[0].equals(event.getCourseId()) && row[1].equals(event.getPreviousStatus())
+                        && Objects.equals(row[2], event.getPreviousGrade())) {
+                    enrollments.remove(i);
+                    break;
+                }
+            }
+        }
+        if (event.getStatus() != null) {
+            enroll(event.getCourseId(), event.getStatus(), event.getGrade());
+        }
+        popularity.onEnrollmentChanged(event);
+    }
+
+    /**
+     * Same rows as CourseRepository.findCourseGradeTotals: exact status and exact grade letters
+     */
+    private List<Object[]> gradeTotals() {
+        Map<Long, Object[]> totals = new TreeMap<>();
+        for (Object[] row : enrollments) {
+            if (!"COMPLETED".equals(row[1])) {
+                continue;
+            }
+            Object[] total = totals.computeIfAbsent((Long) row[0], id -> new Object[]{id, 0L, 0L, null});
+            total[1] = (Long) total[1] + 1;
+            Double points = GRADE_POINTS.get((String) row[2]);
+            if (points != null) {
+                total[2] = (Long) total[2] + 1;
+                total[3] = (total[3] == null ? 0.0 : (Double) total[3]) + points;
+            }
+        }
+        return new ArrayList<>(totals.values());
+    }
+}
@@ -0,0 +1,111 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.exception.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for PrerequisiteGraph
+ */
+public class PrerequisiteGraphTest {
+
+    private PrerequisiteGraph graph;
+    private AtomicInteger persisted;
+
+    @BeforeEach
+    public void setUp() {
+        // 3 requires 2, 2 requires 1; 4 standalone
+        graph = EngineFixtures.graph(EngineFixtures.courses(1, 2, 3, 4), new long[]{3, 2}, new long[]{2, 1});
+        persisted = new AtomicInteger();
+    }
+
+    @Test
+    public void closureHasLevels() {
+        assertEquals(Map.of(2L, 1, 1L, 2), graph.getAllPrerequisitesWithLevels(3L));
+        assertEquals(List.of(2L, 1L), List.copyOf(graph.getAllPrerequisitesWithLevels(3L).keySet()));
+        assertTrue(graph.getAllPrerequisitesWithLevels(1L).isEmpty());
+    }
+
+    @Test
+    public void addEdgeRejectsCycle() {
+        ValidationException ex = assertThrows(ValidationException.class,
+                () -> graph.addEdge(1L, 3L, persisted::incrementAndGet));
+
+        assertTrue(ex.getMessage().contains("cycle"));
+        assertEquals(0, persisted.get());
+        assertTrue(graph.getAllPrerequisitesWithLevels(1L).isEmpty());
+    }
+
+    @Test
+    public void addEdgeRejectsSelfPrerequisite() {
+        assertThrows(ValidationException.class, () -> graph.addEdge(2L, 2L, persisted::incrementAndGet));
+        assertEquals(0, persisted.get());
+    }
+
+    @Test
+    public void addEdgeUpdatesDependentClosures() {
+        graph.addEdge(1L, 4L, persisted::incrementAndGet);
+
+        assertEquals(1, persisted.get());
+        assertEquals(Map.of(4L, 1), graph.getAllPrerequisitesWithLevels(1L));
+        assertEquals(Map.of(2L, 1, 1L, 2, 4L, 3), graph.getAllPrerequisitesWithLevels(3L));
+
+        PrerequisiteGraph.Snapshot snapshot = graph.snapshot();
+        assertTrue(snapshot.requires(snapshot.indexOf(3L), snapshot.indexOf(4L)));
+        // 4 now requires the chain it is a prerequisite of, which would close a cycle
+        assertThrows(ValidationException.class, () -> graph.addEdge(4L, 3L, persisted::incrementAndGet));
+    }
+
+    @Test
+    public void removeEdgeUpdatesDependentClosures() {
+        graph.removeEdge(2L, 1L, persisted::incrementAndGet);
+
+        assertEquals(1, persisted.get());
+        assertEquals(Map.of(2L, 1), graph.getAllPrerequisitesWithLevels(3L));
+        PrerequisiteGraph.Snapshot snapshot = graph.snapshot();
+        assertFalse(snapshot.requires(snapshot.indexOf(3L), snapshot.indexOf(1L)));
+
+        // The reverse edge no longer closes a cycle
+        graph.addEdge(1L, 3L, persisted::incrementAndGet);
+        assertEquals(Map.of(3L, 1, 2L, 2), graph.getAllPrerequisitesWithLevels(1L));
+    }
+
+    @Test
+    public void persistRunsWithoutGraphLock() throws InterruptedException {
+        Thread concurrentWrite = new Thread(() -> graph.removeEdge(2L, 1L, persisted::incrementAndGet));
+
+        graph.addEdge(1L, 4L, () -> {
+            // Another write is validated and applied while this edge is being stored
+            concurrentWrite.start();
+            try {
+                concurrentWrite.join(5000);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            persisted.incrementAndGet();
+        });
+
+        assertFalse(concurrentWrite.isAlive());
+        assertEquals(2, persisted.get());
+        assertEquals(Map.of(4L, 1), graph.getAllPrerequisitesWithLevels(1L));
+        assertEquals(Map.of(2L, 1), graph.getAllPrerequisitesWithLevels(3L));
+    }
+
+    @Test
+    public void failedPersistLeavesGraphUnchanged() {
+        assertThrows(IllegalStateException.class, () -> graph.addEdge(1L, 4L, () -> {
+            throw new IllegalStateException("insert failed");
+        }));
+
+        assertTrue(graph.getAllPrerequisitesWithLevels(1L).isEmpty());
+    }
+}
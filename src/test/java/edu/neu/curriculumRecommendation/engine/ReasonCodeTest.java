@@ -0,0 +1,80 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import edu.neu.curriculumRecommendation.entity.Course;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Unit tests for ReasonCode rendering and merging
+ */
+public class ReasonCodeTest {
+
+    private RecommendationContext context;
+
+    @BeforeEach
+    public void setUp() {
+        List<Course> courses = EngineFixtures.courses(10, 20);
+        PrerequisiteGraph graph = EngineFixtures.graph(courses, new long[]{20, 10});
+        DegreeAuditEngine.Program program = EngineFixtures.degreeAuditEngine().program("CS");
+        context = EngineFixtures.context(EngineFixtures.student("CS"),
+                EngineFixtures.snapshot(1, courses, graph.snapshot(), program), new CriticalPathEngine());
+    }
+
+    @Test
+    public void rendersInDeclarationOrderWithParameters() {
+        double[] params = new double[ReasonCode.PARAM_COUNT];
+        params[ReasonCode.PARAM_ENROLLMENT_COUNT] = 42;
+        params[ReasonCode.PARAM_AVERAGE_GRADE] = 3.456;
+        long reasons = ReasonCode.GRADE_HIGH.bit() | ReasonCode.POPULAR.bit() | ReasonCode.MANDATORY_FOR_MAJOR.bit();
+
+        assertEquals("Popular course with 42 students enrolled. High average grade (3.46). "
+                        + "Required core course for CS major.",
+                ReasonCode.render(reasons, params, context, List.of()));
+    }
+
+    @Test
+    public void rendersMissingParametersAsZero() {
+        assertEquals("Opens the way to 0 further courses.",
+                ReasonCode.render(ReasonCode.UNLOCKS_COURSES.bit(), null, context, List.of()));
+    }
+
+    @Test
+    public void rendersRelatedCourseAndMissingPrerequisites() {
+        double[] params = new double[ReasonCode.PARAM_COUNT];
+        params[ReasonCode.PARAM_RELATED_COURSE] = 10;
+        long reasons = ReasonCode.CO_ENROLLED.bit() | ReasonCode.PREREQUISITES_NEEDED.bit();
+
+        assertEquals("Often taken by students who completed CS10. Prerequisites needed: CS10 CS15",
+                ReasonCode.render(reasons, params, context, List.of("CS10", "CS15")));
+    }
+
+    @Test
+    public void mergeParamsCopiesOnlySlotsOfSetReasons() {
+        double[] params = new double[ReasonCode.PARAM_COUNT];
+        params[ReasonCode.PARAM_UNLOCK_COUNT] = 3;
+        params[ReasonCode.PARAM_ENROLLMENT_COUNT] = 99;
+
+        assertNull(ReasonCode.mergeParams(null, ReasonCode.CORE.bit(), params));
+        double[] merged = ReasonCode.mergeParams(null, ReasonCode.UNLOCKS_COURSES.bit(), params);
+        assertEquals(3, merged[ReasonCode.PARAM_UNLOCK_COUNT]);
+        assertEquals(0, merged[ReasonCode.PARAM_ENROLLMENT_COUNT]);
+    }
+
+    @Test
+    public void collapsesReasonsWithTheSameMeaning() {
+        long reasons = ReasonCode.NO_PREREQUISITES_REQUIRED.bit() | ReasonCode.NO_PREREQUISITES.bit()
+                | ReasonCode.CORE.bit();
+
+        assertEquals("No prerequisites required. Core course.",
+                ReasonCode.render(ReasonCode.collapseDuplicates(reasons), null, context, List.of()));
+        assertEquals(ReasonCode.PREREQUISITES_MET.bit(),
+                ReasonCode.collapseDuplicates(ReasonCode.PREREQUISITES_MET.bit()));
+        assertEquals(ReasonCode.ALL_PREREQUISITES_MET.bit(), ReasonCode.collapseDuplicates(
+                ReasonCode.ALL_PREREQUISITES_MET.bit() | ReasonCode.PREREQUISITES_MET.bit()));
+    }
+}
@@ -0,0 +1,138 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for RecommendationResultCache
+ */
+public class RecommendationResultCacheTest {
+
+    private CatalogSnapshotHolder catalogSnapshotHolder;
+    private RecommendationResultCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        catalogSnapshotHolder = mock(CatalogSnapshotHolder.class);
+        publishCatalogVersion(1L);
+        cache = new RecommendationResultCache(catalogSnapshotHolder, true, 100, 600, true, 5000);
+    }
+
+    @Test
+    public void otherStudentsWriteDoesNotDiscardLoad() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, "hybrid", 10, () -> {
+            loads.incrementAndGet();
+            cache.invalidateStudent(2L);
+            return List.of("CS5001");
+        });
+        cache.get(1L, "hybrid", 10, () -> {
+            loads.incrementAndGet();
+            return List.of("CS5001");
+        });
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void ownWriteDuringLoadIsNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, "hybrid", 10, () -> {
+            loads.incrementAndGet();
+            cache.invalidateStudent(1L);
+            return List.of("CS5001");
+        });
+        List<String> reloaded = cache.get(1L, "hybrid", 10, () -> {
+            loads.incrementAndGet();
+            return List.of("CS5002");
+        });
+
+        assertEquals(2, loads.get());
+        assertEquals(List.of("CS5002"), reloaded);
+    }
+
+    @Test
+    public void newCatalogVersionMissesOldEntries() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, "hybrid", 10, () -> {
+            loads.incrementAndGet();
+            return List.of("CS5001");
+        });
+
+        publishCatalogVersion(2L);
+        cache.get(1L, "hybrid", 10, () -> {
+            loads.incrementAndGet();
+            return List.of("CS5001");
+        });
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void otherStudentsWriteDoesNotSplitFlight() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<String>> leader = executor.submit(() -> cache.get(1L, "hybrid", 10, () -> {
+                loads.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return List.of("CS5001");
+            }));
+            leaderStarted.await();
+            cache.invalidateStudent(2L);
+
+            // The follower joins the leader's flight; the leader finishes once the follower is waiting
+            Thread releaser = new Thread(() -> {
+                while (cache.stats().getCoalesced() == 0 && !Thread.currentThread().isInterrupted()) {
+                    Thread.onSpinWait();
+                }
+                release.countDown();
+            });
+            releaser.setDaemon(true);
+            releaser.start();
+            List<String> follower = cache.get(1L, "hybrid", 10, () -> {
+                loads.incrementAndGet();
+                return List.of("CS5001");
+            });
+
+            assertEquals(List.of("CS5001"), leader.get(5, TimeUnit.SECONDS));
+            assertEquals(List.of("CS5001"), follower);
+            assertEquals(1, loads.get());
+            assertEquals(1L, cache.stats().getCoalesced());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void publishCatalogVersion(long version) {
+        when(catalogSnapshotHolder.current()).thenReturn(
+                new CatalogSnapshotHolder.Snapshot(version, CourseCatalogSnapshot.of(List.of()), null, Map.of()));
+    }
+}
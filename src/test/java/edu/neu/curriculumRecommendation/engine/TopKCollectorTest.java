@@ -0,0 +1,83 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for TopKCollector
+ */
+public class TopKCollectorTest {
+
+    @Test
+    public void keepsHighestScoresInDescendingOrder() {
+        TopKCollector<String> collector = new TopKCollector<>(3);
+        collector.offer("a", 10);
+        collector.offer("b", 50);
+        collector.offer("c", 30);
+        collector.offer("d", 40);
+        collector.offer("e", 20);
+
+        assertEquals(List.of("b", "d", "c"), collector.toSortedList());
+    }
+
+    @Test
+    public void tiesKeepInsertionOrder() {
+        TopKCollector<String> collector = new TopKCollector<>(2);
+        collector.offer("first", 10);
+        collector.offer("second", 10);
+
+        // Same score arriving later ranks lower, so it cannot displace a kept item
+        assertFalse(collector.wouldAccept(10));
+        assertFalse(collector.offer("third", 10));
+        assertEquals(List.of("first", "second"), collector.toSortedList());
+
+        assertTrue(collector.offer("higher", 11));
+        assertEquals(List.of("higher", "first"), collector.toSortedList());
+    }
+
+    @Test
+    public void matchesStableSortWithManyTies() {
+        Random random = new Random(42);
+        double[] scores = IntStream.range(0, 500).mapToDouble(i -> random.nextInt(20)).toArray();
+        TopKCollector<Integer> collector = new TopKCollector<>(100);
+        for (int i = 0; i < scores.length; i++) {
+            collector.offer(i, scores[i]);
+        }
+
+        List<Integer> expected = new ArrayList<>(IntStream.range(0, scores.length).boxed().toList());
+        expected.sort(Comparator.comparingDouble((Integer i) -> scores[i]).reversed());
+
+        assertEquals(expected.subList(0, 100), collector.toSortedList());
+    }
+
+    @Test
+    public void mergeKeepsOriginalOrderAcrossChunks() {
+        TopKCollector<String> total = new TopKCollector<>(3);
+        TopKCollector<String> laterChunk = new TopKCollector<>(3);
+        laterChunk.offer("late-tie", 5, 10);
+        laterChunk.offer("late-high", 9, 11);
+        TopKCollector<String> earlierChunk = new TopKCollector<>(3);
+        earlierChunk.offer("early-tie", 5, 1);
+        earlierChunk.offer("early-low", 1, 2);
+
+        total.merge(laterChunk);
+        total.merge(earlierChunk);
+
+        assertEquals(List.of("late-high", "early-tie", "late-tie"), total.toSortedList());
+    }
+
+    @Test
+    public void rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new TopKCollector<String>(0));
+    }
+}
@@ -0,0 +1,78 @@
+package edu.neu.curriculumRecommendation.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Unit tests for UnlockIndex
+ */
+public class UnlockIndexTest {
+
+    private PrerequisiteGraph.Snapshot graph;
+    private UnlockIndex.Snapshot unlocks;
+
+    @BeforeEach
+    public void setUp() {
+        // 3 requires 2, 2 and 4 require 1; 5 standalone
+        graph = EngineFixtures.graph(EngineFixtures.courses(1, 2, 3, 4, 5),
+                new long[]{3, 2}, new long[]{2, 1}, new long[]{4, 1}).snapshot();
+        unlocks = new UnlockIndex().of(graph);
+    }
+
+    @Test
+    public void unlockCountIsTransitiveDependents() {
+        assertEquals(3, unlocks.unlockCount(graph.indexOf(1L)));
+        assertEquals(1, unlocks.unlockCount(graph.indexOf(2L)));
+        assertEquals(0, unlocks.unlockCount(graph.indexOf(3L)));
+        assertEquals(0, unlocks.unlockCount(graph.indexOf(5L)));
+        assertEquals(List.of(2L, 3L, 4L), descendants(1L));
+        assertEquals(List.of(), descendants(5L));
+    }
+
+    @Test
+    public void unlockWeightSkipsCompletedCourses() {
+        long[] completed = graph.toBitSet(List.of(2L, 5L));
+
+        assertEquals(2, unlocks.unlockWeight(graph.indexOf(1L), completed));
+        assertEquals(1, unlocks.unlockWeight(graph.indexOf(2L), completed));
+        assertEquals(3, unlocks.unlockWeight(graph.indexOf(1L), graph.toBitSet(List.of())));
+    }
+
+    @Test
+    public void legacyCycleCountsOtherCoursesOnly() {
+        PrerequisiteGraph.Snapshot cyclic = EngineFixtures.graph(EngineFixtures.courses(1, 2, 3),
+                new long[]{1, 2}, new long[]{2, 1}, new long[]{3, 2}).snapshot();
+        UnlockIndex.Snapshot cyclicUnlocks = new UnlockIndex().of(cyclic);
+
+        assertEquals(2, cyclicUnlocks.unlockCount(cyclic.indexOf(1L)));
+        assertEquals(2, cyclicUnlocks.unlockCount(cyclic.indexOf(2L)));
+        assertEquals(0, cyclicUnlocks.unlockCount(cyclic.indexOf(3L)));
+    }
+
+    @Test
+    public void indexIsBuiltOncePerGraph() {
+        UnlockIndex unlockIndex = new UnlockIndex();
+        UnlockIndex.Snapshot first = unlockIndex.of(graph);
+
+        assertSame(first, unlockIndex.of(graph));
+        PrerequisiteGraph.Snapshot other = EngineFixtures.graph(EngineFixtures.courses(1, 2)).snapshot();
+        assertNotSame(first, unlockIndex.of(other));
+        assertSame(other, unlockIndex.of(other).getGraph());
+    }
+
+    private List<Long> descendants(Long courseId) {
+        long[] bits = unlocks.descendants(graph.indexOf(courseId));
+        List<Long> ids = new ArrayList<>();
+        for (int i = BitSets.nextSetBit(bits, 0); i >= 0; i = BitSets.nextSetBit(bits, i + 1)) {
+            ids.add(graph.courseIdAt(i));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,108 @@
+package edu.neu.curriculumRecommendation.engine.strategy;
+
+import edu.neu.curriculumRecommendation.engine.CourseCatalogSnapshot;
+import edu.neu.curriculumRecommendation.engine.DegreeAuditEngine;
+import edu.neu.curriculumRecommendation.engine.ReasonCode;
+import edu.neu.curriculumRecommendation.engine.RecommendationContext;
+import edu.neu.curriculumRecommendation.engine.ScoredCandidate;
+import edu.neu.curriculumRecommendation.entity.Course;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for BlendedStrategy reason merging
+ */
+public class BlendedStrategyTest {
+
+    private PersonalizedStrategy personalized;
+    private DegreeRequirementStrategy degree;
+    private PopularityStrategy popular;
+    private RecommendationContext context;
+    private Course course;
+    private BlendedStrategy blended;
+
+    @BeforeEach
+    public void setUp() {
+        personalized = mock(PersonalizedStrategy.class);
+        when(personalized.maxScore()).thenReturn(120.0);
+        degree = mock(DegreeRequirementStrategy.class);
+        popular = mock(PopularityStrategy.class);
+        context = mock(RecommendationContext.class);
+
+        course = new Course();
+        course.setId(1L);
+        course.setCourseCode("CS5001");
+        course.setIsActive(true);
+        CourseCatalogSnapshot catalog = CourseCatalogSnapshot.of(List.of(course));
+        DegreeAuditEngine.Program program = mock(DegreeAuditEngine.Program.class);
+        when(program.requirementFor(any())).thenReturn(null);
+        when(context.getCatalog()).thenReturn(catalog);
+        when(context.getProgram()).thenReturn(program);
+        when(context.isEligible(anyInt())).thenReturn(true);
+        when(popular.accept(anyInt(), any())).thenReturn(true);
+
+        blended = new BlendedStrategy(personalized, degree, popular, 0.4, 0.35, 0.25);
+    }
+
+    @Test
+    public void keepsUnlockCountOfPersonalizedComponent() {
+        double[] personalizedParams = new double[ReasonCode.PARAM_COUNT];
+        personalizedParams[ReasonCode.PARAM_UNLOCK_COUNT] = 4;
+        when(personalized.score(anyInt(), any())).thenReturn(new ScoredCandidate(course, 80,
+                ReasonCode.ALL_PREREQUISITES_MET.bit() | ReasonCode.UNLOCKS_COURSES.bit(), personalizedParams, true));
+        double[] popularParams = new double[ReasonCode.PARAM_COUNT];
+        popularParams[ReasonCode.PARAM_ENROLLMENT_COUNT] = 120;
+        when(popular.score(anyInt(), any())).thenReturn(new ScoredCandidate(course, 60,
+                ReasonCode.POPULAR.bit(), popularParams, true));
+
+        ScoredCandidate scored = blended.score(0, context);
+        String text = ReasonCode.render(scored.getReasons(), scored.getReasonParams(), context, List.of());
+
+        assertTrue(text.contains("Opens the way to 4 further courses."), text);
+        assertTrue(text.contains("Popular course with 120 students enrolled."), text);
+    }
+
+    @Test
+    public void keepsUnlockCountWithoutPopularComponent() {
+        double[] personalizedParams = new double[ReasonCode.PARAM_COUNT];
+        personalizedParams[ReasonCode.PARAM_UNLOCK_COUNT] = 2;
+        when(personalized.score(anyInt(), any())).thenReturn(new ScoredCandidate(course, 80,
+                ReasonCode.UNLOCKS_COURSES.bit(), personalizedParams, true));
+        when(popular.accept(anyInt(), any())).thenReturn(false);
+
+        ScoredCandidate scored = blended.score(0, context);
+
+        assertEquals("Opens the way to 2 further courses.",
+                ReasonCode.render(scored.getReasons(), scored.getReasonParams(), context, List.of()));
+    }
+
+    @Test
+    public void keepsChainLengthOfDegreeComponent() {
+        DegreeAuditEngine.Requirement requirement = mock(DegreeAuditEngine.Requirement.class);
+        when(context.getProgram().requirementFor(1L)).thenReturn(requirement);
+        double[] personalizedParams = new double[ReasonCode.PARAM_COUNT];
+        personalizedParams[ReasonCode.PARAM_UNLOCK_COUNT] = 3;
+        when(personalized.score(anyInt(), any())).thenReturn(new ScoredCandidate(course, 80,
+                ReasonCode.UNLOCKS_COURSES.bit(), personalizedParams, true));
+        double[] degreeParams = new double[ReasonCode.PARAM_COUNT];
+        degreeParams[ReasonCode.PARAM_CHAIN_LENGTH] = 5;
+        when(degree.score(anyInt(), any())).thenReturn(new ScoredCandidate(course, 100,
+                ReasonCode.CORE.bit() | ReasonCode.CRITICAL_PATH.bit(), degreeParams, true));
+        when(popular.accept(anyInt(), any())).thenReturn(false);
+
+        ScoredCandidate scored = blended.score(0, context);
+
+        assertEquals("Opens the way to 3 further courses. Core course. "
+                        + "Starts your longest remaining prerequisite chain (5 courses).",
+                ReasonCode.render(scored.getReasons(), scored.getReasonParams(), context, List.of()));
+    }
+}
@@ -0,0 +1,73 @@
+package edu.neu.curriculumRecommendation.engine.strategy;
+
+import edu.neu.curriculumRecommendation.engine.CourseCatalogSnapshot;
+import edu.neu.curriculumRecommendation.engine.PrerequisiteGraph;
+import edu.neu.curriculumRecommendation.engine.ReasonCode;
+import edu.neu.curriculumRecommendation.engine.RecommendationContext;
+import edu.neu.curriculumRecommendation.engine.ScoredCandidate;
+import edu.neu.curriculumRecommendation.entity.Course;
+import edu.neu.curriculumRecommendation.entity.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the PersonalizedStrategy unlock bonus
+ */
+public class PersonalizedStrategyTest {
+
+    private RecommendationContext context;
+
+    @BeforeEach
+    public void setUp() {
+        Course course = new Course();
+        course.setId(1L);
+        course.setCourseCode("CS5001");
+        course.setIsActive(true);
+        PrerequisiteGraph.Snapshot graph = mock(PrerequisiteGraph.Snapshot.class);
+        when(graph.hasPrerequisites(1L)).thenReturn(false);
+
+        context = mock(RecommendationContext.class);
+        when(context.getStudent()).thenReturn(new Student());
+        when(context.getCatalog()).thenReturn(CourseCatalogSnapshot.of(List.of(course)));
+        when(context.getGraph()).thenReturn(graph);
+        when(context.getUnlockWeight(anyInt())).thenReturn(3);
+    }
+
+    @Test
+    public void unlocksDoNotScoreByDefault() {
+        PersonalizedStrategy strategy = new PersonalizedStrategy(0);
+
+        strategy.candidates(context);
+        ScoredCandidate scored = strategy.score(0, context);
+
+        assertEquals(40.0, scored.getScore(), 1e-9);
+        assertEquals(0L, scored.getReasons() & ReasonCode.UNLOCKS_COURSES.bit());
+        assertNull(scored.getReasonParams());
+        assertEquals(110.0, strategy.maxScore(), 1e-9);
+        verify(context, never()).getUnlocks();
+        verify(context, never()).getUnlockWeight(anyInt());
+    }
+
+    @Test
+    public void configuredBonusScalesWithUnlockWeight() {
+        PersonalizedStrategy strategy = new PersonalizedStrategy(10);
+
+        ScoredCandidate scored = strategy.score(0, context);
+
+        // 3 of the 5 unlocked courses at which the bonus is full
+        assertEquals(46.0, scored.getScore(), 1e-9);
+        assertEquals(ReasonCode.UNLOCKS_COURSES.bit(), scored.getReasons() & ReasonCode.UNLOCKS_COURSES.bit());
+        assertEquals(3.0, scored.getReasonParams()[ReasonCode.PARAM_UNLOCK_COUNT], 1e-9);
+        assertEquals(120.0, strategy.maxScore(), 1e-9);
+    }
+}
@@ -0,0 +1,114 @@
+package edu.neu.curriculumRecommendation.mapper.repository;
+
+import edu.neu.curriculumRecommendation.entity.Course;
+import edu.neu.curriculumRecommendation.entity.Prerequisite;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Repository tests for the recursive prerequisite chain query, on H2 in PostgreSQL mode.
+ * H2 does not deduplicate rows across recursion steps as PostgreSQL does, so only acyclic chains are walked here.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:prerequisites;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=YEAR,VALUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class PrerequisiteRepositoryTest {
+
+    // Layers of the diamond lattice below the top course
+    private static final int LAYERS = 12;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private PrerequisiteRepository prerequisiteRepository;
+
+    private final Map<String, Course> courses = new HashMap<>();
+
+    @BeforeEach
+    public void setUp() {
+        // top requires a1 and b1; a(i) and b(i) each require both a(i+1) and b(i+1): 2^LAYERS paths to the bottom
+        course("top");
+        for (int i = 1; i <= LAYERS; i++) {
+            course("a" + i);
+            course("b" + i);
+        }
+        require("top", "a1");
+        require("top", "b1");
+        for (int i = 1; i < LAYERS; i++) {
+            for (String from : List.of("a", "b")) {
+                require(from + i, "a" + (i + 1));
+                require(from + i, "b" + (i + 1));
+            }
+        }
+    }
+
+    @Test
+    public void diamondChainReturnsEachEdgeOnce() {
+        Long topId = courses.get("top").getId();
+
+        List<PrerequisiteRepository.ChainEdgeRow> rows = prerequisiteRepository.findPrerequisiteChainEdges(List.of(topId));
+
+        // 2 edges from the top plus 4 between every pair of adjacent layers
+        assertEquals(2 + 4 * (LAYERS - 1), rows.size());
+        assertTrue(rows.stream().allMatch(row -> row.getCourseId().equals(topId)));
+        PrerequisiteRepository.ChainEdgeRow first = rows.get(0);
+        assertEquals(topId, first.getDependentCourseId());
+        assertEquals(courses.get("a1").getId(), first.getPrerequisiteCourseId());
+        assertEquals("a1", first.getCourseCode());
+        assertEquals(4, first.getCredits());
+    }
+
+    @Test
+    public void coursesWithoutPrerequisitesHaveNoRows() {
+        Long bottomId = courses.get("b" + LAYERS).getId();
+
+        assertTrue(prerequisiteRepository.findPrerequisiteChainEdges(List.of(bottomId)).isEmpty());
+    }
+
+    @Test
+    public void transitiveRequirementFollowsCommittedEdges() {
+        Long topId = courses.get("top").getId();
+        Long bottomId = courses.get("b" + LAYERS).getId();
+
+        assertTrue(prerequisiteRepository.requiresTransitively(topId, bottomId));
+        assertTrue(prerequisiteRepository.requiresTransitively(courses.get("a1").getId(), courses.get("a2").getId()));
+        assertFalse(prerequisiteRepository.requiresTransitively(bottomId, topId));
+        assertFalse(prerequisiteRepository.requiresTransitively(courses.get("a1").getId(), courses.get("b1").getId()));
+    }
+
+    private void course(String code) {
+        Course course = new Course();
+        course.setCourseCode(code);
+        course.setCourseName("Course " + code);
+        course.setCredits(4);
+        course.setDifficulty("Beginner");
+        course.setIsActive(true);
+        courses.put(code, courseRepository.save(course));
+    }
+
+    private void require(String code, String prerequisiteCode) {
+        Prerequisite prerequisite = new Prerequisite();
+        prerequisite.setCourse(courses.get(code));
+        prerequisite.setPrerequisiteCourse(courses.get(prerequisiteCode));
+        prerequisiteRepository.saveAndFlush(prerequisite);
+    }
+}
@@ -0,0 +1,108 @@
+package edu.neu.curriculumRecommendation.mapper.repository;
+
+import edu.neu.curriculumRecommendation.dto.RecommendationDTO;
+import edu.neu.curriculumRecommendation.entity.Course;
+import edu.neu.curriculumRecommendation.entity.Recommendation;
+import edu.neu.curriculumRecommendation.entity.Student;
+import edu.neu.curriculumRecommendation.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Repository tests for the batched recommendation inserts, on H2 in PostgreSQL mode
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:recommendations;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=YEAR,VALUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(RecommendationJdbcRepository.class)
+public class RecommendationJdbcRepositoryTest {
+
+    @Autowired
+    private RecommendationJdbcRepository recommendationJdbcRepository;
+
+    @Autowired
+    private RecommendationRepository recommendationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    private Long studentId;
+    private final List<Long> courseIds = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        User user = new User();
+        user.setUsername("student");
+        user.setEmail("student@example.edu");
+        user.setPassword("secret");
+        user.setRole("STUDENT");
+        Student student = new Student();
+        student.setUser(userRepository.save(user));
+        student.setFirstName("Ada");
+        student.setLastName("Lovelace");
+        studentId = studentRepository.save(student).getId();
+        for (int i = 1; i <= 3; i++) {
+            Course course = new Course();
+            course.setCourseCode("CS" + i);
+            course.setCourseName("Course " + i);
+            course.setCredits(4);
+            course.setDifficulty("Beginner");
+            course.setIsActive(true);
+            courseIds.add(courseRepository.save(course).getId());
+        }
+    }
+
+    @Test
+    public void generatedIdsAreReturnedInInputOrder() {
+        List<RecommendationDTO> rows = List.of(dto(courseIds.get(2), 90.0), dto(courseIds.get(0), 80.0),
+                dto(courseIds.get(1), 70.0));
+
+        List<Long> ids = recommendationJdbcRepository.batchInsertReturningIds(rows);
+
+        assertEquals(3, ids.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Recommendation saved = recommendationRepository.findById(ids.get(i)).orElseThrow();
+            assertEquals(rows.get(i).getCourseId(), saved.getCourse().getId());
+            assertEquals(rows.get(i).getMatchScore(), saved.getMatchScore(), 1e-9);
+            assertEquals("PENDING", saved.getStatus());
+        }
+    }
+
+    @Test
+    public void batchInsertCountsEveryRow() {
+        assertEquals(0, recommendationJdbcRepository.batchInsert(List.of()));
+        assertTrue(recommendationJdbcRepository.batchInsertReturningIds(List.of()).isEmpty());
+
+        assertEquals(2, recommendationJdbcRepository.batchInsert(List.of(dto(courseIds.get(0), 60.0),
+                dto(courseIds.get(1), 50.0))));
+        assertEquals(2, recommendationRepository.findByStudentId(studentId).size());
+    }
+
+    private RecommendationDTO dto(Long courseId, double matchScore) {
+        return RecommendationDTO.builder().studentId(studentId).courseId(courseId).matchScore(matchScore)
+                .reason("Fits").build();
+    }
+}
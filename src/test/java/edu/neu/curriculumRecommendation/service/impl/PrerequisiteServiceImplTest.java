@@ -0,0 +1,193 @@
+package edu.neu.curriculumRecommendation.service.impl;
+
+import edu.neu.curriculumRecommendation.engine.CatalogSnapshotHolder;
+import edu.neu.curriculumRecommendation.engine.CatalogVersion;
+import edu.neu.curriculumRecommendation.engine.CourseCatalogSnapshot;
+import edu.neu.curriculumRecommendation.engine.PrerequisiteGraph;
+import edu.neu.curriculumRecommendation.engine.RecommendationPipeline;
+import edu.neu.curriculumRecommendation.engine.UnlockIndex;
+import edu.neu.curriculumRecommendation.entity.Course;
+import edu.neu.curriculumRecommendation.entity.Prerequisite;
+import edu.neu.curriculumRecommendation.exception.DuplicateResourceException;
+import edu.neu.curriculumRecommendation.exception.ResourceNotFoundException;
+import edu.neu.curriculumRecommendation.exception.ValidationException;
+import edu.neu.curriculumRecommendation.mapper.repository.CourseRepository;
+import edu.neu.curriculumRecommendation.mapper.repository.PrerequisiteRepository;
+import edu.neu.curriculumRecommendation.vo.response.PrerequisiteCourseVO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for PrerequisiteServiceImpl prerequisite writes and queried chains
+ */
+public class PrerequisiteServiceImplTest {
+
+    private CourseRepository courseRepository;
+    private PrerequisiteRepository prerequisiteRepository;
+    private PrerequisiteGraph prerequisiteGraph;
+    private CatalogVersion catalogVersion;
+    private PlatformTransactionManager transactionManager;
+    private ApplicationEventPublisher eventPublisher;
+    private PrerequisiteServiceImpl service;
+
+    @BeforeEach
+    public void setUp() {
+        courseRepository = mock(CourseRepository.class);
+        prerequisiteRepository = mock(PrerequisiteRepository.class);
+        catalogVersion = mock(CatalogVersion.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        when(courseRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+        when(courseRepository.findById(1L)).thenReturn(Optional.of(course(1L)));
+        when(courseRepository.findById(2L)).thenReturn(Optional.of(course(2L)));
+        when(prerequisiteRepository.findAllEdges()).thenReturn(List.of());
+        prerequisiteGraph = new PrerequisiteGraph(courseRepository, prerequisiteRepository);
+        service = service(mock(CatalogSnapshotHolder.class));
+    }
+
+    @Test
+    public void cycleCommittedByAnotherInstanceIsRejected() {
+        // Not in this instance's graph yet: 1 already requires 2 in the database
+        when(prerequisiteRepository.requiresTransitively(1L, 2L)).thenReturn(true);
+
+        assertThrows(ValidationException.class, () -> service.addPrerequisite(2L, 1L));
+
+        InOrder order = inOrder(catalogVersion, prerequisiteRepository, transactionManager);
+        order.verify(catalogVersion).lockForWrite();
+        order.verify(prerequisiteRepository).requiresTransitively(1L, 2L);
+        order.verify(transactionManager).rollback(any());
+        verify(prerequisiteRepository, never()).save(any(Prerequisite.class));
+        assertTrue(prerequisiteGraph.getAllPrerequisitesWithLevels(2L).isEmpty());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    public void changeIsPublishedInsideWriteTransaction() {
+        service.addPrerequisite(2L, 1L);
+
+        InOrder order = inOrder(catalogVersion, prerequisiteRepository, eventPublisher, transactionManager);
+        order.verify(catalogVersion).lockForWrite();
+        order.verify(prerequisiteRepository).save(any(Prerequisite.class));
+        order.verify(eventPublisher).publishEvent(any(Object.class));
+        order.verify(transactionManager).commit(any());
+        assertEquals(Map.of(1L, 1), prerequisiteGraph.getAllPrerequisitesWithLevels(2L));
+    }
+
+    @Test
+    public void uniqueViolationIsDuplicate() {
+        when(prerequisiteRepository.save(any(Prerequisite.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_prerequisites_course_prerequisite"));
+
+        assertThrows(DuplicateResourceException.class, () -> service.addPrerequisite(2L, 1L));
+
+        assertTrue(prerequisiteGraph.getAllPrerequisitesWithLevels(2L).isEmpty());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    public void secondRemoveIsNotFound() {
+        Prerequisite edge = new Prerequisite();
+        when(prerequisiteRepository.findByCourseIdAndPrerequisiteCourseId(2L, 1L))
+                .thenReturn(List.of(edge))
+                .thenReturn(List.of());
+
+        service.removePrerequisite(2L, 1L);
+        assertThrows(ResourceNotFoundException.class, () -> service.removePrerequisite(2L, 1L));
+
+        verify(prerequisiteRepository, times(1)).deleteAll(anyList());
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    public void missingEdgeIsNotDeleted() {
+        when(prerequisiteRepository.findByCourseIdAndPrerequisiteCourseId(2L, 1L)).thenReturn(List.of());
+
+        assertThrows(ResourceNotFoundException.class, () -> service.removePrerequisite(2L, 1L));
+
+        verify(prerequisiteRepository, never()).deleteAll(anyList());
+        assertEquals(0, prerequisiteGraph.getAllPrerequisitesWithLevels(2L).size());
+    }
+
+    @Test
+    public void queriedChainUsesShortestLevels() {
+        // 5 requires 3 and 4; 3 requires 2 and 1; 4 requires 2
+        List<PrerequisiteRepository.ChainEdgeRow> edges = List.of(
+                edge(5L, 5L, 3L), edge(5L, 5L, 4L), edge(5L, 3L, 1L), edge(5L, 3L, 2L), edge(5L, 4L, 2L));
+        when(prerequisiteRepository.findPrerequisiteChainEdges(List.of(5L))).thenReturn(edges);
+        when(courseRepository.existsById(5L)).thenReturn(true);
+
+        List<PrerequisiteCourseVO> chain = service.getPrerequisites(5L);
+
+        assertEquals(List.of(3L, 4L, 1L, 2L), chain.stream().map(PrerequisiteCourseVO::getCourseId).toList());
+        assertEquals(List.of(1, 1, 2, 2), chain.stream().map(PrerequisiteCourseVO::getLevel).toList());
+    }
+
+    @Test
+    public void chainAfterWriteIsReadFromGraphUntilSnapshotCatchesUp() {
+        PrerequisiteGraph.Snapshot publishedGraph = prerequisiteGraph.snapshot();
+        CatalogSnapshotHolder catalogSnapshotHolder = mock(CatalogSnapshotHolder.class);
+        CatalogSnapshotHolder.Snapshot published = mock(CatalogSnapshotHolder.Snapshot.class);
+        when(published.getVersion()).thenReturn(1L);
+        when(published.getCourses()).thenReturn(CourseCatalogSnapshot.of(List.of(course(1L), course(2L))));
+        when(published.getGraph()).thenReturn(publishedGraph);
+        when(catalogSnapshotHolder.isLoaded()).thenReturn(true);
+        when(catalogSnapshotHolder.current()).thenReturn(published);
+        when(catalogSnapshotHolder.version()).thenReturn(1L);
+        service = service(catalogSnapshotHolder);
+
+        service.addPrerequisite(2L, 1L);
+        assertTrue(service.getPrerequisites(2L).isEmpty());
+
+        // The write bumped the catalog version; the snapshot is rebuilt only after the debounce delay
+        when(catalogSnapshotHolder.version()).thenReturn(2L);
+        assertEquals(List.of(1L), service.getPrerequisites(2L).stream().map(PrerequisiteCourseVO::getCourseId).toList());
+        assertEquals(List.of(1L), service.getPrerequisites(List.of(2L)).get(2L).stream()
+                .map(PrerequisiteCourseVO::getCourseId).toList());
+    }
+
+    private PrerequisiteServiceImpl service(CatalogSnapshotHolder catalogSnapshotHolder) {
+        return new PrerequisiteServiceImpl(prerequisiteRepository, courseRepository, prerequisiteGraph,
+                mock(UnlockIndex.class), mock(RecommendationPipeline.class), catalogSnapshotHolder, catalogVersion,
+                new TransactionTemplate(transactionManager), eventPublisher);
+    }
+
+    private static PrerequisiteRepository.ChainEdgeRow edge(Long courseId, Long dependentId, Long prerequisiteId) {
+        PrerequisiteRepository.ChainEdgeRow row = mock(PrerequisiteRepository.ChainEdgeRow.class);
+        when(row.getCourseId()).thenReturn(courseId);
+        when(row.getDependentCourseId()).thenReturn(dependentId);
+        when(row.getPrerequisiteCourseId()).thenReturn(prerequisiteId);
+        when(row.getCourseCode()).thenReturn("CS" + prerequisiteId);
+        return row;
+    }
+
+    private static Course course(long id) {
+        Course course = new Course();
+        course.setId(id);
+        course.setCourseCode("CS" + id);
+        course.setCourseName("Course " + id);
+        course.setCredits(4);
+        return course;
+    }
+}
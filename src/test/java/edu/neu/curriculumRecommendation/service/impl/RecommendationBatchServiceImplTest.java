@@ -0,0 +1,170 @@
+package edu.neu.curriculumRecommendation.service.impl;
+
+import edu.neu.curriculumRecommendation.dto.RecommendationDTO;
+import edu.neu.curriculumRecommendation.engine.BitSets;
+import edu.neu.curriculumRecommendation.engine.CareerTagIndex;
+import edu.neu.curriculumRecommendation.engine.CatalogSnapshotHolder;
+import edu.neu.curriculumRecommendation.engine.PrerequisiteGraph;
+import edu.neu.curriculumRecommendation.engine.RecommendationContext;
+import edu.neu.curriculumRecommendation.engine.RecommendationPipeline;
+import edu.neu.curriculumRecommendation.engine.RecommendationStrategy;
+import edu.neu.curriculumRecommendation.entity.Student;
+import edu.neu.curriculumRecommendation.exception.ResourceNotFoundException;
+import edu.neu.curriculumRecommendation.exception.ValidationException;
+import edu.neu.curriculumRecommendation.mapper.repository.EnrollmentRepository;
+import edu.neu.curriculumRecommendation.mapper.repository.RecommendationJdbcRepository;
+import edu.neu.curriculumRecommendation.mapper.repository.StudentRepository;
+import edu.neu.curriculumRecommendation.vo.request.BatchRecommendationRequestVO;
+import edu.neu.curriculumRecommendation.vo.response.BatchJobResponseVO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for RecommendationBatchServiceImpl cohort jobs
+ */
+public class RecommendationBatchServiceImplTest {
+
+    private StudentRepository studentRepository;
+    private EnrollmentRepository enrollmentRepository;
+    private RecommendationJdbcRepository recommendationJdbcRepository;
+    private RecommendationPipeline recommendationPipeline;
+    private ForkJoinPool scoringPool;
+    private final List<Runnable> tasks = new ArrayList<>();
+    private RecommendationBatchServiceImpl service;
+
+    // Completed courses each student's context was created with
+    private final Map<Long, long[]> completedByStudent = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    public void setUp() {
+        studentRepository = mock(StudentRepository.class);
+        enrollmentRepository = mock(EnrollmentRepository.class);
+        recommendationJdbcRepository = mock(RecommendationJdbcRepository.class);
+        recommendationPipeline = mock(RecommendationPipeline.class);
+        scoringPool = new ForkJoinPool(2);
+
+        CatalogSnapshotHolder catalogSnapshotHolder = mock(CatalogSnapshotHolder.class);
+        CatalogSnapshotHolder.Snapshot catalogSnapshot = mock(CatalogSnapshotHolder.Snapshot.class);
+        PrerequisiteGraph.Snapshot graph = mock(PrerequisiteGraph.Snapshot.class);
+        when(graph.size()).thenReturn(2);
+        when(graph.indexOf(10L)).thenReturn(0);
+        when(graph.indexOf(20L)).thenReturn(1);
+        when(graph.indexOf(99L)).thenReturn(-1);
+        when(catalogSnapshot.getGraph()).thenReturn(graph);
+        when(catalogSnapshotHolder.latest()).thenReturn(catalogSnapshot);
+
+        RecommendationStrategy strategy = mock(RecommendationStrategy.class);
+        when(recommendationPipeline.strategy(any())).thenReturn(strategy);
+        when(recommendationPipeline.createContext(any(Student.class), eq(catalogSnapshot), any(long[].class), any()))
+                .thenAnswer(invocation -> {
+                    Student student = invocation.getArgument(0);
+                    if (student.getId() == 2L) {
+                        throw new IllegalStateException("broken profile");
+                    }
+                    completedByStudent.put(student.getId(), invocation.getArgument(2));
+                    RecommendationContext context = mock(RecommendationContext.class);
+                    when(context.getStudent()).thenReturn(student);
+                    return context;
+                });
+        when(recommendationPipeline.renderDtos(eq(strategy), any(), any(RecommendationContext.class), anyBoolean()))
+                .thenAnswer(invocation -> {
+                    Long studentId = invocation.<RecommendationContext>getArgument(2).getStudent().getId();
+                    return List.of(dto(studentId, 10L), dto(studentId, 20L));
+                });
+        when(recommendationJdbcRepository.batchInsert(anyList()))
+                .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        service = new RecommendationBatchServiceImpl(studentRepository, catalogSnapshotHolder, enrollmentRepository,
+                recommendationJdbcRepository, mock(CareerTagIndex.class), recommendationPipeline, scoringPool,
+                tasks::add, 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scoringPool.shutdownNow();
+    }
+
+    @Test
+    public void cohortIsRequired() {
+        assertThrows(ValidationException.class, () -> service.submit(new BatchRecommendationRequestVO()));
+        assertThrows(ValidationException.class,
+                () -> service.submit(BatchRecommendationRequestVO.builder().major(" ").studentIds(List.of()).build()));
+        assertThrows(ResourceNotFoundException.class, () -> service.getJob("missing"));
+    }
+
+    @Test
+    public void jobScoresEveryStudentAndWritesChunks() {
+        when(studentRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(student(1L), student(2L), student(3L)));
+        when(enrollmentRepository.findCompletedPairsByStudentIds(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(new Object[]{1L, 10L}, new Object[]{1L, 99L}, new Object[]{3L, 20L}));
+
+        BatchJobResponseVO queued = service.submit(BatchRecommendationRequestVO.builder()
+                .studentIds(List.of(1L, 2L, 3L)).limit(5).build());
+        assertEquals("QUEUED", queued.getStatus());
+        tasks.remove(0).run();
+
+        BatchJobResponseVO job = service.getJob(queued.getJobId());
+        assertEquals("COMPLETED", job.getStatus());
+        assertEquals(3, job.getTotalStudents());
+        assertEquals(2, job.getProcessedStudents());
+        assertEquals(1, job.getFailedStudents());
+        assertEquals(4, job.getRecommendationsWritten());
+        // Two chunks of at most two students
+        verify(recommendationJdbcRepository, times(2)).batchInsert(anyList());
+        verify(recommendationPipeline, times(2)).rank(any(), any(RecommendationContext.class), eq(5));
+        // Completed courses come from the one cohort query; courses missing from the graph are ignored
+        assertArrayEquals(bits(0), completedByStudent.get(1L));
+        assertArrayEquals(bits(1), completedByStudent.get(3L));
+    }
+
+    @Test
+    public void studentWithoutCompletedCoursesGetsEmptySet() {
+        when(studentRepository.findByMajor("CS")).thenReturn(List.of(student(1L)));
+        when(enrollmentRepository.findCompletedPairsByMajor("CS")).thenReturn(List.of());
+
+        BatchJobResponseVO queued = service.submit(BatchRecommendationRequestVO.builder().major(" CS ").build());
+        tasks.remove(0).run();
+
+        BatchJobResponseVO job = service.getJob(queued.getJobId());
+        assertEquals("CS", job.getMajor());
+        assertEquals(1, job.getProcessedStudents());
+        assertArrayEquals(BitSets.create(2), completedByStudent.get(1L));
+        // Default limit
+        verify(recommendationPipeline).rank(any(), any(RecommendationContext.class), eq(10));
+    }
+
+    private static long[] bits(int index) {
+        long[] bits = BitSets.create(2);
+        BitSets.set(bits, index);
+        return bits;
+    }
+
+    private static Student student(Long id) {
+        Student student = new Student();
+        student.setId(id);
+        return student;
+    }
+
+    private static RecommendationDTO dto(Long studentId, Long courseId) {
+        return RecommendationDTO.builder().studentId(studentId).courseId(courseId).matchScore(80.0).build();
+    }
+}
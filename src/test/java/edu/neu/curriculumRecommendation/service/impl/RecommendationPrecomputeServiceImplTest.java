@@ -0,0 +1,196 @@
+package edu.neu.curriculumRecommendation.service.impl;
+
+import edu.neu.curriculumRecommendation.dto.RecommendationDTO;
+import edu.neu.curriculumRecommendation.engine.CareerTagIndex;
+import edu.neu.curriculumRecommendation.engine.CatalogSnapshotHolder;
+import edu.neu.curriculumRecommendation.engine.PrerequisiteGraph;
+import edu.neu.curriculumRecommendation.engine.RecommendationContext;
+import edu.neu.curriculumRecommendation.engine.RecommendationPipeline;
+import edu.neu.curriculumRecommendation.entity.PrecomputedRecommendation;
+import edu.neu.curriculumRecommendation.entity.Student;
+import edu.neu.curriculumRecommendation.event.CatalogChangedEvent;
+import edu.neu.curriculumRecommendation.event.EnrollmentChangedEvent;
+import edu.neu.curriculumRecommendation.event.StudentProfileChangedEvent;
+import edu.neu.curriculumRecommendation.mapper.repository.EnrollmentRepository;
+import edu.neu.curriculumRecommendation.mapper.repository.PrecomputedRecommendationJdbcRepository;
+import edu.neu.curriculumRecommendation.mapper.repository.PrecomputedRecommendationRepository;
+import edu.neu.curriculumRecommendation.mapper.repository.StudentRepository;
+import edu.neu.curriculumRecommendation.vo.response.PrecomputeStatusVO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for RecommendationPrecomputeServiceImpl freshness and runs
+ */
+public class RecommendationPrecomputeServiceImplTest {
+
+    private static final long VERSION = 3L;
+
+    private StudentRepository studentRepository;
+    private PrecomputedRecommendationRepository precomputedRepository;
+    private PrecomputedRecommendationJdbcRepository precomputedJdbcRepository;
+    private CatalogSnapshotHolder catalogSnapshotHolder;
+    private RecommendationPipeline recommendationPipeline;
+    private final List<Runnable> tasks = new ArrayList<>();
+    private RecommendationPrecomputeServiceImpl service;
+
+    // Called with the student id whenever a student's recommendations are rendered during a run
+    private Consumer<Long> onRender = studentId -> { };
+
+    @BeforeEach
+    public void setUp() {
+        studentRepository = mock(StudentRepository.class);
+        precomputedRepository = mock(PrecomputedRecommendationRepository.class);
+        precomputedJdbcRepository = mock(PrecomputedRecommendationJdbcRepository.class);
+        catalogSnapshotHolder = mock(CatalogSnapshotHolder.class);
+        recommendationPipeline = mock(RecommendationPipeline.class);
+
+        CatalogSnapshotHolder.Snapshot catalogSnapshot = mock(CatalogSnapshotHolder.Snapshot.class);
+        PrerequisiteGraph.Snapshot graph = mock(PrerequisiteGraph.Snapshot.class);
+        when(catalogSnapshot.getVersion()).thenReturn(VERSION);
+        when(catalogSnapshot.getGraph()).thenReturn(graph);
+        when(catalogSnapshotHolder.latest()).thenReturn(catalogSnapshot);
+        when(catalogSnapshotHolder.version()).thenReturn(VERSION);
+        when(recommendationPipeline.createContext(any(Student.class), eq(catalogSnapshot), any(long[].class), any()))
+                .thenAnswer(invocation -> {
+                    RecommendationContext context = mock(RecommendationContext.class);
+                    Student student = invocation.getArgument(0);
+                    when(context.getStudent()).thenReturn(student);
+                    return context;
+                });
+        when(recommendationPipeline.renderDtos(any(), anyList(), any(RecommendationContext.class), anyBoolean()))
+                .thenAnswer(invocation -> {
+                    RecommendationContext context = invocation.getArgument(2);
+                    Long studentId = context.getStudent().getId();
+                    onRender.accept(studentId);
+                    return List.of(RecommendationDTO.builder().studentId(studentId).courseId(10L).matchScore(80.0).build());
+                });
+
+        service = new RecommendationPrecomputeServiceImpl(studentRepository, mock(EnrollmentRepository.class),
+                precomputedRepository, precomputedJdbcRepository, catalogSnapshotHolder, mock(CareerTagIndex.class),
+                recommendationPipeline, tasks::add, true, 20, 100, 0, 60, 6, true);
+    }
+
+    @Test
+    public void freshRowsOfCurrentVersionAreServed() {
+        when(precomputedRepository.findByStudentIdOrderByRankPositionAsc(1L))
+                .thenReturn(List.of(row(VERSION, 1), row(VERSION, 2)));
+
+        List<RecommendationDTO> recommendations = service.findFresh(1L, 1, false);
+
+        assertEquals(1, recommendations.size());
+        assertNull(recommendations.get(0).getReason());
+        assertEquals(1L, service.getStatus().getServedPrecomputed());
+    }
+
+    @Test
+    public void rowsOfOldVersionOrAgeAreComputedLive() {
+        when(precomputedRepository.findByStudentIdOrderByRankPositionAsc(1L)).thenReturn(List.of(row(VERSION - 1, 1)));
+        when(precomputedRepository.findByStudentIdOrderByRankPositionAsc(2L)).thenReturn(List.of(row(VERSION, 61)));
+
+        assertNull(service.findFresh(1L, 10, true));
+        assertNull(service.findFresh(2L, 10, true));
+        assertNull(service.findFresh(3L, 10, true));
+        // More than the precomputed limit
+        assertNull(service.findFresh(1L, 21, true));
+        assertEquals(4L, service.getStatus().getServedLive());
+    }
+
+    @Test
+    public void studentsChangedDuringRunKeepNoRows() {
+        students(1L, 2L, 3L);
+        // Student 2 changes while its chunk is computed, student 1 while the chunk is written
+        onRender = studentId -> {
+            if (studentId == 2L) {
+                service.onEnrollmentChanged(new EnrollmentChangedEvent(2L, 10L, "ENROLLED", null, "COMPLETED", "A"));
+            }
+        };
+        List<Long> replacedIds = new ArrayList<>();
+        List<RecommendationDTO> replacedRows = new ArrayList<>();
+        when(precomputedJdbcRepository.replace(any(), anyList(), eq(VERSION), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> {
+                    replacedIds.addAll(invocation.<Collection<Long>>getArgument(0));
+                    replacedRows.addAll(invocation.getArgument(1));
+                    service.onStudentProfileChanged(new StudentProfileChangedEvent(1L));
+                    return replacedRows.size();
+                });
+
+        service.trigger();
+        runTasks();
+
+        assertEquals(List.of(1L, 3L), replacedIds);
+        assertEquals(List.of(1L, 3L), replacedRows.stream().map(RecommendationDTO::getStudentId).toList());
+        // Once by the change itself and once more after the replace, which may have written after that delete
+        verify(precomputedJdbcRepository, times(2)).deleteByStudentId(1L);
+        verify(precomputedJdbcRepository, times(1)).deleteByStudentId(2L);
+        verify(precomputedJdbcRepository, times(0)).deleteByStudentId(3L);
+        PrecomputeStatusVO status = service.getStatus();
+        assertEquals("COMPLETED", status.getStatus());
+        assertEquals(1, status.getProcessedStudents());
+        assertEquals(2, status.getSkippedStudents());
+    }
+
+    @Test
+    public void catalogChangeStartsAnotherRun() {
+        students(1L);
+
+        service.onCatalogChanged(new CatalogChangedEvent(CatalogChangedEvent.Scope.COURSES));
+        // Requested again while the first run is queued: one more run after it
+        service.onCatalogChanged(new CatalogChangedEvent(CatalogChangedEvent.Scope.COURSES));
+        assertEquals(1, tasks.size());
+
+        tasks.remove(0).run();
+
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+        assertEquals(0, tasks.size());
+        verify(precomputedJdbcRepository, times(2)).replace(any(), anyList(), anyLong(), any(LocalDateTime.class));
+    }
+
+    private void students(Long... ids) {
+        List<Student> students = new ArrayList<>();
+        for (Long id : ids) {
+            Student student = new Student();
+            student.setId(id);
+            students.add(student);
+        }
+        when(studentRepository.findActiveIds(anyInt())).thenReturn(List.of(ids));
+        when(studentRepository.findAllById(anyList())).thenReturn(students);
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private static PrecomputedRecommendation row(long catalogVersion, int ageMinutes) {
+        PrecomputedRecommendation row = new PrecomputedRecommendation();
+        row.setStudentId(1L);
+        row.setCourseId(10L);
+        row.setMatchScore(80.0);
+        row.setReason("Matches your interests");
+        row.setCatalogVersion(catalogVersion);
+        row.setComputedAt(LocalDateTime.now().minusMinutes(ageMinutes));
+        return row;
+    }
+}
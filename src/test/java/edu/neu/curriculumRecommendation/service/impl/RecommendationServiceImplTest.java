@@ -0,0 +1,114 @@
+package edu.neu.curriculumRecommendation.service.impl;
+
+import edu.neu.curriculumRecommendation.dto.RecommendationDTO;
+import edu.neu.curriculumRecommendation.engine.DegreeAuditEngine;
+import edu.neu.curriculumRecommendation.engine.RecommendationPipeline;
+import edu.neu.curriculumRecommendation.engine.RecommendationResultCache;
+import edu.neu.curriculumRecommendation.exception.ResourceNotFoundException;
+import edu.neu.curriculumRecommendation.exception.ValidationException;
+import edu.neu.curriculumRecommendation.mapper.converter.CourseConverter;
+import edu.neu.curriculumRecommendation.mapper.converter.CourseVOConverter;
+import edu.neu.curriculumRecommendation.mapper.converter.RecommendationConverter;
+import edu.neu.curriculumRecommendation.mapper.repository.CourseRepository;
+import edu.neu.curriculumRecommendation.mapper.repository.RecommendationJdbcRepository;
+import edu.neu.curriculumRecommendation.mapper.repository.RecommendationRepository;
+import edu.neu.curriculumRecommendation.mapper.repository.StudentRepository;
+import edu.neu.curriculumRecommendation.service.RecommendationPrecomputeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for RecommendationServiceImpl bulk saves
+ */
+public class RecommendationServiceImplTest {
+
+    private RecommendationRepository recommendationRepository;
+    private RecommendationJdbcRepository recommendationJdbcRepository;
+    private StudentRepository studentRepository;
+    private CourseRepository courseRepository;
+    private RecommendationServiceImpl service;
+
+    @BeforeEach
+    public void setUp() {
+        recommendationRepository = mock(RecommendationRepository.class);
+        recommendationJdbcRepository = mock(RecommendationJdbcRepository.class);
+        studentRepository = mock(StudentRepository.class);
+        courseRepository = mock(CourseRepository.class);
+        service = new RecommendationServiceImpl(recommendationRepository, recommendationJdbcRepository,
+                mock(RecommendationConverter.class), studentRepository, courseRepository,
+                mock(RecommendationPipeline.class), mock(RecommendationResultCache.class),
+                mock(RecommendationPrecomputeService.class), mock(DegreeAuditEngine.class),
+                mock(CourseConverter.class), mock(CourseVOConverter.class));
+    }
+
+    @Test
+    public void savesAllRowsWithOneQueryPerTableAndOneBatch() {
+        when(studentRepository.findExistingIds(Set.of(1L))).thenReturn(List.of(1L));
+        when(courseRepository.findExistingIds(Set.of(10L, 20L, 30L))).thenReturn(List.of(10L, 20L, 30L));
+        when(recommendationJdbcRepository.batchInsertReturningIds(anyList())).thenReturn(List.of(101L, 102L, 103L));
+        LocalDateTime recommendedAt = LocalDateTime.of(2026, 10, 1, 9, 0);
+        RecommendationDTO cached = dto(10L);
+        cached.setRecommendedAt(recommendedAt);
+        List<RecommendationDTO> generated = List.of(cached, dto(20L), dto(30L));
+
+        List<RecommendationDTO> saved = service.saveRecommendations(generated);
+
+        assertEquals(List.of(101L, 102L, 103L), saved.stream().map(RecommendationDTO::getId).toList());
+        assertEquals(List.of(10L, 20L, 30L), saved.stream().map(RecommendationDTO::getCourseId).toList());
+        assertEquals(recommendedAt, saved.get(0).getRecommendedAt());
+        assertNotNull(saved.get(1).getRecommendedAt());
+        assertTrue(saved.stream().allMatch(dto -> "PENDING".equals(dto.getStatus())));
+        // Generated results may be cached, so they are copied rather than updated
+        assertTrue(generated.stream().allMatch(dto -> dto.getId() == null && dto.getStatus() == null));
+        assertNull(generated.get(1).getRecommendedAt());
+        verify(studentRepository, times(1)).findExistingIds(anyCollection());
+        verify(courseRepository, times(1)).findExistingIds(anyCollection());
+        verify(recommendationJdbcRepository, times(1)).batchInsertReturningIds(anyList());
+        verify(recommendationRepository, never()).save(any());
+    }
+
+    @Test
+    public void unknownCourseRejectsWholeBatch() {
+        when(studentRepository.findExistingIds(Set.of(1L))).thenReturn(List.of(1L));
+        when(courseRepository.findExistingIds(Set.of(10L, 20L))).thenReturn(List.of(10L));
+
+        ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
+                () -> service.saveRecommendations(List.of(dto(10L), dto(20L))));
+
+        assertTrue(ex.getMessage().contains("20"));
+        verify(recommendationJdbcRepository, never()).batchInsertReturningIds(anyList());
+    }
+
+    @Test
+    public void missingIdsAreRejectedBeforeAnyQuery() {
+        RecommendationDTO withoutCourse = RecommendationDTO.builder().studentId(1L).build();
+
+        assertThrows(ValidationException.class, () -> service.saveRecommendations(List.of(dto(10L), withoutCourse)));
+        assertTrue(service.saveRecommendations(List.of()).isEmpty());
+
+        verifyNoInteractions(studentRepository, courseRepository, recommendationJdbcRepository);
+    }
+
+    private static RecommendationDTO dto(Long courseId) {
+        return RecommendationDTO.builder().studentId(1L).courseId(courseId).matchScore(75.0).reason("Fits").build();
+    }
+}